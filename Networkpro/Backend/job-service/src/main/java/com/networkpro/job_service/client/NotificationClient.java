@@ -0,0 +1,25 @@
+package com.networkpro.job_service.client;
+
+import com.networkpro.job_service.dto.NotificationRequestDTO;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+
+@Component
+public class NotificationClient {
+    private final RestClient notificationServiceClient;
+
+    public NotificationClient(@Qualifier("notificationServiceClient") RestClient notificationServiceClient) {
+        this.notificationServiceClient = notificationServiceClient;
+    }
+
+    public void sendBatch(List<NotificationRequestDTO> notifications) {
+        notificationServiceClient.post()
+                .uri("/api/notifications/batch")
+                .body(notifications)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
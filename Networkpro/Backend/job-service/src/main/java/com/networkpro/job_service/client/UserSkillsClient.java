@@ -0,0 +1,38 @@
+package com.networkpro.job_service.client;
+
+import com.networkpro.job_service.dto.UserSkillsDTO;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/** Reads the profile skills change feed of user-service. */
+@Component
+public class UserSkillsClient {
+    private static final ParameterizedTypeReference<List<UserSkillsDTO>> SKILLS_LIST =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final RestClient userServiceClient;
+
+    public UserSkillsClient(@Qualifier("userServiceClient") RestClient userServiceClient) {
+        this.userServiceClient = userServiceClient;
+    }
+
+    /** Profiles changed after {@code (after, afterId)}, oldest first; a null {@code after} starts from the beginning. */
+    public List<UserSkillsDTO> fetchChanges(LocalDateTime after, long afterId, int limit) {
+        List<UserSkillsDTO> changes = userServiceClient.get()
+                .uri(uri -> uri.path("/api/v1/users/skills/changes")
+                        .queryParamIfPresent("after", Optional.ofNullable(after))
+                        .queryParam("afterId", afterId)
+                        .queryParam("limit", limit)
+                        .build())
+                .retrieve()
+                .body(SKILLS_LIST);
+        return changes == null ? List.of() : changes;
+    }
+}
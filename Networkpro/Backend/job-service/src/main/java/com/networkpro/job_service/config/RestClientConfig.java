@@ -0,0 +1,36 @@
+package com.networkpro.job_service.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+
+@Configuration
+public class RestClientConfig {
+    @Value("${job.http.connect-timeout-ms:1000}")
+    private long connectTimeoutMs;
+
+    @Value("${job.http.read-timeout-ms:5000}")
+    private long readTimeoutMs;
+
+    @Bean
+    public RestClient userServiceClient(@Value("${user-service.url}") String baseUrl) {
+        return client(baseUrl);
+    }
+
+    @Bean
+    public RestClient notificationServiceClient(@Value("${notification-service.url}") String baseUrl) {
+        return client(baseUrl);
+    }
+
+    // Bounded timeouts so a hung downstream service cannot stall the scheduled sync and dispatch jobs.
+    private RestClient client(String baseUrl) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofMillis(connectTimeoutMs));
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        return RestClient.builder().baseUrl(baseUrl).requestFactory(requestFactory).build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.networkpro.job_service.controller;
+
+import com.networkpro.job_service.dto.PostingVolumeDTO;
+import com.networkpro.job_service.dto.SalaryStatsDTO;
+import com.networkpro.job_service.dto.VolumeInterval;
+import com.networkpro.job_service.service.analytics.JobAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/jobs/analytics")
+@RequiredArgsConstructor
+public class AnalyticsController {
+    private final JobAnalyticsService analyticsService;
+
+    // GET /api/jobs/analytics/salaries?title=&location=&company=&percentiles=0.5,0.9
+    @GetMapping("/salaries")
+    public SalaryStatsDTO salaryStats(@RequestParam(required = false) List<String> title,
+            @RequestParam(required = false) List<String> location,
+            @RequestParam(required = false) List<String> company,
+            @RequestParam(required = false) List<Double> percentiles) {
+        return analyticsService.salaryStats(title, location, company, percentiles);
+    }
+
+    // GET /api/jobs/analytics/postings?title=&location=&company=&from=&to=&interval=DAY
+    @GetMapping("/postings")
+    public List<PostingVolumeDTO> postingVolume(@RequestParam(required = false) List<String> title,
+            @RequestParam(required = false) List<String> location,
+            @RequestParam(required = false) List<String> company,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "DAY") VolumeInterval interval) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        return analyticsService.postingVolume(title, location, company, start, end, interval);
+    }
+}
@@ -0,0 +1,58 @@
+package com.networkpro.job_service.controller;
+
+import com.networkpro.job_service.dto.ApplicantCountDTO;
+import com.networkpro.job_service.dto.ApplicationDTO;
+import com.networkpro.job_service.dto.ApplicationRequestDTO;
+import com.networkpro.job_service.dto.CursorPage;
+import com.networkpro.job_service.model.ApplicationStatus;
+import com.networkpro.job_service.service.application.ApplicationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class ApplicationController {
+    private final ApplicationService applicationService;
+
+    // POST /api/jobs/{jobId}/applications (optional Idempotency-Key header)
+    @PostMapping("/jobs/{jobId}/applications")
+    public ResponseEntity<ApplicationDTO> apply(@PathVariable Long jobId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @Valid @RequestBody ApplicationRequestDTO request) {
+        return applicationService.submit(jobId, request, idempotencyKey)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    // GET /api/jobs/{jobId}/applications?status=&cursor=&limit=
+    @GetMapping("/jobs/{jobId}/applications")
+    public CursorPage<ApplicationDTO> listByJob(@PathVariable Long jobId,
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int limit) {
+        return applicationService.listByJob(jobId, status, cursor, limit);
+    }
+
+    // GET /api/jobs/{jobId}/applications/count
+    @GetMapping("/jobs/{jobId}/applications/count")
+    public ApplicantCountDTO countApplicants(@PathVariable Long jobId) {
+        return applicationService.countApplicants(jobId);
+    }
+
+    // GET /api/applications?userId=&cursor=&limit=
+    @GetMapping("/applications")
+    public CursorPage<ApplicationDTO> listByUser(@RequestParam Long userId,
+            @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int limit) {
+        return applicationService.listByUser(userId, cursor, limit);
+    }
+
+    // POST /api/applications/{id}/withdraw?userId=
+    @PostMapping("/applications/{id}/withdraw")
+    public ResponseEntity<ApplicationDTO> withdraw(@PathVariable Long id, @RequestParam Long userId) {
+        return applicationService.withdraw(id, userId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,24 @@
+package com.networkpro.job_service.controller;
+
+import com.networkpro.job_service.dto.SuggestionDTO;
+import com.networkpro.job_service.dto.SuggestionField;
+import com.networkpro.job_service.service.suggest.AutocompleteService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/jobs/autocomplete")
+@RequiredArgsConstructor
+public class AutocompleteController {
+    private final AutocompleteService autocompleteService;
+
+    // GET /api/jobs/autocomplete?prefix=jav&field=TITLE&limit=10
+    @GetMapping
+    public List<SuggestionDTO> suggest(@RequestParam String prefix,
+            @RequestParam(required = false) SuggestionField field,
+            @RequestParam(defaultValue = "10") int limit) {
+        return autocompleteService.suggest(prefix, field, limit);
+    }
+}
@@ -0,0 +1,51 @@
+package com.networkpro.job_service.controller;
+
+import com.networkpro.job_service.dto.FeedImportDTO;
+import com.networkpro.job_service.model.FeedFormat;
+import com.networkpro.job_service.service.feed.FeedImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/api/jobs/imports")
+@RequiredArgsConstructor
+public class FeedImportController {
+    private final FeedImportService feedImportService;
+
+    // POST /api/jobs/imports?partner=&format=CSV|XML|JSON (raw file body; format defaults from Content-Type)
+    @PostMapping
+    public ResponseEntity<FeedImportDTO> startImport(@RequestParam String partner,
+            @RequestParam(required = false) FeedFormat format, HttpServletRequest request) throws IOException {
+        FeedFormat feedFormat = format != null ? format : formatOf(request.getContentType());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(feedImportService.startImport(partner, feedFormat, request.getInputStream()));
+    }
+
+    // GET /api/jobs/imports/{id}
+    @GetMapping("/{id}")
+    public ResponseEntity<FeedImportDTO> getImport(@PathVariable Long id) {
+        return feedImportService.getImport(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private static FeedFormat formatOf(String contentType) {
+        String type = contentType == null ? "" : contentType.toLowerCase(Locale.ROOT);
+        if (type.contains("csv")) {
+            return FeedFormat.CSV;
+        }
+        if (type.contains("xml")) {
+            return FeedFormat.XML;
+        }
+        if (type.contains("json")) {
+            return FeedFormat.JSON;
+        }
+        throw new IllegalArgumentException("Pass format=CSV, XML or JSON or a matching Content-Type");
+    }
+}
@@ -1,8 +1,13 @@
 package com.networkpro.job_service.controller;
 
+import com.networkpro.job_service.dto.DedupResultDTO;
 import com.networkpro.job_service.dto.JobRequestDTO;
 import com.networkpro.job_service.dto.JobResponseDTO;
+import com.networkpro.job_service.dto.JobSearchRequestDTO;
+import com.networkpro.job_service.dto.JobSearchResultDTO;
+import com.networkpro.job_service.model.JobStatus;
 import com.networkpro.job_service.service.JobService;
+import com.networkpro.job_service.service.dedup.DuplicateScanner;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -15,11 +20,18 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JobController {
     private final JobService jobService;
+    private final DuplicateScanner duplicateScanner;
 
-    // GET /api/jobs
+    // GET /api/jobs?status=OPEN
     @GetMapping
-    public List<JobResponseDTO> getAllJobs() {
-        return jobService.getAllJobs();
+    public List<JobResponseDTO> getAllJobs(@RequestParam(defaultValue = "OPEN") JobStatus status) {
+        return jobService.getAllJobs(status);
+    }
+
+    // GET /api/jobs/search?keyword=&company=&location=&minSalary=&maxSalary=&postedAfter=&sort=&cursor=&limit=
+    @GetMapping("/search")
+    public JobSearchResultDTO searchJobs(JobSearchRequestDTO request) {
+        return jobService.searchJobs(request);
     }
 
     // GET /api/jobs/{id}
@@ -45,6 +57,20 @@ public class JobController {
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    // POST /api/jobs/{id}/close
+    @PostMapping("/{id}/close")
+    public ResponseEntity<JobResponseDTO> closeJob(@PathVariable Long id) {
+        return jobService.closeJob(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    // POST /api/jobs/duplicates/scan
+    @PostMapping("/duplicates/scan")
+    public DedupResultDTO scanDuplicates() {
+        return duplicateScanner.scan();
+    }
+
     // DELETE /api/jobs/{id}
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteJob(@PathVariable Long id) {
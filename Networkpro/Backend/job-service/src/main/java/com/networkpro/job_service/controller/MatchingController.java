@@ -0,0 +1,28 @@
+package com.networkpro.job_service.controller;
+
+import com.networkpro.job_service.dto.CandidateMatchDTO;
+import com.networkpro.job_service.dto.JobMatchDTO;
+import com.networkpro.job_service.service.matching.JobMatchingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+public class MatchingController {
+    private final JobMatchingService matchingService;
+
+    // GET /api/jobs/recommendations?userId=&limit=
+    @GetMapping("/recommendations")
+    public List<JobMatchDTO> recommendJobs(@RequestParam Long userId, @RequestParam(defaultValue = "20") int limit) {
+        return matchingService.recommendJobs(userId, limit);
+    }
+
+    // GET /api/jobs/{id}/candidates?limit=
+    @GetMapping("/{id}/candidates")
+    public List<CandidateMatchDTO> topCandidates(@PathVariable Long id, @RequestParam(defaultValue = "20") int limit) {
+        return matchingService.topCandidates(id, limit);
+    }
+}
@@ -0,0 +1,38 @@
+package com.networkpro.job_service.controller;
+
+import com.networkpro.job_service.dto.SavedSearchDTO;
+import com.networkpro.job_service.dto.SavedSearchRequestDTO;
+import com.networkpro.job_service.service.alert.JobAlertService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/saved-searches")
+@RequiredArgsConstructor
+public class SavedSearchController {
+    private final JobAlertService jobAlertService;
+
+    // POST /api/saved-searches
+    @PostMapping
+    public SavedSearchDTO createSavedSearch(@Valid @RequestBody SavedSearchRequestDTO request) {
+        return jobAlertService.create(request);
+    }
+
+    // GET /api/saved-searches?userId=
+    @GetMapping
+    public List<SavedSearchDTO> getSavedSearches(@RequestParam Long userId) {
+        return jobAlertService.list(userId);
+    }
+
+    // DELETE /api/saved-searches/{id}?userId=
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteSavedSearch(@PathVariable Long id, @RequestParam Long userId) {
+        return jobAlertService.delete(id, userId)
+                .map(deleted -> ResponseEntity.noContent().<Void>build())
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,18 @@
+package com.networkpro.job_service.dto;
+
+import com.networkpro.job_service.model.ApplicationStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class ApplicationDTO {
+    private Long id;
+    private Long jobId;
+    private Long userId;
+    private ApplicationStatus status;
+    private String coverLetter;
+    private String resumeUrl;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
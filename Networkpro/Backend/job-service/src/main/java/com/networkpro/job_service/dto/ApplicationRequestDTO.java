@@ -0,0 +1,17 @@
+package com.networkpro.job_service.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class ApplicationRequestDTO {
+    @NotNull(message = "User id is required")
+    private Long userId;
+
+    @Size(max = 10000, message = "Cover letter must be at most 10000 characters")
+    private String coverLetter;
+
+    @Size(max = 255, message = "Resume URL must be at most 255 characters")
+    private String resumeUrl;
+}
@@ -0,0 +1,16 @@
+package com.networkpro.job_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateMatchDTO {
+    private Long userId;
+    private double score;
+    private List<String> matchedSkills;
+}
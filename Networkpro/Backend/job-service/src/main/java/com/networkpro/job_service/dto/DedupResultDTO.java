@@ -0,0 +1,13 @@
+package com.networkpro.job_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DedupResultDTO {
+    private long scanned;
+    private long flagged;
+}
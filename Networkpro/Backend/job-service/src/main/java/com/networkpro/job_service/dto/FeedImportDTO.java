@@ -0,0 +1,26 @@
+package com.networkpro.job_service.dto;
+
+import com.networkpro.job_service.model.FeedFormat;
+import com.networkpro.job_service.model.ImportStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class FeedImportDTO {
+    private Long id;
+    private String partnerId;
+    private FeedFormat format;
+    private ImportStatus status;
+    private long totalBytes;
+    private long bytesRead;
+    private double progress; // fraction of the file parsed, 0 to 1
+    private long recordsRead;
+    private long inserted;
+    private long updated;
+    private long rejected;
+    private List<String> errors;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+}
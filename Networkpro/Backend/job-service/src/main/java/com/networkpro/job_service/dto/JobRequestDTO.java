@@ -1,8 +1,11 @@
 package com.networkpro.job_service.dto;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 
 import java.time.LocalDateTime;
@@ -10,15 +13,18 @@ import java.time.LocalDateTime;
 @Data
 public class JobRequestDTO {
     @NotBlank(message = "Title is required")
+    @Size(max = 255, message = "Title must be at most 255 characters")
     private String title;
 
     @NotBlank(message = "Description is required")
     private String description;
 
     @NotBlank(message = "Company is required")
+    @Size(max = 255, message = "Company must be at most 255 characters")
     private String company;
 
     @NotBlank(message = "Location is required")
+    @Size(max = 255, message = "Location must be at most 255 characters")
     private String location;
 
     @NotNull(message = "Salary is required")
@@ -26,4 +32,16 @@ public class JobRequestDTO {
     private Double salary;
 
     private LocalDateTime postedAt;
+
+    // Optional; defaults to postedAt plus job.lifecycle.default-ttl-days.
+    private LocalDateTime expiresAt;
+
+    // Optional; when omitted the location is geocoded from the bundled gazetteer.
+    @DecimalMin(value = "-90", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90", message = "Latitude must be between -90 and 90")
+    private Double latitude;
+
+    @DecimalMin(value = "-180", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180", message = "Longitude must be between -180 and 180")
+    private Double longitude;
 }
\ No newline at end of file
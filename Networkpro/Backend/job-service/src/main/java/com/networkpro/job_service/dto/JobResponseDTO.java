@@ -1,5 +1,6 @@
 package com.networkpro.job_service.dto;
 
+import com.networkpro.job_service.model.JobStatus;
 import lombok.Data;
 import java.time.LocalDateTime;
 
@@ -12,4 +13,12 @@ public class JobResponseDTO {
     private String location;
     private Double salary;
     private LocalDateTime postedAt;
+    private Double latitude;
+    private Double longitude;
+    private JobStatus status;
+    private LocalDateTime expiresAt;
+    private LocalDateTime closedAt;
+    private Long duplicateOf;
+    private String partnerId;
+    private String partnerJobId;
 }
\ No newline at end of file
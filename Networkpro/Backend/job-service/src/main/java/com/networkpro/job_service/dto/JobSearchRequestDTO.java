@@ -0,0 +1,32 @@
+package com.networkpro.job_service.dto;
+
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@Data
+public class JobSearchRequestDTO {
+    private String keyword;
+    private String company;
+    private String location;
+    private Double minSalary;
+    private Double maxSalary;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime postedAfter;
+
+    // Radius search around a coordinate or a gazetteer place name, or a bounding box.
+    private String near;
+    private Double latitude;
+    private Double longitude;
+    private Double radiusKm;
+    private Double minLatitude;
+    private Double maxLatitude;
+    private Double minLongitude;
+    private Double maxLongitude; // less than minLongitude for boxes crossing the antimeridian
+
+    private JobSort sort = JobSort.RECENT;
+    private String cursor;
+    private int limit = 20;
+}
@@ -0,0 +1,18 @@
+package com.networkpro.job_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSearchResultDTO {
+    private List<JobResponseDTO> jobs;
+    private long total;
+    private String nextCursor; // null on the last page
+    private List<FacetCountDTO> companies;
+    private List<FacetCountDTO> locations;
+}
@@ -0,0 +1,6 @@
+package com.networkpro.job_service.dto;
+
+public enum JobSort {
+    RECENT,
+    SALARY
+}
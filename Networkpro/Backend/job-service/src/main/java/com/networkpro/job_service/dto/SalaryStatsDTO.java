@@ -0,0 +1,17 @@
+package com.networkpro.job_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalaryStatsDTO {
+    private long count;
+    private Double mean;
+    private double relativeAccuracy; // every percentile is within this fraction of the exact value
+    private List<SalaryPercentileDTO> percentiles;
+}
@@ -0,0 +1,21 @@
+package com.networkpro.job_service.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class SavedSearchDTO {
+    private Long id;
+    private Long userId;
+    private String name;
+    private String keyword;
+    private String company;
+    private String location;
+    private Double minSalary;
+    private Double maxSalary;
+    private Double latitude;
+    private Double longitude;
+    private Double radiusKm;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,38 @@
+package com.networkpro.job_service.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class SavedSearchRequestDTO {
+    @NotNull(message = "User id is required")
+    private Long userId;
+
+    @NotBlank(message = "Name is required")
+    @Size(max = 255, message = "Name must be at most 255 characters")
+    private String name;
+
+    @Size(max = 255, message = "Keyword must be at most 255 characters")
+    private String keyword;
+
+    @Size(max = 255, message = "Company must be at most 255 characters")
+    private String company;
+
+    @Size(max = 255, message = "Location must be at most 255 characters")
+    private String location;
+
+    private Double minSalary;
+    private Double maxSalary;
+
+    // Optional radius filter around a coordinate or a gazetteer place name.
+    @Size(max = 255, message = "Place name must be at most 255 characters")
+    private String near;
+    private Double latitude;
+    private Double longitude;
+
+    @Positive(message = "Radius must be positive")
+    private Double radiusKm;
+}
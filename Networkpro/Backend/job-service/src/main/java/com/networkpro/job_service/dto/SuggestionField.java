@@ -0,0 +1,7 @@
+package com.networkpro.job_service.dto;
+
+public enum SuggestionField {
+    TITLE,
+    COMPANY,
+    LOCATION
+}
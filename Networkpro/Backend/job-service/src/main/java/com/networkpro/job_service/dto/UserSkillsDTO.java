@@ -0,0 +1,17 @@
+package com.networkpro.job_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSkillsDTO {
+    private Long userId;
+    private List<String> skills;
+    private LocalDateTime updatedAt;
+}
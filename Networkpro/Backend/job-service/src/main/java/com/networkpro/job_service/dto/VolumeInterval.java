@@ -0,0 +1,7 @@
+package com.networkpro.job_service.dto;
+
+public enum VolumeInterval {
+    DAY,
+    WEEK,
+    MONTH
+}
@@ -0,0 +1,6 @@
+package com.networkpro.job_service.model;
+
+public enum ApplicationStatus {
+    SUBMITTED,
+    WITHDRAWN
+}
@@ -0,0 +1,33 @@
+package com.networkpro.job_service.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/** A closed or expired job moved out of {@code jobs} by the lifecycle scheduler; keeps its original id. */
+@Entity
+@Table(name = "jobs_archive")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedJob {
+    @Id
+    private Long id;
+    private String title;
+    private String description;
+    private String company;
+    private String location;
+    private Double salary;
+    private LocalDateTime postedAt;
+    private Double latitude;
+    private Double longitude;
+    @Enumerated(EnumType.STRING)
+    private JobStatus status;
+    private LocalDateTime expiresAt;
+    private LocalDateTime closedAt;
+    private Long duplicateOf;
+    private String partnerId;
+    private String partnerJobId;
+}
@@ -0,0 +1,7 @@
+package com.networkpro.job_service.model;
+
+public enum FeedFormat {
+    CSV,
+    XML,
+    JSON
+}
@@ -0,0 +1,33 @@
+package com.networkpro.job_service.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Entity
+@Table(name = "job_imports")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeedImport {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private String partnerId;
+    @Enumerated(EnumType.STRING)
+    private FeedFormat format;
+    @Enumerated(EnumType.STRING)
+    private ImportStatus status;
+    private long totalBytes;
+    private long bytesRead;
+    private long recordsRead;
+    private long inserted;
+    private long updated;
+    private long rejected;
+    @Column(columnDefinition = "text")
+    private String errors; // first few rejection reasons, one per line
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,8 @@
+package com.networkpro.job_service.model;
+
+public enum ImportStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
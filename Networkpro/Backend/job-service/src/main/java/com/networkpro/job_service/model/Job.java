@@ -7,7 +7,8 @@ import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
 @Entity
-@Table(name = "jobs")
+@Table(name = "jobs", uniqueConstraints = @UniqueConstraint(name = "uk_jobs_partner_job",
+        columnNames = { "partnerId", "partnerJobId" }))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -21,4 +22,13 @@ public class Job {
     private String location;
     private Double salary;
     private LocalDateTime postedAt;
-}
\ No newline at end of file
+    private Double latitude; // geocoded from location; null when the place is unknown
+    private Double longitude;
+    @Enumerated(EnumType.STRING)
+    private JobStatus status;
+    private LocalDateTime expiresAt;
+    private LocalDateTime closedAt; // when the job stopped being open; drives archiving
+    private Long duplicateOf; // set with status DUPLICATE: the open job this one reposts
+    private String partnerId; // set for jobs imported from a partner feed, with the partner's own id
+    private String partnerJobId;
+}
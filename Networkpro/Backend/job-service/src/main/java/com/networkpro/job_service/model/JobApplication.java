@@ -0,0 +1,35 @@
+package com.networkpro.job_service.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Entity
+@Table(name = "job_applications", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_job_applications_job_user", columnNames = { "jobId", "userId" }),
+        @UniqueConstraint(name = "uk_job_applications_user_key", columnNames = { "userId", "idempotencyKey" })
+}, indexes = {
+        @Index(name = "idx_job_applications_job", columnList = "jobId, id"),
+        @Index(name = "idx_job_applications_job_status", columnList = "jobId, status, id"),
+        @Index(name = "idx_job_applications_user", columnList = "userId, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobApplication {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long jobId;
+    private Long userId;
+    private String idempotencyKey;
+    @Column(columnDefinition = "text")
+    private String coverLetter;
+    private String resumeUrl;
+    @Enumerated(EnumType.STRING)
+    private ApplicationStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,34 @@
+package com.networkpro.job_service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * One shard of a job's applicant count. Writers add to a random shard so a popular posting
+ * spreads its updates over several rows; readers sum the shards.
+ */
+@Entity
+@Table(name = "job_application_counters")
+@IdClass(JobApplicationCounter.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobApplicationCounter {
+    @Id
+    private Long jobId;
+    @Id
+    private Integer shard;
+    private long total;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long jobId;
+        private Integer shard;
+    }
+}
@@ -0,0 +1,8 @@
+package com.networkpro.job_service.model;
+
+public enum JobStatus {
+    OPEN,
+    CLOSED,
+    EXPIRED,
+    DUPLICATE
+}
@@ -0,0 +1,29 @@
+package com.networkpro.job_service.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Entity
+@Table(name = "saved_searches", indexes = @Index(name = "idx_saved_searches_user", columnList = "userId, id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearch {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long userId;
+    private String name;
+    private String keyword;
+    private String company;
+    private String location;
+    private Double minSalary;
+    private Double maxSalary;
+    private Double latitude;
+    private Double longitude;
+    private Double radiusKm;
+    private LocalDateTime createdAt;
+}
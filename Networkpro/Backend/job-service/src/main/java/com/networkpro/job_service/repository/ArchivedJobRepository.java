@@ -0,0 +1,17 @@
+package com.networkpro.job_service.repository;
+
+import com.networkpro.job_service.model.ArchivedJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ArchivedJobRepository extends JpaRepository<ArchivedJob, Long> {
+    @Query("SELECT j.title AS title, j.location AS location, j.company AS company, j.salary AS salary, "
+            + "CAST(j.postedAt AS LocalDate) AS day, COUNT(j) AS postings FROM ArchivedJob j "
+            + "WHERE j.status IS NULL OR j.status <> com.networkpro.job_service.model.JobStatus.DUPLICATE "
+            + "GROUP BY j.title, j.location, j.company, j.salary, CAST(j.postedAt AS LocalDate)")
+    List<JobRepository.PostingGroup> countPostingGroups();
+}
@@ -0,0 +1,9 @@
+package com.networkpro.job_service.repository;
+
+import com.networkpro.job_service.model.FeedImport;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FeedImportRepository extends JpaRepository<FeedImport, Long> {
+}
@@ -0,0 +1,24 @@
+package com.networkpro.job_service.repository;
+
+import com.networkpro.job_service.model.JobApplicationCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobApplicationCounterRepository extends JpaRepository<JobApplicationCounter, JobApplicationCounter.Key> {
+    @Modifying
+    @Query(value = "INSERT INTO job_application_counters (job_id, shard, total) VALUES (:jobId, :shard, :delta) "
+            + "ON CONFLICT (job_id, shard) DO UPDATE SET total = job_application_counters.total + EXCLUDED.total",
+            nativeQuery = true)
+    int add(@Param("jobId") Long jobId, @Param("shard") int shard, @Param("delta") long delta);
+
+    @Query("SELECT COALESCE(SUM(c.total), 0) FROM JobApplicationCounter c WHERE c.jobId = :jobId")
+    long sumByJobId(@Param("jobId") Long jobId);
+
+    @Modifying
+    @Query("DELETE FROM JobApplicationCounter c WHERE c.jobId = :jobId")
+    int deleteByJobId(@Param("jobId") Long jobId);
+}
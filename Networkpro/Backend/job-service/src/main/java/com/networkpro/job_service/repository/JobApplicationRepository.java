@@ -0,0 +1,38 @@
+package com.networkpro.job_service.repository;
+
+import com.networkpro.job_service.model.ApplicationStatus;
+import com.networkpro.job_service.model.JobApplication;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface JobApplicationRepository extends JpaRepository<JobApplication, Long> {
+    Optional<JobApplication> findByJobIdAndUserId(Long jobId, Long userId);
+
+    Optional<JobApplication> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
+    List<JobApplication> findByJobIdAndIdGreaterThanOrderByIdAsc(Long jobId, Long afterId, Pageable pageable);
+
+    List<JobApplication> findByJobIdAndStatusAndIdGreaterThanOrderByIdAsc(Long jobId, ApplicationStatus status,
+            Long afterId, Pageable pageable);
+
+    List<JobApplication> findByUserIdAndIdLessThanOrderByIdDesc(Long userId, Long beforeId, Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE JobApplication a SET a.status = com.networkpro.job_service.model.ApplicationStatus.WITHDRAWN, "
+            + "a.updatedAt = :now WHERE a.id = :id "
+            + "AND a.status = com.networkpro.job_service.model.ApplicationStatus.SUBMITTED")
+    int withdraw(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM JobApplication a WHERE a.jobId = :jobId")
+    int deleteByJobId(@Param("jobId") Long jobId);
+}
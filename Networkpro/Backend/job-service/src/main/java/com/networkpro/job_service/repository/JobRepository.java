@@ -1,9 +1,57 @@
 package com.networkpro.job_service.repository;
 
 import com.networkpro.job_service.model.Job;
+import com.networkpro.job_service.model.JobStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface JobRepository extends JpaRepository<Job, Long> {
-}
\ No newline at end of file
+    // Postings grouped by their raw analytics dimensions; the service normalizes each group.
+    @Query("SELECT j.title AS title, j.location AS location, j.company AS company, j.salary AS salary, "
+            + "CAST(j.postedAt AS LocalDate) AS day, COUNT(j) AS postings FROM Job j "
+            + "WHERE j.status IS NULL OR j.status <> com.networkpro.job_service.model.JobStatus.DUPLICATE "
+            + "GROUP BY j.title, j.location, j.company, j.salary, CAST(j.postedAt AS LocalDate)")
+    List<PostingGroup> countPostingGroups();
+
+    List<Job> findByStatusOrderByPostedAtDescIdDesc(JobStatus status);
+
+    List<Job> findByStatusAndIdGreaterThanOrderByIdAsc(JobStatus status, Long afterId, Pageable pageable);
+
+    List<Job> findByPartnerIdAndPartnerJobIdIn(String partnerId, Collection<String> partnerJobIds);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Job j SET j.status = com.networkpro.job_service.model.JobStatus.DUPLICATE, "
+            + "j.duplicateOf = :originalId, j.closedAt = :now WHERE j.id = :id "
+            + "AND j.status = com.networkpro.job_service.model.JobStatus.OPEN")
+    int markDuplicate(@Param("id") Long id, @Param("originalId") Long originalId, @Param("now") LocalDateTime now);
+
+    @Query("SELECT j.status FROM Job j WHERE j.id = :id")
+    Optional<JobStatus> findStatusById(@Param("id") Long id);
+
+    interface PostingGroup {
+        String getTitle();
+
+        String getLocation();
+
+        String getCompany();
+
+        Double getSalary();
+
+        LocalDate getDay();
+
+        Long getPostings();
+    }
+}
@@ -0,0 +1,17 @@
+package com.networkpro.job_service.repository;
+
+import com.networkpro.job_service.model.SavedSearch;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+    List<SavedSearch> findByUserIdOrderByIdDesc(Long userId);
+
+    long countByUserId(Long userId);
+
+    List<SavedSearch> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+}
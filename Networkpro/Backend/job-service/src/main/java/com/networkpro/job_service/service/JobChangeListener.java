@@ -0,0 +1,45 @@
+package com.networkpro.job_service.service;
+
+import com.networkpro.job_service.model.Job;
+import com.networkpro.job_service.model.JobStatus;
+
+/**
+ * Notified by {@link JobService} after a job is written, so derived indexes stay in step. Only
+ * open jobs are passed to {@link #onJobSaved}; indexes that serve open jobs drop a job on
+ * {@link #onJobClosed}.
+ */
+public interface JobChangeListener {
+    void onJobSaved(Job job);
+
+    void onJobDeleted(Long jobId);
+
+    /** Called instead of {@link #onJobSaved} when the job is new. */
+    default void onJobCreated(Job job) {
+        onJobSaved(job);
+    }
+
+    /**
+     * Called when an existing job is edited, whatever its status, with a copy of the job as it
+     * was before the edit ({@code null} if that is unknown). By default only open jobs are passed
+     * on to {@link #onJobSaved}.
+     */
+    default void onJobUpdated(Job previous, Job job) {
+        if (job.getStatus() == JobStatus.OPEN) {
+            onJobSaved(job);
+        }
+    }
+
+    /** Called with the row that was deleted; by default only its id is passed on. */
+    default void onJobDeleted(Job job) {
+        onJobDeleted(job.getId());
+    }
+
+    /** Called when an open job is closed or expires. The job still exists. */
+    default void onJobClosed(Long jobId) {
+    }
+
+    /** Called when an open job is found to repost another and is flagged as a duplicate. */
+    default void onJobMarkedDuplicate(Job job, Long originalId) {
+        onJobClosed(job.getId());
+    }
+}
@@ -2,11 +2,22 @@ package com.networkpro.job_service.service;
 
 import com.networkpro.job_service.dto.JobRequestDTO;
 import com.networkpro.job_service.dto.JobResponseDTO;
+import com.networkpro.job_service.dto.JobSearchRequestDTO;
+import com.networkpro.job_service.dto.JobSearchResultDTO;
+import com.networkpro.job_service.model.ArchivedJob;
 import com.networkpro.job_service.model.Job;
+import com.networkpro.job_service.model.JobStatus;
+import com.networkpro.job_service.repository.ArchivedJobRepository;
 import com.networkpro.job_service.repository.JobRepository;
+import com.networkpro.job_service.service.dedup.DuplicateDetector;
+import com.networkpro.job_service.service.geo.Gazetteer;
+import com.networkpro.job_service.service.geo.GeoPoint;
+import com.networkpro.job_service.service.search.JobSearchIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,42 +25,160 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class JobService {
     private final JobRepository jobRepository;
+    private final ArchivedJobRepository archivedJobRepository;
+    private final JobSearchIndex searchIndex;
+    private final Gazetteer gazetteer;
+    private final DuplicateDetector duplicateDetector;
+    private final List<JobChangeListener> changeListeners;
 
-    public List<JobResponseDTO> getAllJobs() {
-        return jobRepository.findAll().stream().map(this::toResponseDTO).toList();
+    @Value("${job.lifecycle.default-ttl-days:30}")
+    private int defaultTtlDays;
+
+    /** Archived jobs are not listed; they are still returned by {@link #getJobById}. */
+    public List<JobResponseDTO> getAllJobs(JobStatus status) {
+        return jobRepository.findByStatusOrderByPostedAtDescIdDesc(status).stream()
+                .map(JobService::toResponseDTO).toList();
+    }
+
+    public JobSearchResultDTO searchJobs(JobSearchRequestDTO request) {
+        if (request.getNear() != null && !request.getNear().isBlank()) {
+            GeoPoint center = gazetteer.geocode(request.getNear())
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown place: " + request.getNear()));
+            request.setLatitude(center.getLatitude());
+            request.setLongitude(center.getLongitude());
+        }
+        JobSearchIndex.Result result = searchIndex.search(request);
+        return new JobSearchResultDTO(result.getJobs().stream().map(JobService::toResponseDTO).toList(),
+                result.getTotal(), result.getNextCursor(), result.getCompanies(), result.getLocations());
     }
 
     public Optional<JobResponseDTO> getJobById(Long id) {
-        return jobRepository.findById(id).map(this::toResponseDTO);
+        return jobRepository.findById(id).map(JobService::toResponseDTO)
+                .or(() -> archivedJobRepository.findById(id).map(JobService::toResponseDTO));
     }
 
     public JobResponseDTO createJob(JobRequestDTO jobRequestDTO) {
         Job job = toEntity(jobRequestDTO);
+        locate(job, jobRequestDTO);
+        if (job.getPostedAt() == null) {
+            job.setPostedAt(LocalDateTime.now());
+        }
+        job.setStatus(JobStatus.OPEN);
+        job.setExpiresAt(jobRequestDTO.getExpiresAt() != null ? jobRequestDTO.getExpiresAt()
+                : job.getPostedAt().plusDays(defaultTtlDays));
+        if (!job.getExpiresAt().isAfter(LocalDateTime.now())) {
+            throw new IllegalArgumentException("expiresAt must be in the future");
+        }
+        // A repost is stored for the record but flagged, so it stays out of listings and search.
+        Optional<Long> original = duplicateDetector.findDuplicate(job);
+        if (original.isPresent()) {
+            job.setStatus(JobStatus.DUPLICATE);
+            job.setDuplicateOf(original.get());
+            job.setClosedAt(LocalDateTime.now());
+            return toResponseDTO(jobRepository.save(job));
+        }
         Job saved = jobRepository.save(job);
+        changeListeners.forEach(listener -> listener.onJobCreated(saved));
         return toResponseDTO(saved);
     }
 
     public Optional<JobResponseDTO> updateJob(Long id, JobRequestDTO jobRequestDTO) {
         return jobRepository.findById(id).map(job -> {
+            Job previous = copyOf(job);
             job.setTitle(jobRequestDTO.getTitle());
             job.setDescription(jobRequestDTO.getDescription());
             job.setCompany(jobRequestDTO.getCompany());
             job.setLocation(jobRequestDTO.getLocation());
             job.setSalary(jobRequestDTO.getSalary());
-            job.setPostedAt(jobRequestDTO.getPostedAt());
-            return toResponseDTO(jobRepository.save(job));
+            locate(job, jobRequestDTO);
+            if (jobRequestDTO.getPostedAt() != null) {
+                job.setPostedAt(jobRequestDTO.getPostedAt());
+            }
+            if (jobRequestDTO.getExpiresAt() != null) {
+                extend(job, jobRequestDTO.getExpiresAt());
+            }
+            Job saved = jobRepository.save(job);
+            changeListeners.forEach(listener -> listener.onJobUpdated(previous, saved));
+            return toResponseDTO(saved);
+        });
+    }
+
+    /** Closes an open job; closing a job that is already closed or expired leaves it unchanged. */
+    public Optional<JobResponseDTO> closeJob(Long id) {
+        return jobRepository.findById(id).map(job -> {
+            if (job.getStatus() != JobStatus.OPEN) {
+                return toResponseDTO(job);
+            }
+            job.setStatus(JobStatus.CLOSED);
+            job.setClosedAt(LocalDateTime.now());
+            Job saved = jobRepository.save(job);
+            changeListeners.forEach(listener -> listener.onJobClosed(id));
+            return toResponseDTO(saved);
         });
     }
 
     public boolean deleteJob(Long id) {
         return jobRepository.findById(id).map(job -> {
             jobRepository.delete(job);
+            changeListeners.forEach(listener -> listener.onJobDeleted(job));
             return true;
         }).orElse(false);
     }
 
+    // A new expiry in the future reopens an expired job; closed jobs stay closed.
+    private void extend(Job job, LocalDateTime expiresAt) {
+        boolean future = expiresAt.isAfter(LocalDateTime.now());
+        if (job.getStatus() == JobStatus.OPEN && !future) {
+            throw new IllegalArgumentException("expiresAt must be in the future");
+        }
+        job.setExpiresAt(expiresAt);
+        if (job.getStatus() == JobStatus.EXPIRED && future) {
+            job.setStatus(JobStatus.OPEN);
+            job.setClosedAt(null);
+        }
+    }
+
+    private void locate(Job job, JobRequestDTO dto) {
+        if (dto.getLatitude() != null && dto.getLongitude() != null) {
+            job.setLatitude(dto.getLatitude());
+            job.setLongitude(dto.getLongitude());
+            return;
+        }
+        GeoPoint point = gazetteer.geocode(dto.getLocation()).orElse(null);
+        job.setLatitude(point != null ? point.getLatitude() : null);
+        job.setLongitude(point != null ? point.getLongitude() : null);
+    }
+
     // Mapping methods
-    private JobResponseDTO toResponseDTO(Job job) {
+    public static JobResponseDTO toResponseDTO(Job job) {
+        JobResponseDTO dto = new JobResponseDTO();
+        dto.setId(job.getId());
+        dto.setTitle(job.getTitle());
+        dto.setDescription(job.getDescription());
+        dto.setCompany(job.getCompany());
+        dto.setLocation(job.getLocation());
+        dto.setSalary(job.getSalary());
+        dto.setPostedAt(job.getPostedAt());
+        dto.setLatitude(job.getLatitude());
+        dto.setLongitude(job.getLongitude());
+        dto.setStatus(job.getStatus());
+        dto.setExpiresAt(job.getExpiresAt());
+        dto.setClosedAt(job.getClosedAt());
+        dto.setDuplicateOf(job.getDuplicateOf());
+        dto.setPartnerId(job.getPartnerId());
+        dto.setPartnerJobId(job.getPartnerJobId());
+        return dto;
+    }
+
+    /** Detached copy, for listeners that keep a job or need it as it was before an edit. */
+    public static Job copyOf(Job job) {
+        return new Job(job.getId(), job.getTitle(), job.getDescription(), job.getCompany(), job.getLocation(),
+                job.getSalary(), job.getPostedAt(), job.getLatitude(), job.getLongitude(), job.getStatus(),
+                job.getExpiresAt(), job.getClosedAt(), job.getDuplicateOf(), job.getPartnerId(),
+                job.getPartnerJobId());
+    }
+
+    public static JobResponseDTO toResponseDTO(ArchivedJob job) {
         JobResponseDTO dto = new JobResponseDTO();
         dto.setId(job.getId());
         dto.setTitle(job.getTitle());
@@ -58,6 +187,14 @@ public class JobService {
         dto.setLocation(job.getLocation());
         dto.setSalary(job.getSalary());
         dto.setPostedAt(job.getPostedAt());
+        dto.setLatitude(job.getLatitude());
+        dto.setLongitude(job.getLongitude());
+        dto.setStatus(job.getStatus());
+        dto.setExpiresAt(job.getExpiresAt());
+        dto.setClosedAt(job.getClosedAt());
+        dto.setDuplicateOf(job.getDuplicateOf());
+        dto.setPartnerId(job.getPartnerId());
+        dto.setPartnerJobId(job.getPartnerJobId());
         return dto;
     }
 
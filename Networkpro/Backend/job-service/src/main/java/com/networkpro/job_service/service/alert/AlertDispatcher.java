@@ -0,0 +1,95 @@
+package com.networkpro.job_service.service.alert;
+
+import com.networkpro.job_service.client.NotificationClient;
+import com.networkpro.job_service.dto.NotificationRequestDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Buffers alert notifications and ships them to the notification service in batches, one
+ * request per batch instead of one per alert. A batch that fails to send is retried before
+ * anything newer. While the service is unreachable the batch is kept indefinitely; a batch the
+ * service keeps rejecting is split in half after {@code max-attempts}, so one bad alert ends up
+ * alone and is dropped instead of stalling everything behind it. Alerts are held in memory only
+ * and are dropped when the buffer is full.
+ */
+@Slf4j
+@Component
+public class AlertDispatcher {
+    private final NotificationClient notificationClient;
+    private final BlockingQueue<NotificationRequestDTO> queue;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Deque<Batch> unsent = new ArrayDeque<>();
+
+    public AlertDispatcher(NotificationClient notificationClient,
+            @Value("${job.alerts.queue-capacity:10000}") int queueCapacity,
+            @Value("${job.alerts.batch-size:500}") int batchSize,
+            @Value("${job.alerts.max-attempts:3}") int maxAttempts) {
+        this.notificationClient = notificationClient;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    public void enqueue(NotificationRequestDTO notification) {
+        if (!queue.offer(notification)) {
+            log.warn("Alert queue is full, dropping alert for user {}", notification.getUserId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${job.alerts.flush-interval-ms:1000}")
+    public void flush() {
+        while (true) {
+            Batch batch = unsent.pollFirst();
+            if (batch == null) {
+                List<NotificationRequestDTO> alerts = new ArrayList<>(batchSize);
+                queue.drainTo(alerts, batchSize);
+                if (alerts.isEmpty()) {
+                    return;
+                }
+                batch = new Batch(alerts, 0);
+            }
+            try {
+                notificationClient.sendBatch(batch.alerts());
+            } catch (ResourceAccessException e) {
+                log.warn("Notification service unreachable, retrying {} job alerts on next flush",
+                        batch.alerts().size(), e);
+                unsent.addFirst(batch);
+                return;
+            } catch (RuntimeException e) {
+                retryOrSplit(batch, e);
+                return;
+            }
+        }
+    }
+
+    private void retryOrSplit(Batch batch, RuntimeException e) {
+        List<NotificationRequestDTO> alerts = batch.alerts();
+        if (batch.attempts() + 1 < maxAttempts) {
+            log.warn("Failed to send {} job alerts, retrying on next flush", alerts.size(), e);
+            unsent.addFirst(new Batch(alerts, batch.attempts() + 1));
+        } else if (alerts.size() > 1) {
+            log.warn("Failed to send {} job alerts {} times, splitting the batch", alerts.size(), maxAttempts, e);
+            int half = alerts.size() / 2;
+            unsent.addFirst(new Batch(alerts.subList(half, alerts.size()), 0));
+            unsent.addFirst(new Batch(alerts.subList(0, half), 0));
+        } else {
+            log.error("Dropping job alert for user {} after {} failed attempts", alerts.get(0).getUserId(),
+                    maxAttempts, e);
+        }
+    }
+
+    private record Batch(List<NotificationRequestDTO> alerts, int attempts) {
+    }
+}
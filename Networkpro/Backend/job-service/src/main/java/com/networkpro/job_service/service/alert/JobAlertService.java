@@ -0,0 +1,151 @@
+package com.networkpro.job_service.service.alert;
+
+import com.networkpro.job_service.dto.NotificationRequestDTO;
+import com.networkpro.job_service.dto.SavedSearchDTO;
+import com.networkpro.job_service.dto.SavedSearchRequestDTO;
+import com.networkpro.job_service.model.Job;
+import com.networkpro.job_service.model.SavedSearch;
+import com.networkpro.job_service.repository.SavedSearchRepository;
+import com.networkpro.job_service.service.JobChangeListener;
+import com.networkpro.job_service.service.geo.Gazetteer;
+import com.networkpro.job_service.service.geo.GeoPoint;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Saved searches and the alerts they raise. Searches are kept in a {@link SearchPercolator}
+ * so each new job is matched against the searches that could accept it, and every matching
+ * user gets one notification per job through the {@link AlertDispatcher}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobAlertService implements JobChangeListener {
+    private static final int LOAD_BATCH_SIZE = 1000;
+    // Notifications are stored in a 255 character column by older notification-service schemas.
+    private static final int MAX_MESSAGE_LENGTH = 255;
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final Gazetteer gazetteer;
+    private final AlertDispatcher dispatcher;
+    private final SearchPercolator percolator = new SearchPercolator();
+
+    @Value("${job.alerts.max-searches-per-user:50}")
+    private int maxSearchesPerUser;
+
+    @PostConstruct
+    public void load() {
+        long lastId = 0;
+        int loaded = 0;
+        List<SavedSearch> batch;
+        do {
+            batch = savedSearchRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            batch.forEach(percolator::add);
+            loaded += batch.size();
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+        log.info("Loaded {} saved searches", loaded);
+    }
+
+    public SavedSearchDTO create(SavedSearchRequestDTO request) {
+        if (savedSearchRepository.countByUserId(request.getUserId()) >= maxSearchesPerUser) {
+            throw new IllegalStateException("A user can keep at most " + maxSearchesPerUser + " saved searches");
+        }
+        if (request.getMinSalary() != null && request.getMaxSalary() != null
+                && request.getMinSalary() > request.getMaxSalary()) {
+            throw new IllegalArgumentException("minSalary must not exceed maxSalary");
+        }
+        Double latitude = request.getLatitude();
+        Double longitude = request.getLongitude();
+        if (request.getNear() != null && !request.getNear().isBlank()) {
+            GeoPoint center = gazetteer.geocode(request.getNear())
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown place: " + request.getNear()));
+            latitude = center.getLatitude();
+            longitude = center.getLongitude();
+        }
+        if (request.getRadiusKm() != null && (latitude == null || longitude == null)) {
+            throw new IllegalArgumentException("A radius needs near or latitude and longitude");
+        }
+        SavedSearch search = savedSearchRepository.save(new SavedSearch(null, request.getUserId(), request.getName(),
+                request.getKeyword(), request.getCompany(), request.getLocation(), request.getMinSalary(),
+                request.getMaxSalary(), latitude, longitude, request.getRadiusKm(), LocalDateTime.now()));
+        percolator.add(search);
+        return toDTO(search);
+    }
+
+    public List<SavedSearchDTO> list(Long userId) {
+        return savedSearchRepository.findByUserIdOrderByIdDesc(userId).stream().map(JobAlertService::toDTO).toList();
+    }
+
+    /** Returns empty when the search does not exist or belongs to another user. */
+    public Optional<SavedSearchDTO> delete(Long id, Long userId) {
+        Optional<SavedSearch> search = savedSearchRepository.findById(id)
+                .filter(found -> found.getUserId().equals(userId));
+        search.ifPresent(found -> {
+            savedSearchRepository.delete(found);
+            percolator.remove(found.getId());
+        });
+        return search.map(JobAlertService::toDTO);
+    }
+
+    @Override
+    public void onJobCreated(Job job) {
+        Set<Long> notified = new HashSet<>();
+        for (SavedSearch search : percolator.match(job)) {
+            if (notified.add(search.getUserId())) {
+                dispatcher.enqueue(new NotificationRequestDTO(String.valueOf(search.getUserId()),
+                        truncate("New job matching \"" + search.getName() + "\": " + job.getTitle() + " at "
+                                + job.getCompany() + " (" + job.getLocation() + ")")));
+            }
+        }
+    }
+
+    @Override
+    public void onJobSaved(Job job) {
+        // Alerts are raised for new postings only.
+    }
+
+    @Override
+    public void onJobDeleted(Long jobId) {
+    }
+
+    private static String truncate(String message) {
+        if (message.length() <= MAX_MESSAGE_LENGTH) {
+            return message;
+        }
+        int end = MAX_MESSAGE_LENGTH - 3;
+        if (Character.isHighSurrogate(message.charAt(end - 1))) {
+            end--;
+        }
+        return message.substring(0, end) + "...";
+    }
+
+    private static SavedSearchDTO toDTO(SavedSearch search) {
+        SavedSearchDTO dto = new SavedSearchDTO();
+        dto.setId(search.getId());
+        dto.setUserId(search.getUserId());
+        dto.setName(search.getName());
+        dto.setKeyword(search.getKeyword());
+        dto.setCompany(search.getCompany());
+        dto.setLocation(search.getLocation());
+        dto.setMinSalary(search.getMinSalary());
+        dto.setMaxSalary(search.getMaxSalary());
+        dto.setLatitude(search.getLatitude());
+        dto.setLongitude(search.getLongitude());
+        dto.setRadiusKm(search.getRadiusKm());
+        dto.setCreatedAt(search.getCreatedAt());
+        return dto;
+    }
+}
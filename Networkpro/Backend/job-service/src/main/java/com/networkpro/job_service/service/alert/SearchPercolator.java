@@ -0,0 +1,211 @@
+package com.networkpro.job_service.service.alert;
+
+import com.networkpro.job_service.model.Job;
+import com.networkpro.job_service.model.SavedSearch;
+import com.networkpro.job_service.service.geo.GeoPoint;
+import com.networkpro.job_service.service.search.JobSearchIndex;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Reverse index of saved searches. Each search is filed under one anchor key that every job it
+ * matches must carry: its company, else its location, else its longest keyword term, else the
+ * one-degree grid cells its radius covers. A new job looks up only the searches anchored on
+ * its own company, location, terms and cell, and checks their remaining criteria, so matching
+ * costs per job rather than per saved search. Searches with no selective criterion are checked
+ * against every job.
+ */
+class SearchPercolator {
+    private static final int MAX_ANCHOR_CELLS = 64;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, CompiledSearch> searches = new HashMap<>();
+    private final Map<String, Map<Long, CompiledSearch>> byAnchor = new HashMap<>();
+    private final Map<Long, CompiledSearch> unanchored = new HashMap<>();
+
+    void add(SavedSearch search) {
+        CompiledSearch compiled = new CompiledSearch(search);
+        lock.writeLock().lock();
+        try {
+            removeLocked(search.getId());
+            searches.put(search.getId(), compiled);
+            if (compiled.anchors.isEmpty()) {
+                unanchored.put(search.getId(), compiled);
+            }
+            for (String anchor : compiled.anchors) {
+                byAnchor.computeIfAbsent(anchor, a -> new HashMap<>()).put(search.getId(), compiled);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long searchId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(searchId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Saved searches the job matches. */
+    List<SavedSearch> match(Job job) {
+        JobView view = new JobView(job);
+        List<SavedSearch> matched = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            List<String> keys = new ArrayList<>();
+            keys.add("c:" + view.companyKey);
+            keys.add("l:" + view.locationKey);
+            view.terms.forEach(term -> keys.add("t:" + term));
+            if (view.hasPoint()) {
+                keys.add(cellKey(cellRow(job.getLatitude()), cellColumn(job.getLongitude())));
+            }
+            // Each search sits under a single anchor or cell, and a job has one of each key, so no search is seen twice.
+            for (String key : keys) {
+                Map<Long, CompiledSearch> candidates = byAnchor.get(key);
+                if (candidates != null) {
+                    candidates.values().stream().filter(search -> search.matches(view))
+                            .forEach(search -> matched.add(search.search));
+                }
+            }
+            unanchored.values().stream().filter(search -> search.matches(view))
+                    .forEach(search -> matched.add(search.search));
+        } finally {
+            lock.readLock().unlock();
+        }
+        return matched;
+    }
+
+    private void removeLocked(Long searchId) {
+        CompiledSearch previous = searches.remove(searchId);
+        if (previous == null) {
+            return;
+        }
+        unanchored.remove(searchId);
+        for (String anchor : previous.anchors) {
+            Map<Long, CompiledSearch> anchored = byAnchor.get(anchor);
+            if (anchored != null && anchored.remove(searchId) != null && anchored.isEmpty()) {
+                byAnchor.remove(anchor);
+            }
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static int cellRow(double latitude) {
+        return Math.min(179, (int) Math.floor(latitude + 90));
+    }
+
+    private static int cellColumn(double longitude) {
+        return Math.floorMod((int) Math.floor(longitude + 180), 360);
+    }
+
+    private static String cellKey(int row, int column) {
+        return "g:" + row + ":" + column;
+    }
+
+    private static final class CompiledSearch {
+        private final SavedSearch search;
+        private final Set<String> terms;
+        private final String companyKey;
+        private final String locationKey;
+        private final List<String> anchors = new ArrayList<>();
+
+        private CompiledSearch(SavedSearch search) {
+            this.search = search;
+            this.terms = JobSearchIndex.tokenize(search.getKeyword());
+            this.companyKey = hasText(search.getCompany()) ? normalize(search.getCompany()) : null;
+            this.locationKey = hasText(search.getLocation()) ? normalize(search.getLocation()) : null;
+            if (companyKey != null) {
+                anchors.add("c:" + companyKey);
+            } else if (locationKey != null) {
+                anchors.add("l:" + locationKey);
+            } else if (!terms.isEmpty()) {
+                anchors.add("t:" + terms.stream().max(Comparator.comparingInt(String::length)).get());
+            } else if (search.getRadiusKm() != null) {
+                anchors.addAll(cellsCovering(search.getLatitude(), search.getLongitude(), search.getRadiusKm()));
+            }
+        }
+
+        private boolean matches(JobView job) {
+            if (companyKey != null && !companyKey.equals(job.companyKey)) {
+                return false;
+            }
+            if (locationKey != null && !locationKey.equals(job.locationKey)) {
+                return false;
+            }
+            if (!job.terms.containsAll(terms)) {
+                return false;
+            }
+            Double salary = job.job.getSalary();
+            if (search.getMinSalary() != null && (salary == null || salary < search.getMinSalary())) {
+                return false;
+            }
+            if (search.getMaxSalary() != null && (salary == null || salary > search.getMaxSalary())) {
+                return false;
+            }
+            return search.getRadiusKm() == null || (job.hasPoint() && GeoPoint.distanceKm(search.getLatitude(),
+                    search.getLongitude(), job.job.getLatitude(), job.job.getLongitude()) <= search.getRadiusKm());
+        }
+
+        /** Cells overlapping the circle's bounding box; empty when there are too many to be selective. */
+        private static List<String> cellsCovering(double latitude, double longitude, double radiusKm) {
+            double dLat = radiusKm / 111.32;
+            double cosLat = Math.cos(Math.toRadians(Math.min(89.9, Math.abs(latitude) + dLat)));
+            double dLon = radiusKm / (111.32 * cosLat);
+            int fromRow = cellRow(Math.max(-90, latitude - dLat));
+            int toRow = cellRow(Math.min(90, latitude + dLat));
+            int columns = Math.min(360, (int) Math.floor(longitude + dLon) - (int) Math.floor(longitude - dLon) + 1);
+            if ((long) (toRow - fromRow + 1) * columns > MAX_ANCHOR_CELLS) {
+                return List.of();
+            }
+            List<String> cells = new ArrayList<>();
+            int fromColumn = cellColumn(longitude - dLon);
+            for (int row = fromRow; row <= toRow; row++) {
+                for (int i = 0; i < columns; i++) {
+                    cells.add(cellKey(row, (fromColumn + i) % 360));
+                }
+            }
+            return cells;
+        }
+    }
+
+    private static final class JobView {
+        private final Job job;
+        private final Set<String> terms;
+        private final String companyKey;
+        private final String locationKey;
+
+        private JobView(Job job) {
+            this.job = job;
+            this.terms = new HashSet<>();
+            terms.addAll(JobSearchIndex.tokenize(job.getTitle()));
+            terms.addAll(JobSearchIndex.tokenize(job.getCompany()));
+            terms.addAll(JobSearchIndex.tokenize(job.getLocation()));
+            terms.addAll(JobSearchIndex.tokenize(job.getDescription()));
+            this.companyKey = normalize(job.getCompany());
+            this.locationKey = normalize(job.getLocation());
+        }
+
+        private boolean hasPoint() {
+            return job.getLatitude() != null && job.getLongitude() != null;
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.networkpro.job_service.service.analytics;
+
+import com.networkpro.job_service.dto.PostingVolumeDTO;
+import com.networkpro.job_service.dto.SalaryPercentileDTO;
+import com.networkpro.job_service.dto.SalaryStatsDTO;
+import com.networkpro.job_service.dto.VolumeInterval;
+import com.networkpro.job_service.model.Job;
+import com.networkpro.job_service.model.JobStatus;
+import com.networkpro.job_service.repository.ArchivedJobRepository;
+import com.networkpro.job_service.repository.JobRepository;
+import com.networkpro.job_service.service.JobChangeListener;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Salary percentiles and posting volume, kept as running aggregates instead of scanning jobs per
+ * request. Every job adds to the aggregate of each combination of its title, location and company
+ * (with any of them left open), so a query for one combination reads a single aggregate. Asking
+ * for several values of a dimension merges their aggregates. Aggregates cover every posting that
+ * has not been deleted or flagged as a duplicate, including closed and archived ones.
+ * <p>
+ * Only the aggregates are held: nothing is kept per job. An edit, delete or duplicate flag takes
+ * the job's old contribution back out using the copy of the job that comes with the event. At
+ * start-up they are rebuilt from postings grouped by their raw dimensions, salary and day.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobAnalyticsService implements JobChangeListener {
+    private static final String ANY = "*";
+    private static final int MAX_COMBINATIONS = 100;
+    private static final int MAX_PERIODS = 1000;
+    private static final List<Double> DEFAULT_PERCENTILES = List.of(0.1, 0.25, 0.5, 0.75, 0.9);
+
+    private final JobRepository jobRepository;
+    private final ArchivedJobRepository archivedJobRepository;
+
+    @Value("${job.analytics.relative-accuracy:0.01}")
+    private double relativeAccuracy;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Aggregate> aggregates = new HashMap<>();
+
+    @PostConstruct
+    public void load() {
+        long postings = 0;
+        lock.writeLock().lock();
+        try {
+            List<JobRepository.PostingGroup> groups = new ArrayList<>(jobRepository.countPostingGroups());
+            groups.addAll(archivedJobRepository.countPostingGroups());
+            for (JobRepository.PostingGroup group : groups) {
+                update(new Contribution(group.getTitle(), group.getLocation(), group.getCompany(),
+                        group.getSalary(), group.getDay()), group.getPostings());
+                postings += group.getPostings();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Built job analytics from {} postings", postings);
+    }
+
+    // Reached only for new jobs; edits arrive through onJobUpdated with the job's previous state.
+    @Override
+    public void onJobSaved(Job job) {
+        apply(null, job);
+    }
+
+    @Override
+    public void onJobUpdated(Job previous, Job job) {
+        apply(previous, job);
+    }
+
+    @Override
+    public void onJobDeleted(Job job) {
+        apply(job, null);
+    }
+
+    // Every delete passes the row to onJobDeleted(Job); there is nothing to do with the id alone.
+    @Override
+    public void onJobDeleted(Long jobId) {
+    }
+
+    @Override
+    public void onJobMarkedDuplicate(Job job, Long originalId) {
+        apply(job, null);
+    }
+
+    public SalaryStatsDTO salaryStats(List<String> titles, List<String> locations, List<String> companies,
+            List<Double> percentiles) {
+        List<Double> requested = percentiles == null || percentiles.isEmpty() ? DEFAULT_PERCENTILES : percentiles;
+        for (Double percentile : requested) {
+            if (percentile == null || percentile < 0 || percentile > 1) {
+                throw new IllegalArgumentException("Percentiles must be between 0 and 1");
+            }
+        }
+        QuantileSketch merged = new QuantileSketch(relativeAccuracy);
+        lock.readLock().lock();
+        try {
+            for (String key : keys(titles, locations, companies)) {
+                Aggregate aggregate = aggregates.get(key);
+                if (aggregate != null) {
+                    merged.merge(aggregate.salaries);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<SalaryPercentileDTO> values = merged.count() == 0 ? List.of() : requested.stream()
+                .map(percentile -> new SalaryPercentileDTO(percentile, merged.quantile(percentile)))
+                .toList();
+        return new SalaryStatsDTO(merged.count(), merged.count() == 0 ? null : merged.mean(), relativeAccuracy,
+                values);
+    }
+
+    /** Postings per period in {@code [from, to]}, including empty periods. */
+    public List<PostingVolumeDTO> postingVolume(List<String> titles, List<String> locations, List<String> companies,
+            LocalDate from, LocalDate to, VolumeInterval interval) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        LocalDate first = periodStart(from, interval);
+        long periods = switch (interval) {
+            case DAY -> ChronoUnit.DAYS.between(first, to);
+            case WEEK -> ChronoUnit.WEEKS.between(first, to);
+            case MONTH -> ChronoUnit.MONTHS.between(first, to);
+        } + 1;
+        if (periods > MAX_PERIODS) {
+            throw new IllegalArgumentException("At most " + MAX_PERIODS + " periods can be requested");
+        }
+        TreeMap<LocalDate, Long> counts = new TreeMap<>();
+        for (LocalDate period = first; !period.isAfter(to); period = next(period, interval)) {
+            counts.put(period, 0L);
+        }
+        lock.readLock().lock();
+        try {
+            for (String key : keys(titles, locations, companies)) {
+                Aggregate aggregate = aggregates.get(key);
+                if (aggregate != null) {
+                    aggregate.daily.subMap(from, true, to, true)
+                            .forEach((day, n) -> counts.merge(periodStart(day, interval), n, Long::sum));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return counts.entrySet().stream().map(entry -> new PostingVolumeDTO(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private void apply(Job previous, Job next) {
+        lock.writeLock().lock();
+        try {
+            if (counted(previous)) {
+                update(Contribution.of(previous), -1);
+            }
+            if (counted(next)) {
+                update(Contribution.of(next), 1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static boolean counted(Job job) {
+        return job != null && job.getStatus() != JobStatus.DUPLICATE;
+    }
+
+    private void update(Contribution contribution, long delta) {
+        for (String key : contribution.keys) {
+            Aggregate aggregate = aggregates.computeIfAbsent(key, k -> new Aggregate(relativeAccuracy));
+            if (contribution.salary != null) {
+                aggregate.salaries.update(contribution.salary, delta);
+            }
+            if (contribution.day != null) {
+                aggregate.daily.merge(contribution.day, delta, (a, b) -> a + b == 0 ? null : a + b);
+            }
+            if (aggregate.salaries.count() == 0 && aggregate.daily.isEmpty()) {
+                aggregates.remove(key);
+            }
+        }
+    }
+
+    private static List<String> keys(List<String> titles, List<String> locations, List<String> companies) {
+        List<String> titleKeys = dimension(titles);
+        List<String> locationKeys = dimension(locations);
+        List<String> companyKeys = dimension(companies);
+        if ((long) titleKeys.size() * locationKeys.size() * companyKeys.size() > MAX_COMBINATIONS) {
+            throw new IllegalArgumentException("At most " + MAX_COMBINATIONS
+                    + " title, location and company combinations can be requested");
+        }
+        List<String> keys = new ArrayList<>();
+        for (String title : titleKeys) {
+            for (String location : locationKeys) {
+                for (String company : companyKeys) {
+                    keys.add(key(title, location, company));
+                }
+            }
+        }
+        return keys;
+    }
+
+    private static List<String> dimension(List<String> values) {
+        List<String> keys = values == null ? List.of() : values.stream()
+                .filter(value -> value != null && !value.isBlank())
+                .map(JobAnalyticsService::normalize)
+                .distinct()
+                .toList();
+        return keys.isEmpty() ? List.of(ANY) : keys;
+    }
+
+    private static String key(String title, String location, String company) {
+        return title + '\u001f' + location + '\u001f' + company;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static LocalDate periodStart(LocalDate day, VolumeInterval interval) {
+        return switch (interval) {
+            case DAY -> day;
+            case WEEK -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> day.withDayOfMonth(1);
+        };
+    }
+
+    private static LocalDate next(LocalDate period, VolumeInterval interval) {
+        return switch (interval) {
+            case DAY -> period.plusDays(1);
+            case WEEK -> period.plusWeeks(1);
+            case MONTH -> period.plusMonths(1);
+        };
+    }
+
+    private static final class Aggregate {
+        private final QuantileSketch salaries;
+        private final TreeMap<LocalDate, Long> daily = new TreeMap<>();
+
+        private Aggregate(double relativeAccuracy) {
+            this.salaries = new QuantileSketch(relativeAccuracy);
+        }
+    }
+
+    /** What one posting adds to the aggregates; built again from the event to take it back out. */
+    private static final class Contribution {
+        private final List<String> keys = new ArrayList<>(8);
+        private final Double salary;
+        private final LocalDate day;
+
+        private static Contribution of(Job job) {
+            return new Contribution(job.getTitle(), job.getLocation(), job.getCompany(), job.getSalary(),
+                    job.getPostedAt() != null ? job.getPostedAt().toLocalDate() : null);
+        }
+
+        private Contribution(String title, String location, String company, Double salary, LocalDate day) {
+            for (String t : List.of(ANY, normalize(title))) {
+                for (String l : List.of(ANY, normalize(location))) {
+                    for (String c : List.of(ANY, normalize(company))) {
+                        keys.add(key(t, l, c));
+                    }
+                }
+            }
+            this.salary = salary;
+            this.day = day;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.networkpro.job_service.service.analytics;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Quantile sketch over non-negative values with logarithmic buckets (the DDSketch scheme).
+ * Bucket {@code i} holds values in {@code (gamma^(i-1), gamma^i]}, so any quantile it returns
+ * is within the configured relative accuracy of the true value. Values can be removed as well
+ * as added, and two sketches with the same accuracy merge by adding bucket counts.
+ */
+class QuantileSketch {
+    private static final double MIN_INDEXABLE = 1e-9;
+
+    private final double relativeAccuracy;
+    private final double logGamma;
+    private final TreeMap<Integer, Long> buckets = new TreeMap<>();
+    private long zeroCount;
+    private long count;
+    private double sum;
+
+    QuantileSketch(double relativeAccuracy) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException("Relative accuracy must be between 0 and 1");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.logGamma = Math.log((1 + relativeAccuracy) / (1 - relativeAccuracy));
+    }
+
+    void add(double value) {
+        update(value, 1);
+    }
+
+    void remove(double value) {
+        update(value, -1);
+    }
+
+    void merge(QuantileSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("Cannot merge sketches with different accuracy");
+        }
+        other.buckets.forEach((index, n) -> buckets.merge(index, n, Long::sum));
+        zeroCount += other.zeroCount;
+        count += other.count;
+        sum += other.sum;
+    }
+
+    long count() {
+        return count;
+    }
+
+    double mean() {
+        return count == 0 ? Double.NaN : sum / count;
+    }
+
+    /** Estimate of the {@code q}-quantile, {@code 0 <= q <= 1}; NaN when the sketch is empty. */
+    double quantile(double q) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        double rank = q * (count - 1);
+        long seen = zeroCount;
+        if (seen > rank) {
+            return 0;
+        }
+        for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+            seen += bucket.getValue();
+            if (seen > rank) {
+                return value(bucket.getKey());
+            }
+        }
+        return value(buckets.lastKey());
+    }
+
+    /** Adds {@code delta} occurrences of the value; a negative delta removes them. */
+    void update(double value, long delta) {
+        if (value < 0 || Double.isNaN(value)) {
+            throw new IllegalArgumentException("Sketch values must be non-negative");
+        }
+        if (value < MIN_INDEXABLE) {
+            zeroCount += delta;
+        } else {
+            buckets.merge((int) Math.ceil(Math.log(value) / logGamma), delta, (a, b) -> a + b == 0 ? null : a + b);
+        }
+        count += delta;
+        sum += value * delta;
+    }
+
+    // Midpoint, in relative terms, of the bucket's range.
+    private double value(int index) {
+        return 2 * Math.exp(index * logGamma) / (1 + Math.exp(logGamma));
+    }
+}
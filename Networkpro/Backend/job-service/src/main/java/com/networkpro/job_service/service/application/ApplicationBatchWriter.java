@@ -0,0 +1,77 @@
+package com.networkpro.job_service.service.application;
+
+import com.networkpro.job_service.model.JobApplication;
+import com.networkpro.job_service.repository.JobApplicationCounterRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Inserts a batch of applications with one multi-row INSERT ... ON CONFLICT DO NOTHING and
+ * adds the per-job applicant deltas to random counter shards, all in one transaction. Rows
+ * that conflict with an existing application (a retry, or a second apply to the same job) are
+ * skipped and left for the caller to resolve.
+ */
+@Component
+@RequiredArgsConstructor
+class ApplicationBatchWriter {
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JobApplicationCounterRepository counterRepository;
+
+    @Value("${job.applications.counter-shards:16}")
+    private int counterShards;
+
+    /** Returns the generated id of every inserted row, keyed by {@link #key(Long, Long)}. */
+    Map<String, Long> insert(List<JobApplication> applications) {
+        if (applications.isEmpty()) {
+            return Map.of();
+        }
+        StringBuilder sql = new StringBuilder("INSERT INTO job_applications (job_id, user_id, idempotency_key, "
+                + "cover_letter, resume_url, status, created_at, updated_at) VALUES ");
+        List<Object> args = new ArrayList<>(applications.size() * 7);
+        for (int i = 0; i < applications.size(); i++) {
+            JobApplication application = applications.get(i);
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?, ?, ?, ?)");
+            args.add(application.getJobId());
+            args.add(application.getUserId());
+            args.add(application.getIdempotencyKey());
+            args.add(application.getCoverLetter());
+            args.add(application.getResumeUrl());
+            args.add(application.getStatus().name());
+            args.add(Timestamp.valueOf(application.getCreatedAt()));
+            args.add(Timestamp.valueOf(application.getUpdatedAt()));
+        }
+        sql.append(" ON CONFLICT DO NOTHING RETURNING id, job_id, user_id");
+
+        return transactionTemplate.execute(status -> {
+            Map<String, Long> inserted = new HashMap<>();
+            Map<Long, Long> perJob = new HashMap<>();
+            jdbcTemplate.query(sql.toString(), rs -> {
+                long jobId = rs.getLong("job_id");
+                inserted.put(key(jobId, rs.getLong("user_id")), rs.getLong("id"));
+                perJob.merge(jobId, 1L, Long::sum);
+            }, args.toArray());
+            perJob.forEach((jobId, delta) -> addApplicants(jobId, delta));
+            return inserted;
+        });
+    }
+
+    /** Adds to the applicant count within the caller's transaction. */
+    void addApplicants(Long jobId, long delta) {
+        counterRepository.add(jobId, ThreadLocalRandom.current().nextInt(counterShards), delta);
+    }
+
+    static String key(Long jobId, Long userId) {
+        return jobId + ":" + userId;
+    }
+}
@@ -0,0 +1,144 @@
+package com.networkpro.job_service.service.application;
+
+import com.networkpro.job_service.model.JobApplication;
+import com.networkpro.job_service.repository.JobApplicationRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group commit for application submissions. Request threads queue their application and wait
+ * on a future; a single writer thread drains the queue and commits up to
+ * {@code job.applications.batch-size} applications per transaction. A burst of applications to
+ * one posting therefore costs one insert and one counter upsert per batch, not per applicant.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class ApplicationPipeline {
+    private final ApplicationBatchWriter batchWriter;
+    private final JobApplicationRepository applicationRepository;
+
+    @Value("${job.applications.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${job.applications.batch-size:500}")
+    private int batchSize;
+
+    @Value("${job.applications.flush-interval-ms:10}")
+    private long flushIntervalMs;
+
+    private BlockingQueue<PendingApplication> queue;
+    private Thread writer;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        writer = new Thread(this::writeLoop, "application-writer");
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    /**
+     * Queues the application; the future completes with the stored application, which is an
+     * earlier one when this user has already applied to the job.
+     */
+    CompletableFuture<JobApplication> submit(JobApplication application) {
+        PendingApplication pending = new PendingApplication(application);
+        if (!running || !queue.offer(pending)) {
+            throw new RejectedExecutionException("Too many applications in flight, try again later");
+        }
+        return pending.result;
+    }
+
+    private void writeLoop() {
+        List<PendingApplication> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingApplication first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+            } catch (InterruptedException e) {
+                if (running) {
+                    continue;
+                }
+                queue.drainTo(batch);
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<PendingApplication> batch) {
+        Map<String, Long> inserted;
+        try {
+            inserted = batchWriter.insert(batch.stream().map(pending -> pending.application).toList());
+        } catch (RuntimeException e) {
+            // Nothing was committed; clients retry with the same idempotency key.
+            log.warn("Failed to write {} applications", batch.size(), e);
+            batch.forEach(pending -> pending.result.completeExceptionally(e));
+            return;
+        }
+        for (PendingApplication pending : batch) {
+            JobApplication application = pending.application;
+            Long id = inserted.remove(ApplicationBatchWriter.key(application.getJobId(), application.getUserId()));
+            try {
+                if (id != null) {
+                    application.setId(id);
+                    pending.result.complete(application);
+                } else {
+                    pending.result.complete(existing(application));
+                }
+            } catch (RuntimeException e) {
+                pending.result.completeExceptionally(e);
+            }
+        }
+    }
+
+    private JobApplication existing(JobApplication application) {
+        Optional<JobApplication> sameJob = applicationRepository.findByJobIdAndUserId(application.getJobId(),
+                application.getUserId());
+        if (sameJob.isPresent()) {
+            return sameJob.get();
+        }
+        JobApplication sameKey = applicationRepository.findByUserIdAndIdempotencyKey(application.getUserId(),
+                application.getIdempotencyKey()).orElseThrow(() -> new IllegalStateException(
+                        "Application conflicted but no existing application was found"));
+        throw new IllegalStateException("Idempotency key was already used to apply to job " + sameKey.getJobId());
+    }
+
+    private static final class PendingApplication {
+        private final JobApplication application;
+        private final CompletableFuture<JobApplication> result = new CompletableFuture<>();
+
+        private PendingApplication(JobApplication application) {
+            this.application = application;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.networkpro.job_service.service.application;
+
+import com.networkpro.job_service.dto.ApplicantCountDTO;
+import com.networkpro.job_service.dto.ApplicationDTO;
+import com.networkpro.job_service.dto.ApplicationRequestDTO;
+import com.networkpro.job_service.dto.CursorPage;
+import com.networkpro.job_service.model.ApplicationStatus;
+import com.networkpro.job_service.model.Job;
+import com.networkpro.job_service.model.JobApplication;
+import com.networkpro.job_service.model.JobStatus;
+import com.networkpro.job_service.repository.JobApplicationCounterRepository;
+import com.networkpro.job_service.repository.JobApplicationRepository;
+import com.networkpro.job_service.repository.JobRepository;
+import com.networkpro.job_service.service.JobChangeListener;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Job applications. Submissions are idempotent: retrying with the same {@code Idempotency-Key},
+ * or applying to the same job again, returns the original application. Withdrawing is final.
+ */
+@Service
+@RequiredArgsConstructor
+public class ApplicationService implements JobChangeListener {
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final JobRepository jobRepository;
+    private final JobApplicationRepository applicationRepository;
+    private final JobApplicationCounterRepository counterRepository;
+    private final ApplicationPipeline pipeline;
+    private final ApplicationBatchWriter batchWriter;
+
+    @Value("${job.applications.submit-timeout-ms:5000}")
+    private long submitTimeoutMs;
+
+    /** Returns empty when the job does not exist. */
+    public Optional<ApplicationDTO> submit(Long jobId, ApplicationRequestDTO request, String idempotencyKey) {
+        if (idempotencyKey != null && (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH)) {
+            throw new IllegalArgumentException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        Optional<JobStatus> jobStatus = jobRepository.findStatusById(jobId);
+        if (jobStatus.isEmpty()) {
+            return Optional.empty();
+        }
+        if (jobStatus.get() != JobStatus.OPEN) {
+            throw new IllegalStateException("Job is no longer accepting applications");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        JobApplication application = new JobApplication(null, jobId, request.getUserId(), idempotencyKey,
+                request.getCoverLetter(), request.getResumeUrl(), ApplicationStatus.SUBMITTED, now, now);
+        try {
+            return Optional.of(toDTO(pipeline.submit(application).get(submitTimeoutMs, TimeUnit.MILLISECONDS)));
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Application is still being processed, retry with the same key", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while submitting application", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : new CompletionException(e.getCause());
+        }
+    }
+
+    /** Returns empty when the application does not exist or belongs to another user. */
+    @Transactional
+    public Optional<ApplicationDTO> withdraw(Long applicationId, Long userId) {
+        Optional<JobApplication> application = applicationRepository.findById(applicationId)
+                .filter(found -> found.getUserId().equals(userId));
+        if (application.isEmpty()) {
+            return Optional.empty();
+        }
+        if (applicationRepository.withdraw(applicationId, LocalDateTime.now()) == 1) {
+            batchWriter.addApplicants(application.get().getJobId(), -1);
+        }
+        return applicationRepository.findById(applicationId).map(ApplicationService::toDTO);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<ApplicationDTO> listByJob(Long jobId, ApplicationStatus status, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        long afterId = cursor == null || cursor.isBlank() ? 0 : parseCursor(cursor);
+        PageRequest firstRows = PageRequest.of(0, pageSize + 1);
+        List<JobApplication> rows = status == null
+                ? applicationRepository.findByJobIdAndIdGreaterThanOrderByIdAsc(jobId, afterId, firstRows)
+                : applicationRepository.findByJobIdAndStatusAndIdGreaterThanOrderByIdAsc(jobId, status, afterId,
+                        firstRows);
+        return page(rows, pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<ApplicationDTO> listByUser(Long userId, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        long beforeId = cursor == null || cursor.isBlank() ? Long.MAX_VALUE : parseCursor(cursor);
+        return page(applicationRepository.findByUserIdAndIdLessThanOrderByIdDesc(userId, beforeId,
+                PageRequest.of(0, pageSize + 1)), pageSize);
+    }
+
+    public ApplicantCountDTO countApplicants(Long jobId) {
+        return new ApplicantCountDTO(jobId, counterRepository.sumByJobId(jobId));
+    }
+
+    @Override
+    public void onJobSaved(Job job) {
+    }
+
+    @Override
+    @Transactional
+    public void onJobDeleted(Long jobId) {
+        applicationRepository.deleteByJobId(jobId);
+        counterRepository.deleteByJobId(jobId);
+    }
+
+    private static CursorPage<ApplicationDTO> page(List<JobApplication> rows, int pageSize) {
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows.stream().map(ApplicationService::toDTO).toList(), null);
+        }
+        List<JobApplication> page = rows.subList(0, pageSize);
+        return new CursorPage<>(page.stream().map(ApplicationService::toDTO).toList(),
+                String.valueOf(page.get(pageSize - 1).getId()));
+    }
+
+    private static long parseCursor(String cursor) {
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    private static ApplicationDTO toDTO(JobApplication application) {
+        ApplicationDTO dto = new ApplicationDTO();
+        dto.setId(application.getId());
+        dto.setJobId(application.getJobId());
+        dto.setUserId(application.getUserId());
+        dto.setStatus(application.getStatus());
+        dto.setCoverLetter(application.getCoverLetter());
+        dto.setResumeUrl(application.getResumeUrl());
+        dto.setCreatedAt(application.getCreatedAt());
+        dto.setUpdatedAt(application.getUpdatedAt());
+        return dto;
+    }
+}
@@ -0,0 +1,89 @@
+package com.networkpro.job_service.service.dedup;
+
+import com.networkpro.job_service.model.Job;
+import com.networkpro.job_service.model.JobStatus;
+import com.networkpro.job_service.repository.JobRepository;
+import com.networkpro.job_service.service.JobChangeListener;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Finds the open job at the same location that a new posting reposts. Open jobs are fingerprinted into a
+ * {@link SimHashIndex} kept in step through {@link JobChangeListener}, so a lookup costs a
+ * fingerprint and a few hash probes regardless of how many jobs are open.
+ */
+@Slf4j
+@Component
+public class DuplicateDetector implements JobChangeListener {
+    private static final int LOAD_BATCH = 1000;
+
+    private final JobRepository jobRepository;
+    private final int maxDistance;
+    private final SimHashIndex index;
+
+    public DuplicateDetector(JobRepository jobRepository, @Value("${job.dedup.max-distance:5}") int maxDistance) {
+        this.jobRepository = jobRepository;
+        this.maxDistance = maxDistance;
+        this.index = new SimHashIndex(maxDistance);
+    }
+
+    @PostConstruct
+    public void load() {
+        long afterId = 0;
+        List<Job> batch;
+        while (!(batch = jobRepository.findByStatusAndIdGreaterThanOrderByIdAsc(JobStatus.OPEN, afterId,
+                PageRequest.of(0, LOAD_BATCH))).isEmpty()) {
+            batch.forEach(this::onJobSaved);
+            afterId = batch.get(batch.size() - 1).getId();
+        }
+        log.info("Fingerprinted {} open jobs for duplicate detection", size());
+    }
+
+    /** Id of the open job this one duplicates, if any. */
+    public Optional<Long> findDuplicate(Job job) {
+        long fingerprint = fingerprint(job);
+        synchronized (index) {
+            return index.nearest(fingerprint, job.getLocation());
+        }
+    }
+
+    @Override
+    public void onJobSaved(Job job) {
+        long fingerprint = fingerprint(job);
+        synchronized (index) {
+            index.put(job.getId(), fingerprint, job.getLocation());
+        }
+    }
+
+    @Override
+    public void onJobDeleted(Long jobId) {
+        synchronized (index) {
+            index.remove(jobId);
+        }
+    }
+
+    @Override
+    public void onJobClosed(Long jobId) {
+        onJobDeleted(jobId);
+    }
+
+    int maxDistance() {
+        return maxDistance;
+    }
+
+    private int size() {
+        synchronized (index) {
+            return index.size();
+        }
+    }
+
+    static long fingerprint(Job job) {
+        return SimHashIndex.fingerprint(job.getTitle(), job.getCompany(), job.getDescription());
+    }
+}
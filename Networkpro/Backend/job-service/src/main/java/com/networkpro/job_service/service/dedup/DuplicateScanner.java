@@ -0,0 +1,64 @@
+package com.networkpro.job_service.service.dedup;
+
+import com.networkpro.job_service.dto.DedupResultDTO;
+import com.networkpro.job_service.model.Job;
+import com.networkpro.job_service.model.JobStatus;
+import com.networkpro.job_service.repository.JobRepository;
+import com.networkpro.job_service.service.JobChangeListener;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Flags duplicates among jobs that are already open, such as reposts that raced each other
+ * past {@link DuplicateDetector} or were stored before it existed. Jobs are walked oldest
+ * first through a fresh {@link SimHashIndex}, so the earliest posting of a group stays open.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DuplicateScanner {
+    private static final int BATCH_SIZE = 1000;
+
+    private final JobRepository jobRepository;
+    private final DuplicateDetector detector;
+    private final List<JobChangeListener> changeListeners;
+
+    @Scheduled(cron = "${job.dedup.scan-cron:0 45 2 * * *}")
+    public void scheduledScan() {
+        scan();
+    }
+
+    public synchronized DedupResultDTO scan() {
+        SimHashIndex seen = new SimHashIndex(detector.maxDistance());
+        long scanned = 0;
+        long flagged = 0;
+        long afterId = 0;
+        List<Job> batch;
+        while (!(batch = jobRepository.findByStatusAndIdGreaterThanOrderByIdAsc(JobStatus.OPEN, afterId,
+                PageRequest.of(0, BATCH_SIZE))).isEmpty()) {
+            for (Job job : batch) {
+                long fingerprint = DuplicateDetector.fingerprint(job);
+                Optional<Long> original = seen.nearest(fingerprint, job.getLocation());
+                if (original.isEmpty()) {
+                    seen.put(job.getId(), fingerprint, job.getLocation());
+                } else if (jobRepository.markDuplicate(job.getId(), original.get(), LocalDateTime.now()) == 1) {
+                    changeListeners.forEach(listener -> listener.onJobMarkedDuplicate(job, original.get()));
+                    flagged++;
+                }
+            }
+            scanned += batch.size();
+            afterId = batch.get(batch.size() - 1).getId();
+        }
+        if (flagged > 0) {
+            log.info("Flagged {} of {} open jobs as duplicates", flagged, scanned);
+        }
+        return new DedupResultDTO(scanned, flagged);
+    }
+}
@@ -0,0 +1,181 @@
+package com.networkpro.job_service.service.dedup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 64-bit SimHash fingerprints of job postings and a banded index over them. The fingerprint
+ * is split into {@code maxDistance + 1} bands. Two fingerprints within {@code maxDistance}
+ * differing bits must agree exactly on at least one band, so candidates come from one hash
+ * lookup per band rather than from a scan. Postings only match within the same normalized
+ * location: the same role and template advertised in several cities are separate openings,
+ * not reposts. Not thread-safe.
+ */
+class SimHashIndex {
+    // Each field's share of the fingerprint, so a long shared description cannot outvote a different title.
+    private static final double TITLE_WEIGHT = 0.4;
+    private static final double COMPANY_WEIGHT = 0.2;
+    private static final double DESCRIPTION_WEIGHT = 0.4;
+
+    private final int maxDistance;
+    private final int[] bandShifts;
+    private final long[] bandMasks;
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final List<Map<Long, List<Long>>> bands = new ArrayList<>();
+
+    SimHashIndex(int maxDistance) {
+        if (maxDistance < 0 || maxDistance > 15) {
+            throw new IllegalArgumentException("maxDistance must be between 0 and 15");
+        }
+        this.maxDistance = maxDistance;
+        int count = maxDistance + 1;
+        bandShifts = new int[count];
+        bandMasks = new long[count];
+        for (int band = 0, shift = 0; band < count; band++) {
+            int width = 64 / count + (band < 64 % count ? 1 : 0);
+            bandShifts[band] = shift;
+            bandMasks[band] = width == 64 ? -1L : (1L << width) - 1;
+            shift += width;
+            bands.add(new HashMap<>());
+        }
+    }
+
+    static long fingerprint(String title, String company, String description) {
+        double[] votes = new double[64];
+        vote(votes, "t", title, TITLE_WEIGHT);
+        vote(votes, "c", company, COMPANY_WEIGHT);
+        vote(votes, "d", description, DESCRIPTION_WEIGHT);
+        long fingerprint = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            if (votes[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    /** Lowercased words of the location, so case, spacing and punctuation do not matter. */
+    static String locationKey(String location) {
+        if (location == null) {
+            return "";
+        }
+        return String.join(" ", location.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{Nd}]+")).trim();
+    }
+
+    void put(Long id, long fingerprint, String location) {
+        remove(id);
+        Entry entry = new Entry(fingerprint, locationKey(location));
+        entries.put(id, entry);
+        for (int band = 0; band < bands.size(); band++) {
+            bands.get(band).computeIfAbsent(bandKey(entry, band), v -> new ArrayList<>(1)).add(id);
+        }
+    }
+
+    void remove(Long id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        for (int band = 0; band < bands.size(); band++) {
+            long value = bandKey(entry, band);
+            List<Long> ids = bands.get(band).get(value);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                bands.get(band).remove(value);
+            }
+        }
+    }
+
+    /** The closest id at the same location within {@code maxDistance} bits, preferring the oldest on ties. */
+    Optional<Long> nearest(long fingerprint, String location) {
+        Entry query = new Entry(fingerprint, locationKey(location));
+        Long best = null;
+        int bestDistance = maxDistance + 1;
+        for (int band = 0; band < bands.size(); band++) {
+            List<Long> ids = bands.get(band).get(bandKey(query, band));
+            if (ids == null) {
+                continue;
+            }
+            for (Long id : ids) {
+                Entry candidate = entries.get(id);
+                if (!candidate.location().equals(query.location())) {
+                    continue; // band keys of two locations can collide
+                }
+                int distance = Long.bitCount(candidate.fingerprint() ^ fingerprint);
+                if (distance < bestDistance || (best != null && distance == bestDistance && id < best)) {
+                    best = id;
+                    bestDistance = distance;
+                }
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    // The band bits salted with the location, so each location has its own buckets.
+    private long bandKey(Entry entry, int band) {
+        return ((entry.fingerprint() >>> bandShifts[band]) & bandMasks[band]) ^ mix(entry.location().hashCode());
+    }
+
+    // Features are the field's words and adjacent word pairs, so reordering text also moves the
+    // fingerprint. Scaling by 1/sqrt(n) gives each field the same typical pull on every bit however
+    // long it is; dividing by n would let a five-word title outvote the whole description.
+    private static void vote(double[] votes, String field, String text, double weight) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        String[] words = text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{Nd}]+");
+        long[] features = new long[words.length * 2];
+        int count = 0;
+        long previous = 0;
+        for (String word : words) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            long hash = hash(field, word);
+            if (count > 0) {
+                features[count++] = mix(previous * 31 + hash);
+            }
+            features[count++] = hash;
+            previous = hash;
+        }
+        if (count == 0) {
+            return;
+        }
+        double share = weight / Math.sqrt(count);
+        for (int i = 0; i < count; i++) {
+            long hash = features[i];
+            for (int bit = 0; bit < 64; bit++) {
+                votes[bit] += ((hash >>> bit) & 1) != 0 ? share : -share;
+            }
+        }
+    }
+
+    // FNV-1a over the field tag and word, finished with the SplitMix64 mixer for well-spread bits.
+    private static long hash(String field, String word) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < field.length(); i++) {
+            h = (h ^ field.charAt(i)) * 0x100000001b3L;
+        }
+        h = (h ^ ':') * 0x100000001b3L;
+        for (int i = 0; i < word.length(); i++) {
+            h = (h ^ word.charAt(i)) * 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        return h ^ (h >>> 31);
+    }
+
+    private record Entry(long fingerprint, String location) {
+    }
+}
@@ -0,0 +1,126 @@
+package com.networkpro.job_service.service.feed;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * RFC 4180 CSV: the first row names the columns, fields may be quoted, and quoted fields may
+ * contain commas, doubled quotes and line breaks.
+ */
+class CsvFeedReader implements FeedReader {
+    private static final int MAX_FIELD_LENGTH = 1 << 20;
+
+    private final Reader reader;
+    private final List<String> header;
+    private final List<String> row = new ArrayList<>();
+    private final StringBuilder field = new StringBuilder();
+    private final char[] buffer = new char[64 * 1024];
+    private int buffered;
+    private int next;
+    private long line = 1;
+    private long rowLine; // line the current row starts on
+
+    CsvFeedReader(InputStream in) throws IOException {
+        this.reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+        if (!readRow()) {
+            throw new IllegalArgumentException("CSV feed is empty");
+        }
+        if (row.get(0).startsWith("\uFEFF")) {
+            row.set(0, row.get(0).substring(1));
+        }
+        header = row.stream().map(name -> name.trim().toLowerCase(Locale.ROOT)).toList();
+    }
+
+    @Override
+    public Map<String, String> next() throws IOException {
+        while (readRow()) {
+            if (row.size() == 1 && row.get(0).isEmpty()) {
+                continue;
+            }
+            if (row.size() > header.size()) {
+                // The whole row has been consumed, so the import can reject it and go on.
+                throw new RejectedRecordException("CSV line " + rowLine + " has more fields than the header");
+            }
+            Map<String, String> record = new HashMap<>();
+            for (int i = 0; i < row.size(); i++) {
+                record.put(header.get(i), row.get(i));
+            }
+            return record;
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private boolean readRow() throws IOException {
+        rowLine = line;
+        row.clear();
+        field.setLength(0);
+        int c = read();
+        if (c == -1) {
+            return false;
+        }
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("Unterminated quoted field at CSV line " + line);
+                }
+                if (c == '"') {
+                    c = read();
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                } else if (c == '\n') {
+                    line++;
+                }
+                append(c);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                row.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                row.add(field.toString());
+                line++;
+                return true;
+            } else if (c != '\r') {
+                append(c);
+            }
+            c = read();
+        }
+    }
+
+    // Reader.read() per character is far slower than indexing a local buffer.
+    private int read() throws IOException {
+        if (next == buffered) {
+            buffered = reader.read(buffer, 0, buffer.length);
+            next = 0;
+            if (buffered <= 0) {
+                buffered = 0;
+                return -1;
+            }
+        }
+        return buffer[next++];
+    }
+
+    private void append(int c) {
+        if (field.length() >= MAX_FIELD_LENGTH) {
+            throw new IllegalArgumentException("CSV field longer than " + MAX_FIELD_LENGTH + " characters at line "
+                    + line);
+        }
+        field.append((char) c);
+    }
+}
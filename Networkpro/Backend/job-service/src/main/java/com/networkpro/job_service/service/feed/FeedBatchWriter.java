@@ -0,0 +1,109 @@
+package com.networkpro.job_service.service.feed;
+
+import com.networkpro.job_service.model.Job;
+import com.networkpro.job_service.model.JobStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Upserts a batch of feed jobs with one multi-row INSERT ... ON CONFLICT on the partner key. An
+ * existing job keeps its id, status and original posting time and takes everything else from
+ * the feed, except that an expired job is reopened, as {@code JobService} does when an expiry is
+ * extended; feed jobs always expire in the future.
+ */
+@Component
+@RequiredArgsConstructor
+class FeedBatchWriter {
+    private static final String COLUMNS = "title, description, company, location, salary, posted_at, latitude, "
+            + "longitude, status, expires_at, partner_id, partner_job_id, closed_at, duplicate_of";
+    private static final String UPSERT_SUFFIX = " ON CONFLICT (partner_id, partner_job_id) DO UPDATE SET "
+            + "title = EXCLUDED.title, description = EXCLUDED.description, company = EXCLUDED.company, "
+            + "location = EXCLUDED.location, salary = EXCLUDED.salary, latitude = EXCLUDED.latitude, "
+            + "longitude = EXCLUDED.longitude, expires_at = EXCLUDED.expires_at, "
+            + "status = CASE WHEN jobs.status = 'EXPIRED' THEN 'OPEN' ELSE jobs.status END, "
+            + "closed_at = CASE WHEN jobs.status = 'EXPIRED' THEN NULL ELSE jobs.closed_at END "
+            + "RETURNING id, " + COLUMNS + ", (xmax = 0) AS inserted";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Jobs must have distinct partner ids; rows are written in the order given. */
+    List<Written> upsert(Collection<Job> jobs) {
+        if (jobs.isEmpty()) {
+            return List.of();
+        }
+        StringBuilder sql = new StringBuilder("INSERT INTO jobs (" + COLUMNS + ") VALUES ");
+        List<Object> args = new ArrayList<>(jobs.size() * 14);
+        int row = 0;
+        for (Job job : jobs) {
+            sql.append(row++ == 0 ? "" : ", ").append("(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+            args.add(job.getTitle());
+            args.add(job.getDescription());
+            args.add(job.getCompany());
+            args.add(job.getLocation());
+            args.add(job.getSalary());
+            args.add(Timestamp.valueOf(job.getPostedAt()));
+            args.add(job.getLatitude());
+            args.add(job.getLongitude());
+            args.add(job.getStatus().name());
+            args.add(Timestamp.valueOf(job.getExpiresAt()));
+            args.add(job.getPartnerId());
+            args.add(job.getPartnerJobId());
+            args.add(job.getClosedAt() != null ? Timestamp.valueOf(job.getClosedAt()) : null);
+            args.add(job.getDuplicateOf());
+        }
+        sql.append(UPSERT_SUFFIX);
+        return jdbcTemplate.query(sql.toString(), (rs, i) -> new Written(toJob(rs), rs.getBoolean("inserted")),
+                args.toArray());
+    }
+
+    private static Job toJob(ResultSet rs) throws SQLException {
+        Job job = new Job();
+        job.setId(rs.getLong("id"));
+        job.setTitle(rs.getString("title"));
+        job.setDescription(rs.getString("description"));
+        job.setCompany(rs.getString("company"));
+        job.setLocation(rs.getString("location"));
+        job.setSalary(rs.getObject("salary", Double.class));
+        job.setPostedAt(toLocalDateTime(rs.getTimestamp("posted_at")));
+        job.setLatitude(rs.getObject("latitude", Double.class));
+        job.setLongitude(rs.getObject("longitude", Double.class));
+        job.setStatus(JobStatus.valueOf(rs.getString("status")));
+        job.setExpiresAt(toLocalDateTime(rs.getTimestamp("expires_at")));
+        job.setClosedAt(toLocalDateTime(rs.getTimestamp("closed_at")));
+        job.setDuplicateOf(rs.getObject("duplicate_of", Long.class));
+        job.setPartnerId(rs.getString("partner_id"));
+        job.setPartnerJobId(rs.getString("partner_job_id"));
+        return job;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    static final class Written {
+        private final Job job;
+        private final boolean inserted;
+
+        private Written(Job job, boolean inserted) {
+            this.job = job;
+            this.inserted = inserted;
+        }
+
+        Job job() {
+            return job;
+        }
+
+        boolean inserted() {
+            return inserted;
+        }
+    }
+}
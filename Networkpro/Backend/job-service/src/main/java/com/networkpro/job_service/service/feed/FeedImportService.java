@@ -0,0 +1,452 @@
+package com.networkpro.job_service.service.feed;
+
+import com.networkpro.job_service.dto.FeedImportDTO;
+import com.networkpro.job_service.model.FeedFormat;
+import com.networkpro.job_service.model.FeedImport;
+import com.networkpro.job_service.model.ImportStatus;
+import com.networkpro.job_service.model.Job;
+import com.networkpro.job_service.model.JobStatus;
+import com.networkpro.job_service.repository.FeedImportRepository;
+import com.networkpro.job_service.repository.JobRepository;
+import com.networkpro.job_service.service.JobChangeListener;
+import com.networkpro.job_service.service.dedup.DuplicateDetector;
+import com.networkpro.job_service.service.geo.Gazetteer;
+import com.networkpro.job_service.service.geo.GeoPoint;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import of partner job feeds. The upload is spooled to disk, then one thread parses it
+ * through a {@link MappedFileInputStream} and hands batches of validated jobs to a bounded
+ * queue, and writer threads upsert them by partner job id with {@link FeedBatchWriter}. When
+ * the writers fall behind the queue fills and parsing blocks, so heap use depends on the batch
+ * and queue sizes, never on the size of the feed. New jobs that repost an open job are written
+ * flagged as duplicates, as {@code JobService.createJob} does.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedImportService {
+    private static final int MAX_FIELD_LENGTH = 255;
+    private static final int MAX_ERRORS = 20;
+    private static final long MAP_WINDOW = 64L << 20;
+    private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final List<Job> END = List.of();
+
+    private final FeedImportRepository importRepository;
+    private final FeedBatchWriter batchWriter;
+    private final JobRepository jobRepository;
+    private final DuplicateDetector duplicateDetector;
+    private final Gazetteer gazetteer;
+    private final List<JobChangeListener> changeListeners;
+
+    @Value("${job.imports.dir:data/job-imports}")
+    private String importDir;
+
+    @Value("${job.imports.max-size-bytes:4294967296}")
+    private long maxSizeBytes;
+
+    @Value("${job.imports.concurrency:1}")
+    private int concurrency;
+
+    @Value("${job.imports.max-queued:16}")
+    private int maxQueued;
+
+    @Value("${job.imports.writer-threads:2}")
+    private int writerThreads;
+
+    @Value("${job.imports.batch-size:500}")
+    private int batchSize;
+
+    @Value("${job.imports.queue-batches:4}")
+    private int queueBatches;
+
+    @Value("${job.lifecycle.default-ttl-days:30}")
+    private int defaultTtlDays;
+
+    private ExecutorService importers;
+    private ExecutorService writers;
+
+    @PostConstruct
+    public void start() {
+        if (batchSize < 1 || batchSize > 2000) {
+            throw new IllegalStateException("job.imports.batch-size must be between 1 and 2000");
+        }
+        importers = new ThreadPoolExecutor(concurrency, concurrency, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(maxQueued), runnable -> new Thread(runnable, "feed-importer"));
+        writers = Executors.newFixedThreadPool(concurrency * writerThreads,
+                runnable -> new Thread(runnable, "feed-writer"));
+    }
+
+    @PreDestroy
+    public void stop() {
+        importers.shutdownNow();
+        writers.shutdownNow();
+    }
+
+    /** Spools the feed to disk and queues it for import; rejects when too many imports are waiting. */
+    public FeedImportDTO startImport(String partnerId, FeedFormat format, InputStream body) {
+        if (partnerId == null || partnerId.isBlank() || partnerId.length() > MAX_FIELD_LENGTH) {
+            throw new IllegalArgumentException("Partner id must be 1 to " + MAX_FIELD_LENGTH + " characters");
+        }
+        Path file = Paths.get(importDir, UUID.randomUUID() + ".feed");
+        long size = spool(body, file);
+        FeedImport feedImport = importRepository.save(new FeedImport(null, partnerId.trim(), format,
+                ImportStatus.QUEUED, size, 0, 0, 0, 0, 0, null, LocalDateTime.now(), null));
+        try {
+            importers.execute(() -> runImport(feedImport, file));
+        } catch (RuntimeException e) {
+            deleteQuietly(file);
+            importRepository.delete(feedImport);
+            throw e;
+        }
+        return toDTO(feedImport);
+    }
+
+    public Optional<FeedImportDTO> getImport(Long id) {
+        return importRepository.findById(id).map(FeedImportService::toDTO);
+    }
+
+    private long spool(InputStream body, Path file) {
+        try {
+            Files.createDirectories(file.getParent());
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                    ReadableByteChannel source = Channels.newChannel(body)) {
+                long position = 0;
+                long transferred;
+                while ((transferred = channel.transferFrom(source, position, 1 << 20)) > 0) {
+                    position += transferred;
+                    if (position > maxSizeBytes) {
+                        throw new IllegalArgumentException("Feed exceeds " + maxSizeBytes + " bytes");
+                    }
+                }
+                if (position == 0) {
+                    throw new IllegalArgumentException("Feed is empty");
+                }
+                return position;
+            }
+        } catch (IOException e) {
+            deleteQuietly(file);
+            throw new UncheckedIOException("Failed to store feed", e);
+        } catch (RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+    }
+
+    private void runImport(FeedImport feedImport, Path file) {
+        Progress progress = new Progress();
+        feedImport.setStatus(ImportStatus.RUNNING);
+        importRepository.save(feedImport);
+        BlockingQueue<List<Job>> queue = new ArrayBlockingQueue<>(queueBatches);
+        List<Future<?>> writing = new ArrayList<>();
+        try (MappedFileInputStream in = new MappedFileInputStream(file, MAP_WINDOW);
+                FeedReader reader = FeedReader.open(feedImport.getFormat(), in)) {
+            for (int i = 0; i < writerThreads; i++) {
+                writing.add(writers.submit(() -> writeLoop(queue, progress)));
+            }
+            Map<String, Job> batch = new LinkedHashMap<>();
+            long lastSave = System.nanoTime();
+            while (true) {
+                Map<String, String> record;
+                try {
+                    record = reader.next();
+                } catch (FeedReader.RejectedRecordException e) {
+                    // The reader has skipped the bad record; count it and carry on with the next one.
+                    progress.reject("Record " + progress.recordsRead.incrementAndGet() + ": " + e.getMessage());
+                    continue;
+                }
+                if (record == null) {
+                    break;
+                }
+                long number = progress.recordsRead.incrementAndGet();
+                try {
+                    Job job = toJob(feedImport.getPartnerId(), record);
+                    // A later row for the same partner id replaces the earlier one within a batch.
+                    batch.put(job.getPartnerJobId(), job);
+                } catch (IllegalArgumentException e) {
+                    progress.reject("Record " + number + ": " + e.getMessage());
+                }
+                if (batch.size() >= batchSize) {
+                    handOff(queue, batch, writing);
+                }
+                if (System.nanoTime() - lastSave > PROGRESS_INTERVAL_NANOS) {
+                    saveProgress(feedImport, progress, in.position(), ImportStatus.RUNNING);
+                    lastSave = System.nanoTime();
+                }
+            }
+            handOff(queue, batch, writing);
+            finishWriters(queue, writing);
+            saveProgress(feedImport, progress, in.size(), ImportStatus.COMPLETED);
+            log.info("Imported feed {} from partner {}: {} inserted, {} updated, {} rejected", feedImport.getId(),
+                    feedImport.getPartnerId(), progress.inserted, progress.updated, progress.rejected);
+        } catch (Exception e) {
+            writing.forEach(future -> future.cancel(true));
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            progress.errors.add("Import failed: " + cause.getMessage());
+            saveProgress(feedImport, progress, feedImport.getBytesRead(), ImportStatus.FAILED);
+            log.warn("Feed import {} failed", feedImport.getId(), cause);
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    private void handOff(BlockingQueue<List<Job>> queue, Map<String, Job> batch, List<Future<?>> writing)
+            throws InterruptedException, ExecutionException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Job> jobs = new ArrayList<>(batch.values());
+        batch.clear();
+        put(queue, jobs, writing);
+    }
+
+    private void finishWriters(BlockingQueue<List<Job>> queue, List<Future<?>> writing)
+            throws InterruptedException, ExecutionException {
+        for (int i = 0; i < writing.size(); i++) {
+            put(queue, END, writing);
+        }
+        for (Future<?> future : writing) {
+            future.get();
+        }
+    }
+
+    // Waits while the writers are behind, but gives up as soon as one of them has failed.
+    private static void put(BlockingQueue<List<Job>> queue, List<Job> jobs, List<Future<?>> writing)
+            throws InterruptedException, ExecutionException {
+        while (!queue.offer(jobs, 100, TimeUnit.MILLISECONDS)) {
+            for (Future<?> future : writing) {
+                if (future.isDone()) {
+                    future.get();
+                    throw new IllegalStateException("Feed writer stopped unexpectedly");
+                }
+            }
+        }
+    }
+
+    private void writeLoop(BlockingQueue<List<Job>> queue, Progress progress) {
+        try {
+            List<Job> jobs;
+            while ((jobs = queue.take()) != END) {
+                // Sorted so concurrent writers lock conflicting rows in the same order.
+                jobs.sort((a, b) -> a.getPartnerJobId().compareTo(b.getPartnerJobId()));
+                // Only applies to inserts: an existing job keeps its status on conflict.
+                LocalDateTime now = LocalDateTime.now();
+                // Read before the upsert so listeners learn what an updated job looked like before.
+                Map<String, Job> previous = jobRepository.findByPartnerIdAndPartnerJobIdIn(jobs.get(0).getPartnerId(),
+                        jobs.stream().map(Job::getPartnerJobId).toList()).stream()
+                        .collect(Collectors.toMap(Job::getPartnerJobId, Function.identity()));
+                for (Job job : jobs) {
+                    duplicateDetector.findDuplicate(job).ifPresent(originalId -> {
+                        job.setStatus(JobStatus.DUPLICATE);
+                        job.setDuplicateOf(originalId);
+                        job.setClosedAt(now);
+                    });
+                }
+                for (FeedBatchWriter.Written written : batchWriter.upsert(jobs)) {
+                    Job job = written.job();
+                    if (written.inserted()) {
+                        progress.inserted.incrementAndGet();
+                        if (job.getStatus() == JobStatus.OPEN) {
+                            announceNew(job);
+                        }
+                    } else {
+                        progress.updated.incrementAndGet();
+                        Job before = previous.get(job.getPartnerJobId());
+                        changeListeners.forEach(listener -> listener.onJobUpdated(before, job));
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void announceNew(Job job) {
+        // Checked again so a repost of a job earlier in the same batch, not yet indexed when the
+        // batch was checked, is flagged before anything hears about it.
+        Optional<Long> original = duplicateDetector.findDuplicate(job);
+        if (original.isPresent()
+                && jobRepository.markDuplicate(job.getId(), original.get(), LocalDateTime.now()) == 1) {
+            return;
+        }
+        changeListeners.forEach(listener -> listener.onJobCreated(job));
+    }
+
+    private Job toJob(String partnerId, Map<String, String> record) {
+        Job job = new Job();
+        job.setPartnerId(partnerId);
+        job.setPartnerJobId(required(record, "id"));
+        job.setTitle(required(record, "title"));
+        job.setDescription(required(record, "description"));
+        job.setCompany(required(record, "company"));
+        job.setLocation(required(record, "location"));
+        Double salary = number(record, "salary");
+        if (salary == null || salary < 0) {
+            throw new IllegalArgumentException("salary must be zero or positive");
+        }
+        job.setSalary(salary);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime postedAt = dateTime(record, "postedat");
+        job.setPostedAt(postedAt != null ? postedAt : now);
+        LocalDateTime expiresAt = dateTime(record, "expiresat");
+        job.setExpiresAt(expiresAt != null ? expiresAt : job.getPostedAt().plusDays(defaultTtlDays));
+        if (!job.getExpiresAt().isAfter(now)) {
+            throw new IllegalArgumentException("job has already expired");
+        }
+        job.setStatus(JobStatus.OPEN);
+        Double latitude = number(record, "latitude");
+        Double longitude = number(record, "longitude");
+        if (latitude != null && longitude != null) {
+            if (Math.abs(latitude) > 90 || Math.abs(longitude) > 180) {
+                throw new IllegalArgumentException("latitude or longitude out of range");
+            }
+            job.setLatitude(latitude);
+            job.setLongitude(longitude);
+        } else {
+            GeoPoint point = gazetteer.geocode(job.getLocation()).orElse(null);
+            job.setLatitude(point != null ? point.getLatitude() : null);
+            job.setLongitude(point != null ? point.getLongitude() : null);
+        }
+        return job;
+    }
+
+    private static String required(Map<String, String> record, String field) {
+        String value = record.get(field);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(field + " is required");
+        }
+        value = value.trim();
+        if (value.length() > MAX_FIELD_LENGTH) {
+            throw new IllegalArgumentException(field + " is longer than " + MAX_FIELD_LENGTH + " characters");
+        }
+        return value;
+    }
+
+    private static Double number(Map<String, String> record, String field) {
+        String value = record.get(field);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            double parsed = Double.parseDouble(value.trim());
+            if (!Double.isFinite(parsed)) {
+                throw new NumberFormatException();
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(field + " is not a number");
+        }
+    }
+
+    private static LocalDateTime dateTime(Map<String, String> record, String field) {
+        String value = record.get(field);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        value = value.trim();
+        try {
+            return value.length() == 10 ? LocalDate.parse(value).atStartOfDay() : LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(field + " must be an ISO date or date-time");
+        }
+    }
+
+    private void saveProgress(FeedImport feedImport, Progress progress, long bytesRead, ImportStatus status) {
+        feedImport.setStatus(status);
+        feedImport.setBytesRead(bytesRead);
+        feedImport.setRecordsRead(progress.recordsRead.get());
+        feedImport.setInserted(progress.inserted.get());
+        feedImport.setUpdated(progress.updated.get());
+        feedImport.setRejected(progress.rejected.get());
+        feedImport.setErrors(progress.errors.isEmpty() ? null : String.join("\n", progress.errors));
+        if (status == ImportStatus.COMPLETED || status == ImportStatus.FAILED) {
+            feedImport.setFinishedAt(LocalDateTime.now());
+        }
+        importRepository.save(feedImport);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete feed file {}", file, e);
+        }
+    }
+
+    private static FeedImportDTO toDTO(FeedImport feedImport) {
+        FeedImportDTO dto = new FeedImportDTO();
+        dto.setId(feedImport.getId());
+        dto.setPartnerId(feedImport.getPartnerId());
+        dto.setFormat(feedImport.getFormat());
+        dto.setStatus(feedImport.getStatus());
+        dto.setTotalBytes(feedImport.getTotalBytes());
+        dto.setBytesRead(feedImport.getBytesRead());
+        dto.setProgress(feedImport.getTotalBytes() == 0 ? 0
+                : (double) feedImport.getBytesRead() / feedImport.getTotalBytes());
+        dto.setRecordsRead(feedImport.getRecordsRead());
+        dto.setInserted(feedImport.getInserted());
+        dto.setUpdated(feedImport.getUpdated());
+        dto.setRejected(feedImport.getRejected());
+        dto.setErrors(feedImport.getErrors() == null ? List.of() : Arrays.asList(feedImport.getErrors().split("\n")));
+        dto.setCreatedAt(feedImport.getCreatedAt());
+        dto.setFinishedAt(feedImport.getFinishedAt());
+        return dto;
+    }
+
+    private static final class Progress {
+        private final AtomicLong recordsRead = new AtomicLong();
+        private final AtomicLong inserted = new AtomicLong();
+        private final AtomicLong updated = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final List<String> errors = Collections.synchronizedList(new ArrayList<>());
+
+        private void reject(String reason) {
+            rejected.incrementAndGet();
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(reason.replace('\n', ' '));
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.networkpro.job_service.service.feed;
+
+import com.networkpro.job_service.model.FeedFormat;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+/** Streams a partner feed one record at a time; field names are lower-cased. */
+interface FeedReader extends Closeable {
+    /**
+     * The next record's fields, or null at the end of the feed. Throws
+     * {@link RejectedRecordException} for a record that cannot be read but has been skipped, and
+     * {@link IllegalArgumentException} when the rest of the feed cannot be read.
+     */
+    Map<String, String> next() throws IOException;
+
+    static FeedReader open(FeedFormat format, InputStream in) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvFeedReader(in);
+            case XML -> new XmlFeedReader(in);
+            case JSON -> new JsonFeedReader(in);
+        };
+    }
+
+    /** A malformed record the reader has already moved past; the next call reads the record after it. */
+    class RejectedRecordException extends IllegalArgumentException {
+        RejectedRecordException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.networkpro.job_service.service.feed;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * JSON feeds that are either an array of job objects or an object whose {@code jobs} field is
+ * that array. Scalar fields of each object are kept; nested objects and arrays are skipped.
+ */
+class JsonFeedReader implements FeedReader {
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private final JsonParser parser;
+
+    JsonFeedReader(InputStream in) throws IOException {
+        parser = FACTORY.createParser(in);
+        try {
+            JsonToken first = parser.nextToken();
+            if (first == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME && !"jobs".equals(parser.currentName())) {
+                    parser.nextToken();
+                    parser.skipChildren();
+                }
+                if (parser.currentToken() != JsonToken.FIELD_NAME) {
+                    throw new IllegalArgumentException("JSON feed object has no \"jobs\" array");
+                }
+                first = parser.nextToken();
+            }
+            if (first != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException(
+                        "JSON feed must be an array of jobs or an object with a \"jobs\" array");
+            }
+        } catch (JsonParseException e) {
+            throw new IllegalArgumentException("Malformed JSON feed: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    @Override
+    public Map<String, String> next() throws IOException {
+        try {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.END_ARRAY || token == null) {
+                return null;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                throw new RejectedRecordException("JSON feed entries must be objects");
+            }
+            Map<String, String> record = new HashMap<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName().toLowerCase(Locale.ROOT);
+                JsonToken value = parser.nextToken();
+                if (value.isScalarValue()) {
+                    if (value != JsonToken.VALUE_NULL) {
+                        record.put(name, parser.getText());
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return record;
+        } catch (JsonParseException e) {
+            throw new IllegalArgumentException("Malformed JSON feed: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
@@ -0,0 +1,84 @@
+package com.networkpro.job_service.service.feed;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a file through a sliding memory-mapped window. Only the current window is mapped, and
+ * its pages live in the OS page cache rather than on the heap, so reading a file of any size
+ * costs a constant amount of heap.
+ */
+class MappedFileInputStream extends InputStream {
+    private final FileChannel channel;
+    private final long size;
+    private final long windowSize;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private volatile long position;
+
+    MappedFileInputStream(Path file, long windowSize) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.windowSize = windowSize;
+    }
+
+    long size() {
+        return size;
+    }
+
+    /** Bytes consumed so far; safe to read from another thread for progress reporting. */
+    long position() {
+        return position;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureWindow()) {
+            return -1;
+        }
+        position++;
+        return window.get() & 0xff;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!ensureWindow()) {
+            return -1;
+        }
+        int n = Math.min(length, window.remaining());
+        window.get(buffer, offset, n);
+        position += n;
+        return n;
+    }
+
+    @Override
+    public int available() {
+        return window == null ? 0 : window.remaining();
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+
+    private boolean ensureWindow() throws IOException {
+        if (window != null && window.hasRemaining()) {
+            return true;
+        }
+        long next = window == null ? 0 : windowStart + window.capacity();
+        if (next >= size) {
+            return false;
+        }
+        windowStart = next;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, next, Math.min(windowSize, size - next));
+        return true;
+    }
+}
@@ -0,0 +1,91 @@
+package com.networkpro.job_service.service.feed;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * XML feeds with one {@code <job>} element per record, anywhere in the document. The
+ * element's attributes and child elements become fields; nested markup inside a child is
+ * flattened to its text. DTDs and external entities are refused.
+ */
+class XmlFeedReader implements FeedReader {
+    private static final String RECORD_ELEMENT = "job";
+
+    private final XMLStreamReader reader;
+
+    XmlFeedReader(InputStream in) throws IOException {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        try {
+            reader = factory.createXMLStreamReader(in);
+        } catch (XMLStreamException e) {
+            throw new IOException("Cannot read XML feed", e);
+        }
+    }
+
+    @Override
+    public Map<String, String> next() throws IOException {
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT
+                        && RECORD_ELEMENT.equalsIgnoreCase(reader.getLocalName())) {
+                    return readRecord();
+                }
+            }
+            return null;
+        } catch (XMLStreamException e) {
+            throw new IllegalArgumentException("Malformed XML feed: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private Map<String, String> readRecord() throws XMLStreamException {
+        Map<String, String> record = new HashMap<>();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            record.put(reader.getAttributeLocalName(i).toLowerCase(Locale.ROOT), reader.getAttributeValue(i));
+        }
+        int depth = 1;
+        String field = null;
+        StringBuilder text = new StringBuilder();
+        while (depth > 0) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT -> {
+                    if (depth++ == 1) {
+                        field = reader.getLocalName().toLowerCase(Locale.ROOT);
+                        text.setLength(0);
+                    }
+                }
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA -> {
+                    if (depth > 1) {
+                        text.append(reader.getText());
+                    }
+                }
+                case XMLStreamConstants.END_ELEMENT -> {
+                    if (--depth == 1) {
+                        record.put(field, text.toString());
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        return record;
+    }
+}
@@ -0,0 +1,128 @@
+package com.networkpro.job_service.service.geo;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Offline geocoder for free-text job locations such as "Kumasi", "Accra, Ghana" or
+ * "London, ON". Places come from the bundled {@code gazetteer/places.tsv}. The comma-separated
+ * parts of a location are tried in order as place names. When a name is shared, the other parts
+ * pick the place whose region or country they mention; failing that, the most populous place
+ * wins. Locations naming only a country, or nothing known such as "Remote", are not geocoded.
+ */
+@Component
+public class Gazetteer {
+    private final Map<String, List<Place>> placesByName = new HashMap<>();
+    private final Map<String, String> countryCodes = new HashMap<>(); // normalized name or code -> ISO code
+
+    public Gazetteer() {
+        read("gazetteer/countries.tsv", columns -> {
+            String code = columns[0];
+            countryCodes.put(normalize(code), code);
+            for (String name : columns[1].split(",")) {
+                countryCodes.put(normalize(name), code);
+            }
+        });
+        read("gazetteer/places.tsv", columns -> {
+            Place place = new Place(columns[3], new GeoPoint(Double.parseDouble(columns[4]),
+                    Double.parseDouble(columns[5])), Long.parseLong(columns[6]));
+            for (String region : columns[2].split(",")) {
+                if (!region.isBlank()) {
+                    place.regions.add(normalize(region));
+                }
+            }
+            Set<String> names = new HashSet<>();
+            names.add(normalize(columns[0]));
+            for (String alternate : columns[1].split(",")) {
+                if (!alternate.isBlank()) {
+                    names.add(normalize(alternate));
+                }
+            }
+            names.forEach(name -> placesByName.computeIfAbsent(name, n -> new ArrayList<>()).add(place));
+        });
+    }
+
+    public Optional<GeoPoint> geocode(String location) {
+        if (location == null || location.isBlank()) {
+            return Optional.empty();
+        }
+        List<String> parts = new ArrayList<>();
+        for (String part : location.split("[,;/(|)]")) {
+            String normalized = normalize(part);
+            if (!normalized.isEmpty()) {
+                parts.add(normalized);
+            }
+        }
+        for (String part : parts) {
+            List<Place> candidates = placesByName.get(part);
+            if (candidates == null) {
+                continue;
+            }
+            Place best = null;
+            for (Place place : candidates) {
+                boolean qualified = parts.stream().anyMatch(other -> !other.equals(part) && place.matches(other,
+                        countryCodes.get(other)));
+                if (qualified) {
+                    return Optional.of(place.point);
+                }
+                if (best == null || place.population > best.population) {
+                    best = place;
+                }
+            }
+            return Optional.of(best.point);
+        }
+        return Optional.empty();
+    }
+
+    static String normalize(String text) {
+        String stripped = Normalizer.normalize(text, Normalizer.Form.NFD).replaceAll("\\p{M}+", "");
+        return stripped.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+    }
+
+    private static void read(String resource, Consumer<String[]> row) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource(resource).getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank() && !line.startsWith("#")) {
+                    row.accept(line.split("\t", -1));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + resource, e);
+        }
+    }
+
+    private static final class Place {
+        private final String countryCode;
+        private final GeoPoint point;
+        private final long population;
+        private final Set<String> regions = new HashSet<>();
+
+        private Place(String countryCode, GeoPoint point, long population) {
+            this.countryCode = countryCode;
+            this.point = point;
+            this.population = population;
+        }
+
+        private boolean matches(String part, String partCountryCode) {
+            return regions.contains(part) || countryCode.equals(partCountryCode);
+        }
+    }
+}
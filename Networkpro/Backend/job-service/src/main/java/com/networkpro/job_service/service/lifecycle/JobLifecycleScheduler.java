@@ -0,0 +1,74 @@
+package com.networkpro.job_service.service.lifecycle;
+
+import com.networkpro.job_service.service.JobChangeListener;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Expires open jobs whose {@code expiresAt} has passed, and moves jobs that have been closed or
+ * expired for longer than the retention window into {@code jobs_archive}. Both steps run in
+ * bounded batches, each one statement driven by the partial indexes in {@code import.sql}, so
+ * the work per run depends on how many jobs change state rather than on the size of history.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobLifecycleScheduler {
+    private static final String EXPIRE_SQL = "UPDATE jobs SET status = 'EXPIRED', closed_at = ? WHERE id IN ("
+            + "SELECT id FROM jobs WHERE status = 'OPEN' AND expires_at <= ? ORDER BY expires_at LIMIT ? "
+            + "FOR UPDATE SKIP LOCKED) RETURNING id";
+    private static final String COLUMNS = "id, title, description, company, location, salary, posted_at, "
+            + "latitude, longitude, status, expires_at, closed_at, duplicate_of, partner_id, partner_job_id";
+    private static final String ARCHIVE_SQL = "WITH moved AS (DELETE FROM jobs WHERE id IN ("
+            + "SELECT id FROM jobs WHERE status <> 'OPEN' AND closed_at < ? ORDER BY closed_at LIMIT ? "
+            + "FOR UPDATE SKIP LOCKED) RETURNING " + COLUMNS + ") "
+            + "INSERT INTO jobs_archive (" + COLUMNS + ") SELECT " + COLUMNS + " FROM moved";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<JobChangeListener> changeListeners;
+
+    @Value("${job.lifecycle.batch-size:500}")
+    private int batchSize;
+
+    @Value("${job.lifecycle.archive-after-days:30}")
+    private int archiveAfterDays;
+
+    @Scheduled(fixedDelayString = "${job.lifecycle.expiry-interval-ms:60000}")
+    public void expireJobs() {
+        int expired = 0;
+        List<Long> ids;
+        do {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            ids = jdbcTemplate.queryForList(EXPIRE_SQL, Long.class, now, now, batchSize);
+            for (Long id : ids) {
+                changeListeners.forEach(listener -> listener.onJobClosed(id));
+            }
+            expired += ids.size();
+        } while (ids.size() == batchSize);
+        if (expired > 0) {
+            log.info("Expired {} jobs", expired);
+        }
+    }
+
+    @Scheduled(cron = "${job.lifecycle.archive-cron:0 15 3 * * *}")
+    public void archiveJobs() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusDays(archiveAfterDays));
+        int archived = 0;
+        int moved;
+        do {
+            moved = jdbcTemplate.update(ARCHIVE_SQL, cutoff, batchSize);
+            archived += moved;
+        } while (moved == batchSize);
+        if (archived > 0) {
+            log.info("Archived {} closed or expired jobs", archived);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.networkpro.job_service.service.matching;
+
+import com.networkpro.job_service.client.UserSkillsClient;
+import com.networkpro.job_service.dto.CandidateMatchDTO;
+import com.networkpro.job_service.dto.JobMatchDTO;
+import com.networkpro.job_service.dto.UserSkillsDTO;
+import com.networkpro.job_service.model.Job;
+import com.networkpro.job_service.model.JobStatus;
+import com.networkpro.job_service.repository.JobRepository;
+import com.networkpro.job_service.service.JobChangeListener;
+import com.networkpro.job_service.service.JobService;
+import com.networkpro.job_service.service.search.JobSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Matches jobs and candidates by skill. User skills are pulled from user-service's change feed:
+ * everything on the first run, then only profiles changed since the previous sync (re-reading a
+ * short overlap to cover commits that landed out of order). All open jobs are extracted once;
+ * after that a sync that brings in skills the vocabulary has not seen re-extracts only the jobs
+ * whose text contains those skills' terms, found through the search index's postings. Jobs are
+ * also re-extracted individually as they are written.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobMatchingService implements JobChangeListener {
+    private static final int MAX_RESULTS = 100;
+    private static final int REINDEX_BATCH = 1000;
+
+    private final JobRepository jobRepository;
+    private final UserSkillsClient userSkillsClient;
+    private final JobSearchIndex searchIndex;
+
+    private final SkillMatchIndex index = new SkillMatchIndex();
+
+    @Value("${job.matching.sync-batch-size:500}")
+    private int syncBatchSize;
+
+    @Value("${job.matching.sync-overlap-seconds:30}")
+    private long syncOverlapSeconds;
+
+    private LocalDateTime syncedUntil;
+    private boolean jobsIndexed;
+
+    @Scheduled(fixedDelayString = "${job.matching.sync-interval-ms:60000}")
+    public synchronized void syncSkills() {
+        Set<String> newSkills = new HashSet<>();
+        int synced = 0;
+        try {
+            LocalDateTime after = syncedUntil == null ? null : syncedUntil.minusSeconds(syncOverlapSeconds);
+            long afterId = 0;
+            List<UserSkillsDTO> page;
+            do {
+                page = userSkillsClient.fetchChanges(after, afterId, syncBatchSize);
+                for (UserSkillsDTO user : page) {
+                    newSkills.addAll(index.putUser(user.getUserId(),
+                            user.getSkills() == null ? List.of() : user.getSkills()));
+                    if (syncedUntil == null || user.getUpdatedAt().isAfter(syncedUntil)) {
+                        syncedUntil = user.getUpdatedAt();
+                    }
+                }
+                if (!page.isEmpty()) {
+                    UserSkillsDTO last = page.get(page.size() - 1);
+                    after = last.getUpdatedAt();
+                    afterId = last.getUserId();
+                    synced += page.size();
+                }
+            } while (page.size() == syncBatchSize);
+        } catch (RestClientException e) {
+            log.warn("Failed to sync user skills from user-service", e);
+        }
+        if (synced > 0) {
+            log.info("Synced skills of {} users", synced);
+        }
+        if (!jobsIndexed) {
+            reindexJobs();
+            jobsIndexed = true;
+        } else if (!newSkills.isEmpty()) {
+            reindexJobsMentioning(newSkills);
+        }
+    }
+
+    @Override
+    public void onJobSaved(Job job) {
+        index.putJob(job.getId(), job.getTitle(), job.getDescription());
+    }
+
+    @Override
+    public void onJobDeleted(Long jobId) {
+        index.removeJob(jobId);
+    }
+
+    @Override
+    public void onJobClosed(Long jobId) {
+        index.removeJob(jobId);
+    }
+
+    public List<JobMatchDTO> recommendJobs(Long userId, int limit) {
+        List<SkillMatchIndex.Match> matches = index.recommendJobs(userId, clamp(limit));
+        Map<Long, Job> jobs = jobRepository.findAllById(matches.stream().map(SkillMatchIndex.Match::getId).toList())
+                .stream().collect(Collectors.toMap(Job::getId, Function.identity()));
+        return matches.stream()
+                .filter(match -> jobs.containsKey(match.getId()))
+                .map(match -> new JobMatchDTO(JobService.toResponseDTO(jobs.get(match.getId())), match.getScore(),
+                        match.getMatchedSkills()))
+                .toList();
+    }
+
+    public List<CandidateMatchDTO> topCandidates(Long jobId, int limit) {
+        return index.topCandidates(jobId, clamp(limit)).stream()
+                .map(match -> new CandidateMatchDTO(match.getId(), match.getScore(), match.getMatchedSkills()))
+                .toList();
+    }
+
+    private void reindexJobs() {
+        long afterId = 0;
+        int indexed = 0;
+        List<Job> batch;
+        while (!(batch = jobRepository.findByStatusAndIdGreaterThanOrderByIdAsc(JobStatus.OPEN, afterId,
+                PageRequest.of(0, REINDEX_BATCH))).isEmpty()) {
+            batch.forEach(this::onJobSaved);
+            afterId = batch.get(batch.size() - 1).getId();
+            indexed += batch.size();
+        }
+        log.info("Extracted skills of {} jobs", indexed);
+    }
+
+    private void reindexJobsMentioning(Set<String> skills) {
+        // Search terms drop '+' and '#', so this can over-select; putJob does the exact phrase match.
+        Set<Long> ids = new HashSet<>();
+        skills.forEach(skill -> ids.addAll(searchIndex.jobsContainingAll(skill)));
+        List<Long> pending = new ArrayList<>(ids);
+        for (int from = 0; from < pending.size(); from += REINDEX_BATCH) {
+            jobRepository.findAllById(pending.subList(from, Math.min(from + REINDEX_BATCH, pending.size())))
+                    .stream()
+                    .filter(job -> job.getStatus() == JobStatus.OPEN)
+                    .forEach(this::onJobSaved);
+        }
+        log.info("Re-extracted skills of {} jobs for {} new skills", pending.size(), skills.size());
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_RESULTS));
+    }
+}
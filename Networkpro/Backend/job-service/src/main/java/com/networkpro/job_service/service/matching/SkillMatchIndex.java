@@ -0,0 +1,241 @@
+package com.networkpro.job_service.service.matching;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Skill vectors for users and jobs with an inverted index from skill to each side. The skill
+ * vocabulary is whatever users list on their profiles; a job's skills are the vocabulary
+ * phrases (up to {@value #MAX_SKILL_TOKENS} words) found in its title and description. User
+ * vectors weight every skill equally; job vectors weight skills by rarity across jobs and
+ * double those in the title. Both are unit length, so a match score is their cosine, summed
+ * only over the posting lists of the query's own skills.
+ */
+class SkillMatchIndex {
+    private static final int MAX_SKILL_TOKENS = 4;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> vocabulary = new HashMap<>(); // skill -> number of users listing it
+    private final Map<Long, SparseVector> users = new HashMap<>();
+    private final Map<Long, SparseVector> jobs = new HashMap<>();
+    private final Map<String, Map<Long, Float>> usersBySkill = new HashMap<>();
+    private final Map<String, Map<Long, Float>> jobsBySkill = new HashMap<>();
+
+    /** Replaces a user's skills; returns those of them that were new to the vocabulary. */
+    List<String> putUser(Long userId, Collection<String> rawSkills) {
+        Map<String, Double> weights = new LinkedHashMap<>();
+        for (String raw : rawSkills) {
+            String skill = normalize(raw);
+            if (!skill.isEmpty()) {
+                weights.put(skill, 1.0);
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            // Checked before the old vector goes, so re-putting a user's only-held skill is not growth.
+            List<String> added = weights.keySet().stream().filter(skill -> !vocabulary.containsKey(skill)).toList();
+            removeLocked(userId, users, usersBySkill, true);
+            if (weights.isEmpty()) {
+                return List.of();
+            }
+            SparseVector vector = SparseVector.normalized(weights);
+            users.put(userId, vector);
+            for (int i = 0; i < vector.size(); i++) {
+                usersBySkill.computeIfAbsent(vector.skill(i), s -> new HashMap<>()).put(userId, vector.weight(i));
+                vocabulary.merge(vector.skill(i), 1, Integer::sum);
+            }
+            return added;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    boolean hasUser(Long userId) {
+        lock.readLock().lock();
+        try {
+            return users.containsKey(userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Re-extracts a job's skills against the current vocabulary. */
+    void putJob(Long jobId, String title, String description) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(jobId, jobs, jobsBySkill, false);
+            Map<String, Double> weights = new LinkedHashMap<>();
+            for (String skill : extract(description)) {
+                weights.put(skill, 1.0);
+            }
+            for (String skill : extract(title)) {
+                weights.put(skill, 2.0);
+            }
+            if (weights.isEmpty()) {
+                return;
+            }
+            int jobCount = jobs.size() + 1;
+            weights.replaceAll((skill, boost) -> {
+                int df = jobsBySkill.getOrDefault(skill, Map.of()).size() + 1;
+                return boost * Math.log(1 + (double) jobCount / df);
+            });
+            SparseVector vector = SparseVector.normalized(weights);
+            jobs.put(jobId, vector);
+            for (int i = 0; i < vector.size(); i++) {
+                jobsBySkill.computeIfAbsent(vector.skill(i), s -> new HashMap<>()).put(jobId, vector.weight(i));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void removeJob(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(jobId, jobs, jobsBySkill, false);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    List<Match> recommendJobs(Long userId, int limit) {
+        lock.readLock().lock();
+        try {
+            return topMatches(users.get(userId), jobsBySkill, jobs, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    List<Match> topCandidates(Long jobId, int limit) {
+        lock.readLock().lock();
+        try {
+            return topMatches(jobs.get(jobId), usersBySkill, users, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<Match> topMatches(SparseVector query, Map<String, Map<Long, Float>> postings,
+            Map<Long, SparseVector> targets, int limit) {
+        if (query == null) {
+            return List.of();
+        }
+        Map<Long, Float> scores = new HashMap<>();
+        for (int i = 0; i < query.size(); i++) {
+            float weight = query.weight(i);
+            postings.getOrDefault(query.skill(i), Map.of())
+                    .forEach((id, targetWeight) -> scores.merge(id, weight * targetWeight, Float::sum));
+        }
+        Comparator<Map.Entry<Long, Float>> byScore = Map.Entry.<Long, Float>comparingByValue()
+                .thenComparing(Map.Entry.<Long, Float>comparingByKey().reversed());
+        PriorityQueue<Map.Entry<Long, Float>> top = new PriorityQueue<>(limit + 1, byScore);
+        for (Map.Entry<Long, Float> entry : scores.entrySet()) {
+            top.offer(entry);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<Map.Entry<Long, Float>> best = new ArrayList<>(top);
+        best.sort(byScore.reversed());
+        List<Match> matches = new ArrayList<>(best.size());
+        for (Map.Entry<Long, Float> entry : best) {
+            SparseVector target = targets.get(entry.getKey());
+            List<String> matched = new ArrayList<>();
+            for (int i = 0; i < query.size(); i++) {
+                if (target.contains(query.skill(i))) {
+                    matched.add(query.skill(i));
+                }
+            }
+            matches.add(new Match(entry.getKey(), entry.getValue(), matched));
+        }
+        return matches;
+    }
+
+    private void removeLocked(Long id, Map<Long, SparseVector> vectors, Map<String, Map<Long, Float>> postings,
+            boolean countsTowardVocabulary) {
+        SparseVector previous = vectors.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (int i = 0; i < previous.size(); i++) {
+            String skill = previous.skill(i);
+            Map<Long, Float> ids = postings.get(skill);
+            if (ids != null && ids.remove(id) != null && ids.isEmpty()) {
+                postings.remove(skill);
+            }
+            if (countsTowardVocabulary) {
+                vocabulary.computeIfPresent(skill, (s, count) -> count > 1 ? count - 1 : null);
+            }
+        }
+    }
+
+    /** Vocabulary phrases in the text; scanning resumes after the longest phrase found at each position. */
+    private List<String> extract(String text) {
+        List<String> found = new ArrayList<>();
+        if (text == null || vocabulary.isEmpty()) {
+            return found;
+        }
+        String[] tokens = tokens(text);
+        int i = 0;
+        while (i < tokens.length) {
+            int matchedLength = 0;
+            StringBuilder phrase = new StringBuilder();
+            for (int length = 1; length <= MAX_SKILL_TOKENS && i + length <= tokens.length; length++) {
+                if (length > 1) {
+                    phrase.append(' ');
+                }
+                phrase.append(tokens[i + length - 1]);
+                if (vocabulary.containsKey(phrase.toString())) {
+                    matchedLength = length;
+                    found.add(phrase.toString());
+                }
+            }
+            i += Math.max(1, matchedLength);
+        }
+        return found;
+    }
+
+    static String normalize(String skill) {
+        return skill == null ? "" : String.join(" ", tokens(skill));
+    }
+
+    // '+' and '#' are kept so that C++ and C# stay distinct from C.
+    private static String[] tokens(String text) {
+        String trimmed = text.toLowerCase(Locale.ROOT).replaceAll("^[^\\p{L}\\p{N}+#]+", "");
+        return trimmed.isEmpty() ? new String[0] : trimmed.split("[^\\p{L}\\p{N}+#]+");
+    }
+
+    static final class Match {
+        private final Long id;
+        private final double score;
+        private final List<String> matchedSkills;
+
+        private Match(Long id, double score, List<String> matchedSkills) {
+            this.id = id;
+            this.score = score;
+            this.matchedSkills = matchedSkills;
+        }
+
+        Long getId() {
+            return id;
+        }
+
+        double getScore() {
+            return score;
+        }
+
+        List<String> getMatchedSkills() {
+            return matchedSkills;
+        }
+    }
+}
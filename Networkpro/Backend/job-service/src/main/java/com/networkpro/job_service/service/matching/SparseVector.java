@@ -0,0 +1,52 @@
+package com.networkpro.job_service.service.matching;
+
+import java.util.Map;
+
+/** Unit-length sparse vector over normalized skill names. */
+final class SparseVector {
+    private final String[] skills;
+    private final float[] weights;
+
+    private SparseVector(String[] skills, float[] weights) {
+        this.skills = skills;
+        this.weights = weights;
+    }
+
+    static SparseVector normalized(Map<String, Double> raw) {
+        double norm = 0;
+        for (double weight : raw.values()) {
+            norm += weight * weight;
+        }
+        norm = Math.sqrt(norm);
+        String[] skills = new String[raw.size()];
+        float[] weights = new float[raw.size()];
+        int i = 0;
+        for (Map.Entry<String, Double> entry : raw.entrySet()) {
+            skills[i] = entry.getKey();
+            weights[i] = (float) (entry.getValue() / norm);
+            i++;
+        }
+        return new SparseVector(skills, weights);
+    }
+
+    int size() {
+        return skills.length;
+    }
+
+    String skill(int i) {
+        return skills[i];
+    }
+
+    float weight(int i) {
+        return weights[i];
+    }
+
+    boolean contains(String skill) {
+        for (String s : skills) {
+            if (s.equals(skill)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,91 @@
+package com.networkpro.job_service.service.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fixed latitude/longitude grid of job ids. A box query returns the buckets of every cell it
+ * overlaps, including boxes that cross the antimeridian; callers filter the exact distance or
+ * bounds themselves. Not thread-safe.
+ */
+class GeoGrid {
+    private static final double KM_PER_DEGREE = 111.32;
+
+    private final double cellDegrees;
+    private final int latCells;
+    private final int lonCells;
+    private final Map<Long, Set<Long>> cells = new HashMap<>();
+
+    GeoGrid(double cellDegrees) {
+        this.cellDegrees = cellDegrees;
+        this.latCells = (int) Math.ceil(180 / cellDegrees);
+        this.lonCells = (int) Math.ceil(360 / cellDegrees);
+    }
+
+    void add(Long id, double latitude, double longitude) {
+        cells.computeIfAbsent(key(latRow(latitude), lonColumn(longitude)), k -> new HashSet<>()).add(id);
+    }
+
+    void remove(Long id, double latitude, double longitude) {
+        long key = key(latRow(latitude), lonColumn(longitude));
+        Set<Long> ids = cells.get(key);
+        if (ids != null && ids.remove(id) && ids.isEmpty()) {
+            cells.remove(key);
+        }
+    }
+
+    /** Buckets overlapping the circle's bounding box. */
+    List<Set<Long>> nearby(double latitude, double longitude, double radiusKm) {
+        double dLat = radiusKm / KM_PER_DEGREE;
+        double minLat = latitude - dLat;
+        double maxLat = latitude + dLat;
+        double cosLat = Math.cos(Math.toRadians(Math.max(Math.abs(minLat), Math.abs(maxLat))));
+        if (minLat <= -90 || maxLat >= 90 || cosLat <= 0 || radiusKm / (KM_PER_DEGREE * cosLat) >= 180) {
+            return within(Math.max(minLat, -90), Math.min(maxLat, 90), -180, 180);
+        }
+        double dLon = radiusKm / (KM_PER_DEGREE * cosLat);
+        return within(minLat, maxLat, wrap(longitude - dLon), wrap(longitude + dLon));
+    }
+
+    /** Buckets overlapping the box; {@code minLon > maxLon} means the box crosses the antimeridian. */
+    List<Set<Long>> within(double minLat, double maxLat, double minLon, double maxLon) {
+        List<Set<Long>> found = new ArrayList<>();
+        int fromColumn = lonColumn(minLon);
+        int columns;
+        if (minLon <= maxLon) {
+            int toColumn = Math.min(lonCells - 1, (int) Math.floor((maxLon + 180) / cellDegrees));
+            columns = toColumn - fromColumn + 1;
+        } else {
+            columns = lonCells - fromColumn + lonColumn(maxLon) + 1;
+        }
+        for (int row = latRow(minLat); row <= latRow(maxLat); row++) {
+            for (int i = 0; i < Math.min(columns, lonCells); i++) {
+                Set<Long> ids = cells.get(key(row, (fromColumn + i) % lonCells));
+                if (ids != null) {
+                    found.add(ids);
+                }
+            }
+        }
+        return found;
+    }
+
+    private int latRow(double latitude) {
+        return Math.min(latCells - 1, Math.max(0, (int) Math.floor((latitude + 90) / cellDegrees)));
+    }
+
+    private int lonColumn(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / cellDegrees), lonCells);
+    }
+
+    private long key(int row, int column) {
+        return (long) row * lonCells + column;
+    }
+
+    private static double wrap(double longitude) {
+        return longitude < -180 ? longitude + 360 : longitude > 180 ? longitude - 360 : longitude;
+    }
+}
@@ -0,0 +1,503 @@
+package com.networkpro.job_service.service.search;
+
+import com.networkpro.job_service.dto.FacetCountDTO;
+import com.networkpro.job_service.dto.JobSearchRequestDTO;
+import com.networkpro.job_service.dto.JobSort;
+import com.networkpro.job_service.model.Job;
+import com.networkpro.job_service.model.JobStatus;
+import com.networkpro.job_service.repository.JobRepository;
+import com.networkpro.job_service.service.JobChangeListener;
+import com.networkpro.job_service.service.JobService;
+import com.networkpro.job_service.service.geo.GeoPoint;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * In-memory search index over all jobs: an inverted index of title, company, location and
+ * description terms plus exact-match postings for company and location. A query starts from
+ * the smallest posting list among its keyword terms and company/location filters, checks the
+ * remaining filters per candidate, counts facets and keeps only the requested page in a
+ * bounded heap. Pages are keyset cursors over (sort value, id), so deep pages cost no more
+ * than the first. Radius and bounding-box filters read candidates from a {@link GeoGrid} of
+ * geocoded jobs when that is narrower than the term postings. A query with no keyword or filter
+ * at all reads its page straight off a tree of every job in the requested order, starting at the
+ * cursor, and takes its facets from the company and location postings, cached until the next
+ * write. Loaded from the database at start-up and kept current by {@link JobChangeListener}
+ * callbacks from this instance's writes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobSearchIndex implements JobChangeListener {
+    private static final int LOAD_BATCH = 1000;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int FACET_LIMIT = 20;
+    private static final double GEO_CELL_DEGREES = 0.5;
+    private static final double MAX_RADIUS_KM = 20000;
+
+    private final JobRepository jobRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, IndexedJob> jobs = new HashMap<>();
+    private final Map<String, Set<Long>> terms = new HashMap<>();
+    private final Map<String, Set<Long>> byCompany = new HashMap<>();
+    private final Map<String, Set<Long>> byLocation = new HashMap<>();
+    private final GeoGrid geoGrid = new GeoGrid(GEO_CELL_DEGREES);
+    private final TreeMap<Cursor, IndexedJob> byRecent = new TreeMap<>(Cursor.PAGE_ORDER);
+    private final TreeMap<Cursor, IndexedJob> bySalary = new TreeMap<>(Cursor.PAGE_ORDER);
+    private long version; // bumped on every write, so cached facets can tell they are stale
+    private volatile UnfilteredFacets unfilteredFacets;
+
+    @PostConstruct
+    public void load() {
+        long afterId = 0;
+        List<Job> batch;
+        while (!(batch = jobRepository.findByStatusAndIdGreaterThanOrderByIdAsc(JobStatus.OPEN, afterId,
+                PageRequest.of(0, LOAD_BATCH))).isEmpty()) {
+            batch.forEach(this::onJobSaved);
+            afterId = batch.get(batch.size() - 1).getId();
+        }
+        log.info("Indexed {} jobs for search", jobs.size());
+    }
+
+    @Override
+    public void onJobSaved(Job job) {
+        IndexedJob indexed = new IndexedJob(JobService.copyOf(job));
+        lock.writeLock().lock();
+        try {
+            removeLocked(job.getId());
+            jobs.put(job.getId(), indexed);
+            indexed.terms.forEach(term -> terms.computeIfAbsent(term, t -> new HashSet<>()).add(job.getId()));
+            byCompany.computeIfAbsent(indexed.companyKey, k -> new HashSet<>()).add(job.getId());
+            byLocation.computeIfAbsent(indexed.locationKey, k -> new HashSet<>()).add(job.getId());
+            if (indexed.hasPoint()) {
+                geoGrid.add(job.getId(), job.getLatitude(), job.getLongitude());
+            }
+            byRecent.put(indexed.position(JobSort.RECENT), indexed);
+            bySalary.put(indexed.position(JobSort.SALARY), indexed);
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onJobDeleted(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(jobId);
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onJobClosed(Long jobId) {
+        onJobDeleted(jobId);
+    }
+
+    public Result search(JobSearchRequestDTO request) {
+        int pageSize = Math.max(1, Math.min(request.getLimit(), MAX_PAGE_SIZE));
+        JobSort sort = request.getSort() != null ? request.getSort() : JobSort.RECENT;
+        Comparator<IndexedJob> order = Comparator.comparingLong((IndexedJob job) -> job.sortValue(sort)).reversed()
+                .thenComparing(Comparator.comparingLong((IndexedJob job) -> job.job.getId()).reversed());
+        Cursor after = request.getCursor() == null || request.getCursor().isBlank()
+                ? null : Cursor.decode(request.getCursor());
+        Set<String> queryTerms = tokenize(request.getKeyword());
+        validateGeo(request);
+
+        lock.readLock().lock();
+        try {
+            if (queryTerms.isEmpty() && !hasFilters(request)) {
+                return unfilteredPage(sort, after, pageSize);
+            }
+            List<Set<Long>> postings = new ArrayList<>();
+            for (String term : queryTerms) {
+                postings.add(terms.getOrDefault(term, Set.of()));
+            }
+            if (hasText(request.getCompany())) {
+                postings.add(byCompany.getOrDefault(normalize(request.getCompany()), Set.of()));
+            }
+            if (hasText(request.getLocation())) {
+                postings.add(byLocation.getOrDefault(normalize(request.getLocation()), Set.of()));
+            }
+            postings.sort(Comparator.comparingInt(Set::size));
+            Iterable<Long> candidates = postings.isEmpty() ? jobs.keySet() : postings.get(0);
+            List<Set<Long>> others = postings.isEmpty() ? List.of() : postings.subList(1, postings.size());
+            List<Set<Long>> geoCells = geoCells(request);
+            if (geoCells != null) {
+                long geoCandidates = geoCells.stream().mapToLong(Set::size).sum();
+                if (postings.isEmpty() || geoCandidates < postings.get(0).size()) {
+                    candidates = geoCells.stream().flatMap(Set::stream)::iterator;
+                    others = postings;
+                }
+            }
+
+            long total = 0;
+            Map<String, FacetCount> companies = new HashMap<>();
+            Map<String, FacetCount> locations = new HashMap<>();
+            // Max-heap on the page order holding the first pageSize + 1 matches after the cursor.
+            PriorityQueue<IndexedJob> page = new PriorityQueue<>(pageSize + 2, order.reversed());
+            for (Long id : candidates) {
+                if (!containedInAll(others, id)) {
+                    continue;
+                }
+                IndexedJob job = jobs.get(id);
+                if (!matchesFilters(job, request)) {
+                    continue;
+                }
+                total++;
+                companies.computeIfAbsent(job.companyKey, k -> new FacetCount(job.job.getCompany())).count++;
+                locations.computeIfAbsent(job.locationKey, k -> new FacetCount(job.job.getLocation())).count++;
+                if (after != null && !after.isBefore(job.sortValue(sort), job.job.getId())) {
+                    continue;
+                }
+                page.offer(job);
+                if (page.size() > pageSize + 1) {
+                    page.poll();
+                }
+            }
+
+            List<IndexedJob> rows = new ArrayList<>(page);
+            rows.sort(order);
+            return result(rows, pageSize, sort, total, topFacets(companies), topFacets(locations));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Result unfilteredPage(JobSort sort, Cursor after, int pageSize) {
+        TreeMap<Cursor, IndexedJob> all = sort == JobSort.SALARY ? bySalary : byRecent;
+        Iterator<IndexedJob> it = (after == null ? all : all.tailMap(after, false)).values().iterator();
+        List<IndexedJob> rows = new ArrayList<>(pageSize + 1);
+        while (rows.size() <= pageSize && it.hasNext()) {
+            rows.add(it.next());
+        }
+        UnfilteredFacets facets = unfilteredFacets;
+        if (facets == null || facets.version() != version) {
+            // Racing readers may both compute this; they compute the same thing.
+            facets = new UnfilteredFacets(version, postingFacets(byCompany, Job::getCompany),
+                    postingFacets(byLocation, Job::getLocation));
+            unfilteredFacets = facets;
+        }
+        return result(rows, pageSize, sort, jobs.size(), facets.companies(), facets.locations());
+    }
+
+    /** Rows are the page in order plus, if there is one, the first row of the next page. */
+    private static Result result(List<IndexedJob> rows, int pageSize, JobSort sort, long total,
+            List<FacetCountDTO> companies, List<FacetCountDTO> locations) {
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            nextCursor = rows.get(pageSize - 1).position(sort).encode();
+        }
+        return new Result(rows.stream().map(job -> JobService.copyOf(job.job)).toList(), total, nextCursor,
+                companies, locations);
+    }
+
+    private List<FacetCountDTO> postingFacets(Map<String, Set<Long>> postings, Function<Job, String> display) {
+        Map<String, FacetCount> counts = new HashMap<>();
+        postings.forEach((key, ids) -> {
+            FacetCount facet = new FacetCount(display.apply(jobs.get(ids.iterator().next()).job));
+            facet.count = ids.size();
+            counts.put(key, facet);
+        });
+        return topFacets(counts);
+    }
+
+    private static boolean hasFilters(JobSearchRequestDTO request) {
+        return hasText(request.getCompany()) || hasText(request.getLocation()) || request.getMinSalary() != null
+                || request.getMaxSalary() != null || request.getPostedAfter() != null
+                || request.getRadiusKm() != null || request.getMinLatitude() != null;
+    }
+
+    /** Ids of open jobs whose text contains every search term of {@code text}. */
+    public Set<Long> jobsContainingAll(String text) {
+        Set<String> queryTerms = tokenize(text);
+        if (queryTerms.isEmpty()) {
+            return Set.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<Set<Long>> postings = new ArrayList<>();
+            for (String term : queryTerms) {
+                postings.add(terms.getOrDefault(term, Set.of()));
+            }
+            postings.sort(Comparator.comparingInt(Set::size));
+            Set<Long> ids = new HashSet<>();
+            for (Long id : postings.get(0)) {
+                if (containedInAll(postings.subList(1, postings.size()), id)) {
+                    ids.add(id);
+                }
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(Long jobId) {
+        IndexedJob previous = jobs.remove(jobId);
+        if (previous == null) {
+            return;
+        }
+        previous.terms.forEach(term -> removePosting(terms, term, jobId));
+        byRecent.remove(previous.position(JobSort.RECENT));
+        bySalary.remove(previous.position(JobSort.SALARY));
+        removePosting(byCompany, previous.companyKey, jobId);
+        removePosting(byLocation, previous.locationKey, jobId);
+        if (previous.hasPoint()) {
+            geoGrid.remove(jobId, previous.job.getLatitude(), previous.job.getLongitude());
+        }
+    }
+
+    private static void removePosting(Map<String, Set<Long>> index, String key, Long jobId) {
+        Set<Long> ids = index.get(key);
+        if (ids != null && ids.remove(jobId) && ids.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static boolean containedInAll(List<Set<Long>> postings, Long id) {
+        for (Set<Long> ids : postings) {
+            if (!ids.contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<Set<Long>> geoCells(JobSearchRequestDTO request) {
+        if (request.getRadiusKm() != null) {
+            return geoGrid.nearby(request.getLatitude(), request.getLongitude(), request.getRadiusKm());
+        }
+        if (request.getMinLatitude() != null) {
+            return geoGrid.within(request.getMinLatitude(), request.getMaxLatitude(), request.getMinLongitude(),
+                    request.getMaxLongitude());
+        }
+        return null;
+    }
+
+    private static void validateGeo(JobSearchRequestDTO request) {
+        if (request.getRadiusKm() != null) {
+            if (request.getLatitude() == null || request.getLongitude() == null) {
+                throw new IllegalArgumentException("A radius search needs a latitude and longitude or a place");
+            }
+            if (request.getRadiusKm() <= 0 || request.getRadiusKm() > MAX_RADIUS_KM) {
+                throw new IllegalArgumentException("radiusKm must be between 0 and " + MAX_RADIUS_KM);
+            }
+            new GeoPoint(request.getLatitude(), request.getLongitude());
+        } else if (request.getMinLatitude() != null || request.getMaxLatitude() != null
+                || request.getMinLongitude() != null || request.getMaxLongitude() != null) {
+            if (request.getMinLatitude() == null || request.getMaxLatitude() == null
+                    || request.getMinLongitude() == null || request.getMaxLongitude() == null) {
+                throw new IllegalArgumentException("A bounding box needs all four of its edges");
+            }
+            new GeoPoint(request.getMinLatitude(), request.getMinLongitude());
+            new GeoPoint(request.getMaxLatitude(), request.getMaxLongitude());
+            if (request.getMinLatitude() > request.getMaxLatitude()) {
+                throw new IllegalArgumentException("minLatitude must not exceed maxLatitude");
+            }
+        }
+    }
+
+    private static boolean matchesFilters(IndexedJob indexed, JobSearchRequestDTO request) {
+        Job job = indexed.job;
+        if (request.getMinSalary() != null && (job.getSalary() == null || job.getSalary() < request.getMinSalary())) {
+            return false;
+        }
+        if (request.getMaxSalary() != null && (job.getSalary() == null || job.getSalary() > request.getMaxSalary())) {
+            return false;
+        }
+        if (request.getPostedAfter() != null
+                && (job.getPostedAt() == null || !job.getPostedAt().isAfter(request.getPostedAfter()))) {
+            return false;
+        }
+        if (request.getRadiusKm() != null) {
+            return indexed.hasPoint() && GeoPoint.distanceKm(request.getLatitude(), request.getLongitude(),
+                    job.getLatitude(), job.getLongitude()) <= request.getRadiusKm();
+        }
+        if (request.getMinLatitude() != null) {
+            if (!indexed.hasPoint() || job.getLatitude() < request.getMinLatitude()
+                    || job.getLatitude() > request.getMaxLatitude()) {
+                return false;
+            }
+            return request.getMinLongitude() <= request.getMaxLongitude()
+                    ? job.getLongitude() >= request.getMinLongitude() && job.getLongitude() <= request.getMaxLongitude()
+                    : job.getLongitude() >= request.getMinLongitude() || job.getLongitude() <= request.getMaxLongitude();
+        }
+        return true;
+    }
+
+    private static List<FacetCountDTO> topFacets(Map<String, FacetCount> counts) {
+        return counts.values().stream()
+                .sorted(Comparator.comparingLong((FacetCount facet) -> facet.count).reversed()
+                        .thenComparing(facet -> facet.value, Comparator.nullsLast(Comparator.naturalOrder())))
+                .limit(FACET_LIMIT)
+                .map(facet -> new FacetCountDTO(facet.value, facet.count))
+                .toList();
+    }
+
+    public static Set<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return Collections.emptySet();
+        }
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static final class IndexedJob {
+        private final Job job;
+        private final Set<String> terms;
+        private final String companyKey;
+        private final String locationKey;
+        private final long postedAtMillis;
+        private final long salaryCents;
+
+        private IndexedJob(Job job) {
+            this.job = job;
+            this.terms = new HashSet<>();
+            terms.addAll(tokenize(job.getTitle()));
+            terms.addAll(tokenize(job.getCompany()));
+            terms.addAll(tokenize(job.getLocation()));
+            terms.addAll(tokenize(job.getDescription()));
+            this.companyKey = normalize(job.getCompany());
+            this.locationKey = normalize(job.getLocation());
+            // Jobs without a value sort last in either order.
+            this.postedAtMillis = job.getPostedAt() == null
+                    ? Long.MIN_VALUE : job.getPostedAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+            this.salaryCents = job.getSalary() == null ? Long.MIN_VALUE : Math.round(job.getSalary() * 100);
+        }
+
+        private boolean hasPoint() {
+            return job.getLatitude() != null && job.getLongitude() != null;
+        }
+
+        private long sortValue(JobSort sort) {
+            return sort == JobSort.SALARY ? salaryCents : postedAtMillis;
+        }
+
+        private Cursor position(JobSort sort) {
+            return new Cursor(sortValue(sort), job.getId());
+        }
+    }
+
+    private static final class FacetCount {
+        private final String value;
+        private long count;
+
+        private FacetCount(String value) {
+            this.value = value;
+        }
+    }
+
+    private static final class Cursor {
+        /** Page order: sort value, then id, both descending. */
+        private static final Comparator<Cursor> PAGE_ORDER = Comparator.comparingLong((Cursor c) -> c.value)
+                .thenComparingLong(c -> c.id).reversed();
+
+        private final long value;
+        private final long id;
+
+        private Cursor(long value, long id) {
+            this.value = value;
+            this.id = id;
+        }
+
+        /** True if a row with this sort value and id comes after the cursor in descending order. */
+        private boolean isBefore(long rowValue, long rowId) {
+            return rowValue < value || (rowValue == value && rowId < id);
+        }
+
+        private String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((value + "|" + id).getBytes(StandardCharsets.UTF_8));
+        }
+
+        private static Cursor decode(String cursor) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+                return new Cursor(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid cursor", e);
+            }
+        }
+    }
+
+    private record UnfilteredFacets(long version, List<FacetCountDTO> companies, List<FacetCountDTO> locations) {
+    }
+
+    public static final class Result {
+        private final List<Job> jobs;
+        private final long total;
+        private final String nextCursor;
+        private final List<FacetCountDTO> companies;
+        private final List<FacetCountDTO> locations;
+
+        private Result(List<Job> jobs, long total, String nextCursor, List<FacetCountDTO> companies,
+                List<FacetCountDTO> locations) {
+            this.jobs = jobs;
+            this.total = total;
+            this.nextCursor = nextCursor;
+            this.companies = companies;
+            this.locations = locations;
+        }
+
+        public List<Job> getJobs() {
+            return jobs;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+
+        public String getNextCursor() {
+            return nextCursor;
+        }
+
+        public List<FacetCountDTO> getCompanies() {
+            return companies;
+        }
+
+        public List<FacetCountDTO> getLocations() {
+            return locations;
+        }
+    }
+}
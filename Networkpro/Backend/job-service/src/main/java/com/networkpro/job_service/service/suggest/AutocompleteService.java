@@ -0,0 +1,130 @@
+package com.networkpro.job_service.service.suggest;
+
+import com.networkpro.job_service.dto.SuggestionDTO;
+import com.networkpro.job_service.dto.SuggestionField;
+import com.networkpro.job_service.model.Job;
+import com.networkpro.job_service.model.JobStatus;
+import com.networkpro.job_service.repository.JobRepository;
+import com.networkpro.job_service.service.JobChangeListener;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typeahead for job titles, companies and locations, weighted by how many open jobs use each
+ * value. Each field's {@link CompletionTrie} is updated in place through {@link JobChangeListener}:
+ * a job write changes the weight of at most one value per field and recomputes only the top lists
+ * on that value's paths, so suggestions are current as soon as the write is seen. Lookups share a
+ * read lock; writes take the write lock for the few path updates.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutocompleteService implements JobChangeListener {
+    private static final int LOAD_BATCH = 1000;
+
+    private final JobRepository jobRepository;
+
+    @Value("${job.autocomplete.top-k:10}")
+    private int topK;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<SuggestionField, CompletionTrie> tries = new EnumMap<>(SuggestionField.class);
+    private final Map<Long, String[]> indexedValues = new HashMap<>();
+
+    @PostConstruct
+    public void load() {
+        for (SuggestionField field : SuggestionField.values()) {
+            tries.put(field, new CompletionTrie(topK));
+        }
+        long afterId = 0;
+        List<Job> batch;
+        while (!(batch = jobRepository.findByStatusAndIdGreaterThanOrderByIdAsc(JobStatus.OPEN, afterId,
+                PageRequest.of(0, LOAD_BATCH))).isEmpty()) {
+            batch.forEach(this::onJobSaved);
+            afterId = batch.get(batch.size() - 1).getId();
+        }
+        log.info("Loaded autocomplete from {} open jobs", indexedValues.size());
+    }
+
+    @Override
+    public void onJobSaved(Job job) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(job.getId());
+            String[] values = {job.getTitle(), job.getCompany(), job.getLocation()};
+            indexedValues.put(job.getId(), values);
+            for (SuggestionField field : SuggestionField.values()) {
+                String value = values[field.ordinal()];
+                if (value != null && !value.isBlank()) {
+                    tries.get(field).update(value, 1);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onJobDeleted(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onJobClosed(Long jobId) {
+        onJobDeleted(jobId);
+    }
+
+    /** Completions for one field, or across all fields when {@code field} is null. */
+    public List<SuggestionDTO> suggest(String prefix, SuggestionField field, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        int size = Math.max(1, Math.min(limit, topK));
+        List<SuggestionDTO> suggestions = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (SuggestionField candidate : field != null ? List.of(field) : List.of(SuggestionField.values())) {
+                CompletionTrie trie = tries.get(candidate);
+                if (trie != null) {
+                    trie.complete(prefix, size).forEach(completion ->
+                            suggestions.add(new SuggestionDTO(completion.value(), candidate, completion.weight())));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        suggestions.sort(Comparator.comparingLong(SuggestionDTO::getCount).reversed());
+        return suggestions.size() > size ? suggestions.subList(0, size) : suggestions;
+    }
+
+    private void removeLocked(Long jobId) {
+        String[] previous = indexedValues.remove(jobId);
+        if (previous == null) {
+            return;
+        }
+        for (SuggestionField field : SuggestionField.values()) {
+            String value = previous[field.ordinal()];
+            if (value != null && !value.isBlank()) {
+                tries.get(field).update(value, -1);
+            }
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.networkpro.job_service.service.suggest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * Radix trie over weighted completion values. Each value is indexed under its full text and under
+ * every suffix starting at a word, so "java" finds "Senior Java Developer". Every node keeps its
+ * best {@code topK} values by weight, so a lookup walks the prefix and copies a precomputed list,
+ * whatever the number of values below it. A weight change re-inserts the value under its own
+ * suffixes and recomputes the top lists only along those paths, each from the node's own values
+ * and its children's lists. Not thread-safe.
+ */
+final class CompletionTrie {
+    private static final int MAX_SUFFIXES = 8;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Comparator<Entry> HEAVIEST_FIRST = Comparator.comparingLong((Entry entry) -> entry.weight)
+            .reversed().thenComparing(entry -> entry.key);
+    private static final Entry[] NONE = new Entry[0];
+
+    private final int topK;
+    private final Node root = new Node("");
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    CompletionTrie(int topK) {
+        this.topK = topK;
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : WHITESPACE.matcher(text.trim().toLowerCase(Locale.ROOT)).replaceAll(" ");
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Adds {@code delta} to the weight of the value; a value whose weight drops to zero is removed.
+     * A new value is shown with the casing it is first added with.
+     */
+    void update(String value, long delta) {
+        String key = normalize(value);
+        if (key.isEmpty() || delta == 0) {
+            return;
+        }
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            if (delta < 0) {
+                return;
+            }
+            entry = new Entry(value.trim(), key);
+            entries.put(key, entry);
+        } else {
+            // Out of the ordered sets before its weight, which orders them, changes.
+            for (String suffix : suffixes(key)) {
+                detach(suffix, entry);
+            }
+        }
+        entry.weight += delta;
+        if (entry.weight <= 0) {
+            entries.remove(key);
+            return;
+        }
+        for (String suffix : suffixes(key)) {
+            attach(suffix, entry);
+        }
+    }
+
+    /** Up to {@code limit} values that have a word starting with {@code prefix}, heaviest first. */
+    List<Completion> complete(String prefix, int limit) {
+        String query = normalize(prefix);
+        Node node = root;
+        int matched = 0;
+        while (matched < query.length()) {
+            Node child = node.children.get(query.charAt(matched));
+            if (child == null) {
+                return List.of();
+            }
+            for (int i = 0; i < child.label.length() && matched < query.length(); i++, matched++) {
+                if (child.label.charAt(i) != query.charAt(matched)) {
+                    return List.of();
+                }
+            }
+            node = child;
+        }
+        int count = Math.min(limit, node.top.length);
+        List<Completion> completions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            completions.add(new Completion(node.top[i].display, node.top[i].weight));
+        }
+        return completions;
+    }
+
+    private static List<String> suffixes(String key) {
+        List<String> suffixes = new ArrayList<>();
+        for (int i = 0; i < key.length() && suffixes.size() < MAX_SUFFIXES; i++) {
+            if (Character.isLetterOrDigit(key.charAt(i)) && (i == 0 || !Character.isLetterOrDigit(key.charAt(i - 1)))) {
+                suffixes.add(key.substring(i));
+            }
+        }
+        return suffixes;
+    }
+
+    private void attach(String suffix, Entry entry) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int depth = 0;
+        while (depth < suffix.length()) {
+            Node child = node.children.get(suffix.charAt(depth));
+            if (child == null) {
+                child = new Node(suffix.substring(depth));
+                node.children.put(suffix.charAt(depth), child);
+            } else {
+                int common = commonPrefix(child.label, suffix, depth);
+                if (common < child.label.length()) {
+                    // Split the edge; the new node's list is recomputed below, as it is on the path.
+                    Node split = new Node(child.label.substring(0, common));
+                    child.label = child.label.substring(common);
+                    split.children.put(child.label.charAt(0), child);
+                    node.children.put(split.label.charAt(0), split);
+                    child = split;
+                }
+            }
+            depth += child.label.length();
+            path.add(child);
+            node = child;
+        }
+        node.terminals.add(entry);
+        for (int i = path.size() - 1; i >= 0; i--) {
+            recompute(path.get(i));
+        }
+    }
+
+    private void detach(String suffix, Entry entry) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int depth = 0;
+        while (depth < suffix.length()) {
+            node = node.children.get(suffix.charAt(depth));
+            if (node == null) {
+                return;
+            }
+            depth += node.label.length();
+            path.add(node);
+        }
+        node.terminals.remove(entry);
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node current = path.get(i);
+            Node parent = path.get(i - 1);
+            if (current.terminals.isEmpty() && current.children.isEmpty()) {
+                parent.children.remove(current.label.charAt(0));
+            } else if (current.terminals.isEmpty() && current.children.size() == 1) {
+                // Fold a node left with a single child into it, keeping the trie compressed; the
+                // child's list is already up to date.
+                Node only = current.children.firstEntry().getValue();
+                current.label = current.label + only.label;
+                current.children.clear();
+                current.children.putAll(only.children);
+                current.terminals.addAll(only.terminals);
+                current.top = only.top;
+            } else {
+                recompute(current);
+            }
+        }
+        recompute(root);
+    }
+
+    /** The node's own values and its children's lists, distinct and heaviest first, up to topK. */
+    private void recompute(Node node) {
+        Set<Entry> candidates = new LinkedHashSet<>();
+        for (Entry entry : node.terminals) {
+            if (candidates.size() == topK) {
+                break;
+            }
+            candidates.add(entry);
+        }
+        for (Node child : node.children.values()) {
+            for (Entry entry : child.top) {
+                candidates.add(entry);
+            }
+        }
+        node.top = candidates.stream().sorted(HEAVIEST_FIRST).limit(topK).toArray(Entry[]::new);
+    }
+
+    private static int commonPrefix(String label, String text, int from) {
+        int length = 0;
+        int max = Math.min(label.length(), text.length() - from);
+        while (length < max && label.charAt(length) == text.charAt(from + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    record Completion(String value, long weight) {
+    }
+
+    private static final class Entry {
+        private final String display;
+        private final String key;
+        private long weight;
+
+        private Entry(String display, String key) {
+            this.display = display;
+            this.key = key;
+        }
+    }
+
+    private static final class Node {
+        private String label; // edge label from the parent
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+        private final TreeSet<Entry> terminals = new TreeSet<>(HEAVIEST_FIRST); // values whose suffix ends here
+        private Entry[] top = NONE;
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+}
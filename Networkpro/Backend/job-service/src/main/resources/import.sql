@@ -0,0 +1,4 @@
+CREATE INDEX idx_jobs_open_posted ON jobs (posted_at DESC, id DESC) WHERE status = 'OPEN';
+CREATE INDEX idx_jobs_open_id ON jobs (id) WHERE status = 'OPEN';
+CREATE INDEX idx_jobs_open_expires ON jobs (expires_at) WHERE status = 'OPEN';
+CREATE INDEX idx_jobs_closed_at ON jobs (closed_at) WHERE status <> 'OPEN';
@@ -0,0 +1,126 @@
+package com.networkpro.message_service.controller;
+
+import com.networkpro.message_service.dto.AttachmentDTO;
+import com.networkpro.message_service.dto.AttachmentUploadRequestDTO;
+import com.networkpro.message_service.dto.AttachmentUploadStatusDTO;
+import com.networkpro.message_service.model.Attachment;
+import com.networkpro.message_service.service.attachment.AttachmentService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/attachments")
+public class AttachmentController {
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    @Autowired
+    private AttachmentService attachmentService;
+
+    // POST /api/attachments/uploads - Start a resumable upload
+    @PostMapping("/uploads")
+    public ResponseEntity<AttachmentUploadStatusDTO> startUpload(@RequestBody AttachmentUploadRequestDTO request) {
+        return ResponseEntity.ok(attachmentService.startUpload(request));
+    }
+
+    // GET /api/attachments/uploads/{uploadId} - Bytes received so far, to resume after a failure
+    @GetMapping("/uploads/{uploadId}")
+    public ResponseEntity<AttachmentUploadStatusDTO> getUploadStatus(@PathVariable String uploadId) {
+        return ResponseEntity.ok(attachmentService.getUploadStatus(uploadId));
+    }
+
+    // PUT /api/attachments/uploads/{uploadId}?offset={n} - Append a chunk (raw body, streamed to disk)
+    @PutMapping(value = "/uploads/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<AttachmentUploadStatusDTO> uploadChunk(@PathVariable String uploadId,
+            @RequestParam long offset, HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(attachmentService.uploadChunk(uploadId, offset, request.getInputStream()));
+    }
+
+    // POST /api/attachments/uploads/{uploadId}/complete - Verify, deduplicate and store the upload
+    @PostMapping("/uploads/{uploadId}/complete")
+    public ResponseEntity<AttachmentDTO> completeUpload(@PathVariable String uploadId) {
+        return ResponseEntity.ok(attachmentService.completeUpload(uploadId));
+    }
+
+    // GET /api/attachments/{id} - Download, honouring a single Range header
+    @GetMapping("/{id}")
+    public void download(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Attachment attachment = attachmentService.getAttachment(id);
+        long size = attachment.getSize();
+        long start = 0;
+        long end = size - 1;
+        if (range != null) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(range);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();
+            }
+            if (ranges.size() != 1 || ranges.get(0).getRangeStart(size) >= size) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                return;
+            }
+            start = ranges.get(0).getRangeStart(size);
+            end = ranges.get(0).getRangeEnd(size);
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+        }
+        long length = end - start + 1;
+        response.setContentType(attachment.getContentType() != null ? attachment.getContentType()
+                : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setContentLengthLong(length);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.ETAG, "\"" + attachment.getSha256() + "\"");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(attachment.getFileName() != null ? attachment.getFileName() : "attachment",
+                        StandardCharsets.UTF_8)
+                .build().toString());
+
+        // Tomcat's NIO connector serves sendfile requests with FileChannel.transferTo straight to the
+        // socket, so file pages never pass through the heap.
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, attachmentService.contentPath(attachment).toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        try (FileChannel file = attachmentService.openContent(attachment)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = file.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    // GET /api/attachments/{id}/metadata - Attachment metadata
+    @GetMapping("/{id}/metadata")
+    public ResponseEntity<AttachmentDTO> getMetadata(@PathVariable Long id) {
+        return ResponseEntity.ok(attachmentService.toDTO(attachmentService.getAttachment(id)));
+    }
+}
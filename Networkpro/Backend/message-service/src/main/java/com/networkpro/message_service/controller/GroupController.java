@@ -0,0 +1,83 @@
+package com.networkpro.message_service.controller;
+
+import com.networkpro.message_service.dto.GroupMessageRequestDTO;
+import com.networkpro.message_service.dto.GroupRequestDTO;
+import com.networkpro.message_service.dto.GroupResponseDTO;
+import com.networkpro.message_service.dto.MessageResponseDTO;
+import com.networkpro.message_service.dto.ReadReceiptDTO;
+import com.networkpro.message_service.service.group.GroupService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/groups")
+public class GroupController {
+    @Autowired
+    private GroupService groupService;
+
+    // POST /api/groups - Create a group conversation; the creator is always a member
+    @PostMapping
+    public ResponseEntity<GroupResponseDTO> createGroup(@RequestBody GroupRequestDTO request) {
+        return ResponseEntity.ok(groupService.createGroup(request));
+    }
+
+    // GET /api/groups/{groupId} - Get a group and its members
+    @GetMapping("/{groupId}")
+    public ResponseEntity<GroupResponseDTO> getGroup(@PathVariable Long groupId) {
+        return ResponseEntity.ok(groupService.getGroup(groupId));
+    }
+
+    // PUT /api/groups/{groupId}/members/{userId} - Add a member
+    @PutMapping("/{groupId}/members/{userId}")
+    public ResponseEntity<Void> addMember(@PathVariable Long groupId, @PathVariable Long userId) {
+        groupService.addMember(groupId, userId);
+        return ResponseEntity.noContent().build();
+    }
+
+    // DELETE /api/groups/{groupId}/members/{userId} - Remove a member
+    @DeleteMapping("/{groupId}/members/{userId}")
+    public ResponseEntity<Void> removeMember(@PathVariable Long groupId, @PathVariable Long userId) {
+        groupService.removeMember(groupId, userId);
+        return ResponseEntity.noContent().build();
+    }
+
+    // POST /api/groups/{groupId}/messages - Send a message to every member of the group
+    @PostMapping("/{groupId}/messages")
+    public ResponseEntity<MessageResponseDTO> sendGroupMessage(@PathVariable Long groupId,
+            @RequestBody GroupMessageRequestDTO request) {
+        return ResponseEntity.ok(groupService.sendGroupMessage(groupId, request));
+    }
+
+    // GET /api/groups/{groupId}/messages?beforeId={id}&limit=50 - Page back through group history
+    @GetMapping("/{groupId}/messages")
+    public ResponseEntity<List<MessageResponseDTO>> getGroupMessages(@PathVariable Long groupId,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(groupService.getGroupMessages(groupId, beforeId, limit));
+    }
+
+    // GET /api/groups/{groupId}/messages/archive?beforeId={id}&limit=50 - Page through archived history
+    @GetMapping("/{groupId}/messages/archive")
+    public ResponseEntity<List<MessageResponseDTO>> getArchivedGroupMessages(@PathVariable Long groupId,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(groupService.getArchivedGroupMessages(groupId, beforeId, limit));
+    }
+
+    // PUT /api/groups/{groupId}/read - Advance a member's read watermark
+    @PutMapping("/{groupId}/read")
+    public ResponseEntity<Void> markRead(@PathVariable Long groupId, @RequestBody ReadReceiptDTO receipt) {
+        groupService.markRead(groupId, receipt);
+        return ResponseEntity.noContent().build();
+    }
+
+    // GET /api/groups/unread/{userId} - Unread message count per group for a user
+    @GetMapping("/unread/{userId}")
+    public ResponseEntity<Map<Long, Long>> getUnreadCounts(@PathVariable Long userId) {
+        return ResponseEntity.ok(groupService.getUnreadCounts(userId));
+    }
+}
@@ -2,6 +2,7 @@ package com.networkpro.message_service.controller;
 
 import com.networkpro.message_service.dto.MessageRequestDTO;
 import com.networkpro.message_service.dto.MessageResponseDTO;
+import com.networkpro.message_service.dto.MessageSearchResponseDTO;
 import com.networkpro.message_service.service.MessageService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -35,12 +36,32 @@ public class MessageController {
         return ResponseEntity.ok(messageService.getConversation(user1, user2));
     }
 
+    // GET /api/messages/conversation/archive?user1={id1}&user2={id2}&beforeId={id}&limit=50 -
+    // Page back through conversation history that has been moved to the archive
+    @GetMapping("/conversation/archive")
+    public ResponseEntity<List<MessageResponseDTO>> getArchivedConversation(@RequestParam Long user1,
+            @RequestParam Long user2,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(messageService.getArchivedConversation(user1, user2, beforeId, limit));
+    }
+
     // GET /api/messages/inbox/{userId} - Get all messages received by a user
     @GetMapping("/inbox/{userId}")
     public ResponseEntity<List<MessageResponseDTO>> getInbox(@PathVariable Long userId) {
         return ResponseEntity.ok(messageService.getInbox(userId));
     }
 
+    // GET /api/messages/search?userId={id}&q={query}&page=0&size=20 - Full-text search
+    // over a user's sent and received messages, newest first, with highlighted snippets
+    @GetMapping("/search")
+    public ResponseEntity<MessageSearchResponseDTO> searchMessages(@RequestParam Long userId,
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(messageService.searchMessages(userId, query, page, size));
+    }
+
     // DELETE /api/messages/{id} - Delete a message
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteMessage(@PathVariable Long id) {
@@ -0,0 +1,13 @@
+package com.networkpro.message_service.dto;
+
+import lombok.Data;
+
+@Data
+public class AttachmentDTO {
+    private Long id;
+    private Long messageId;
+    private String fileName;
+    private String contentType;
+    private long size;
+    private String sha256;
+}
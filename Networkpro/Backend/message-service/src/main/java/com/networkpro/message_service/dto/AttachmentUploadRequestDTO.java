@@ -0,0 +1,11 @@
+package com.networkpro.message_service.dto;
+
+import lombok.Data;
+
+@Data
+public class AttachmentUploadRequestDTO {
+    private Long uploaderId;
+    private String fileName;
+    private String contentType;
+    private long size;
+}
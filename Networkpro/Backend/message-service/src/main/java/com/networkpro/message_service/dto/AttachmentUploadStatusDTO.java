@@ -0,0 +1,14 @@
+package com.networkpro.message_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttachmentUploadStatusDTO {
+    private String uploadId;
+    private long offset; // bytes received so far; the next chunk starts here
+    private long size;
+}
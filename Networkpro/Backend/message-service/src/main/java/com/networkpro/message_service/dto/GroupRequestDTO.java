@@ -0,0 +1,13 @@
+package com.networkpro.message_service.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class GroupRequestDTO {
+    private String name;
+    private Long createdBy;
+    private List<Long> memberIds = new ArrayList<>();
+}
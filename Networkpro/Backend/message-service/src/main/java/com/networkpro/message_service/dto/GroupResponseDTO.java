@@ -0,0 +1,15 @@
+package com.networkpro.message_service.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class GroupResponseDTO {
+    private Long id;
+    private String name;
+    private Long createdBy;
+    private LocalDateTime createdAt;
+    private List<Long> memberIds;
+}
@@ -2,9 +2,12 @@ package com.networkpro.message_service.dto;
 
 import lombok.Data;
 
+import java.util.List;
+
 @Data
 public class MessageRequestDTO {
     private Long senderId;
     private Long receiverId;
     private String content;
+    private List<Long> attachmentIds;
 }
\ No newline at end of file
@@ -2,13 +2,16 @@ package com.networkpro.message_service.dto;
 
 import lombok.Data;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 public class MessageResponseDTO {
     private Long id;
     private Long senderId;
     private Long receiverId;
+    private Long groupId;
     private String content;
     private LocalDateTime timestamp;
     private String status;
+    private List<AttachmentDTO> attachments = List.of();
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.networkpro.message_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageSearchResponseDTO {
+    private List<MessageSearchResultDTO> results;
+    private int page;
+    private int size;
+    private boolean hasMore;
+}
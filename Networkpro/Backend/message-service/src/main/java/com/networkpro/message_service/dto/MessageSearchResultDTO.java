@@ -0,0 +1,14 @@
+package com.networkpro.message_service.dto;
+
+import lombok.Data;
+import java.time.LocalDateTime;
+
+@Data
+public class MessageSearchResultDTO {
+    private Long id;
+    private Long senderId;
+    private Long receiverId;
+    private Long groupId;
+    private LocalDateTime timestamp;
+    private String highlight;
+}
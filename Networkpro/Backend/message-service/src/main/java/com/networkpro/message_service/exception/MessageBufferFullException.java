@@ -0,0 +1,7 @@
+package com.networkpro.message_service.exception;
+
+public class MessageBufferFullException extends RuntimeException {
+    public MessageBufferFullException(String message) {
+        super(message);
+    }
+}
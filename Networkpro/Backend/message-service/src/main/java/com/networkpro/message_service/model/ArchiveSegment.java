@@ -0,0 +1,29 @@
+package com.networkpro.message_service.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "message_archive_segment", indexes = {
+        @Index(name = "idx_archive_segment_conversation", columnList = "conversationKey, lastMessageId"),
+        @Index(name = "idx_archive_segment_range", columnList = "firstMessageId, lastMessageId")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchiveSegment {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String conversationKey; // d:{lowerUserId}:{higherUserId} or g:{groupId}
+    private Long firstMessageId;
+    private Long lastMessageId;
+    private LocalDateTime fromTimestamp;
+    private LocalDateTime toTimestamp;
+    private int messageCount;
+    private String storageKey;
+    private LocalDateTime createdAt;
+}
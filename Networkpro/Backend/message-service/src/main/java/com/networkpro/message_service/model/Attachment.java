@@ -0,0 +1,28 @@
+package com.networkpro.message_service.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "attachment", indexes = {
+        @Index(name = "idx_attachment_message", columnList = "messageId"),
+        @Index(name = "idx_attachment_sha256", columnList = "sha256")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Attachment {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long messageId; // null until the attachment is sent with a message
+    private Long uploaderId;
+    private String fileName;
+    private String contentType;
+    private long size;
+    private String sha256; // content address of the stored blob, shared by identical uploads
+    private LocalDateTime createdAt;
+}
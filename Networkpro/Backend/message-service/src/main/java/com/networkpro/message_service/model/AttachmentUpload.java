@@ -0,0 +1,22 @@
+package com.networkpro.message_service.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "attachment_upload")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttachmentUpload {
+    @Id
+    private String id;
+
+    private Long uploaderId;
+    private String fileName;
+    private String contentType;
+    private long expectedSize;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,21 @@
+package com.networkpro.message_service.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "conversation_group")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ConversationGroup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String name;
+    private Long createdBy;
+    private LocalDateTime createdAt;
+}
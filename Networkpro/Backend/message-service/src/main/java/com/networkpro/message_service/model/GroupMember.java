@@ -0,0 +1,26 @@
+package com.networkpro.message_service.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "group_member", uniqueConstraints = @UniqueConstraint(columnNames = { "groupId", "userId" }),
+        indexes = @Index(name = "idx_group_member_user", columnList = "userId"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GroupMember {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long groupId;
+    private Long userId;
+    private LocalDateTime joinedAt;
+
+    // Read watermark: every group message with an id at or below this one has been read.
+    // Message ids are time-ordered, so this is a single column instead of per-message receipts.
+    private Long lastReadMessageId;
+}
@@ -5,17 +5,23 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(name = "message", indexes = {
+        @Index(name = "idx_message_sender", columnList = "senderId"),
+        @Index(name = "idx_message_receiver", columnList = "receiverId"),
+        @Index(name = "idx_message_group", columnList = "groupId, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Message {
+    // Assigned up-front by SnowflakeIdGenerator so messages can be journaled and batch-inserted.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     private Long senderId;
     private Long receiverId;
+    private Long groupId; // set instead of receiverId for group messages
     private String content;
     private LocalDateTime timestamp;
     private String status; // e.g., SENT, DELIVERED, READ
@@ -0,0 +1,17 @@
+package com.networkpro.message_service.repository;
+
+import com.networkpro.message_service.model.ArchiveSegment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ArchiveSegmentRepository extends JpaRepository<ArchiveSegment, Long> {
+    List<ArchiveSegment> findByConversationKeyAndFirstMessageIdLessThanOrderByLastMessageIdDesc(
+            String conversationKey, Long beforeId, Pageable pageable);
+
+    // Segments whose id range covers a message; ranges of different conversations can overlap.
+    List<ArchiveSegment> findByFirstMessageIdLessThanEqualAndLastMessageIdGreaterThanEqual(Long id, Long sameId);
+}
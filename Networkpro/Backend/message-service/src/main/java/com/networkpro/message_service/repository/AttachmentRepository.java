@@ -0,0 +1,35 @@
+package com.networkpro.message_service.repository;
+
+import com.networkpro.message_service.model.Attachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
+    List<Attachment> findByMessageIdIn(Collection<Long> messageIds);
+
+    List<Attachment> findByMessageId(Long messageId);
+
+    List<Attachment> findByMessageIdIsNullAndCreatedAtBefore(LocalDateTime cutoff);
+
+    boolean existsBySha256(String sha256);
+
+    @Query("SELECT COUNT(a) FROM Attachment a WHERE a.id IN :ids AND a.uploaderId = :uploaderId "
+            + "AND a.messageId IS NULL")
+    long countLinkable(@Param("ids") Collection<Long> ids, @Param("uploaderId") Long uploaderId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Attachment a SET a.messageId = :messageId WHERE a.id IN :ids "
+            + "AND a.uploaderId = :uploaderId AND a.messageId IS NULL")
+    int linkToMessage(@Param("ids") Collection<Long> ids, @Param("messageId") Long messageId,
+            @Param("uploaderId") Long uploaderId);
+}
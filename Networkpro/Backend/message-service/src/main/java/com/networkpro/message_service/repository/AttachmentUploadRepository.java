@@ -0,0 +1,13 @@
+package com.networkpro.message_service.repository;
+
+import com.networkpro.message_service.model.AttachmentUpload;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AttachmentUploadRepository extends JpaRepository<AttachmentUpload, String> {
+    List<AttachmentUpload> findByCreatedAtBefore(LocalDateTime cutoff);
+}
@@ -0,0 +1,9 @@
+package com.networkpro.message_service.repository;
+
+import com.networkpro.message_service.model.ConversationGroup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ConversationGroupRepository extends JpaRepository<ConversationGroup, Long> {
+}
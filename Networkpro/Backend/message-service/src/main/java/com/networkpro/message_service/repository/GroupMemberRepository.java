@@ -0,0 +1,33 @@
+package com.networkpro.message_service.repository;
+
+import com.networkpro.message_service.model.GroupMember;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface GroupMemberRepository extends JpaRepository<GroupMember, Long> {
+    @Query("SELECT gm.userId FROM GroupMember gm WHERE gm.groupId = :groupId")
+    List<Long> findUserIdsByGroupId(@Param("groupId") Long groupId);
+
+    List<GroupMember> findByUserId(Long userId);
+
+    Optional<GroupMember> findByGroupIdAndUserId(Long groupId, Long userId);
+
+    @Transactional
+    void deleteByGroupIdAndUserId(Long groupId, Long userId);
+
+    // Only ever moves the watermark forward, so out-of-order read receipts are harmless.
+    @Transactional
+    @Modifying
+    @Query("UPDATE GroupMember gm SET gm.lastReadMessageId = :messageId WHERE gm.groupId = :groupId "
+            + "AND gm.userId = :userId AND (gm.lastReadMessageId IS NULL OR gm.lastReadMessageId < :messageId)")
+    int advanceReadWatermark(@Param("groupId") Long groupId, @Param("userId") Long userId,
+            @Param("messageId") Long messageId);
+}
@@ -1,9 +1,13 @@
 package com.networkpro.message_service.repository;
 
 import com.networkpro.message_service.model.Message;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -12,4 +16,26 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
             Long receiverId2);
 
     List<Message> findByReceiverId(Long receiverId);
+
+    List<Message> findByGroupIdAndIdLessThanOrderByIdDesc(Long groupId, Long beforeId, Pageable pageable);
+
+    long countByGroupIdAndIdGreaterThanAndSenderIdNot(Long groupId, Long afterId, Long senderId);
+
+    // The id bound lets the primary key index do the range scan; snowflake ids are time-ordered.
+    List<Message> findByIdLessThanAndTimestampBeforeOrderByIdAsc(Long maxId, LocalDateTime cutoff, Pageable pageable);
+
+    // search_vector is a generated tsvector column with a GIN index (see import.sql), so Postgres
+    // keeps the index current on every insert and delete. Matches in the headline are delimited
+    // by chr(2) and chr(3), which are stripped from the content first; the service escapes the
+    // snippet before turning them into <mark> tags.
+    @Query(value = "SELECT m.id AS id, m.sender_id AS senderId, m.receiver_id AS receiverId, "
+            + "m.group_id AS groupId, m.timestamp AS timestamp, ts_headline('simple', "
+            + "translate(coalesce(m.content, ''), chr(2) || chr(3), ''), q, 'StartSel=' || chr(2) "
+            + "|| ', StopSel=' || chr(3) || ', MaxFragments=2, MinWords=5, MaxWords=20') AS highlight "
+            + "FROM message m, websearch_to_tsquery('simple', :query) q "
+            + "WHERE m.search_vector @@ q AND (m.sender_id = :userId OR m.receiver_id = :userId "
+            + "OR m.group_id IN (SELECT gm.group_id FROM group_member gm WHERE gm.user_id = :userId)) "
+            + "ORDER BY m.timestamp DESC, m.id DESC LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<MessageSearchHit> search(@Param("userId") Long userId, @Param("query") String query,
+            @Param("limit") int limit, @Param("offset") long offset);
 }
\ No newline at end of file
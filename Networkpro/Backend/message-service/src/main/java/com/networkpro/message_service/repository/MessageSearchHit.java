@@ -0,0 +1,17 @@
+package com.networkpro.message_service.repository;
+
+import java.time.LocalDateTime;
+
+public interface MessageSearchHit {
+    Long getId();
+
+    Long getSenderId();
+
+    Long getReceiverId();
+
+    Long getGroupId();
+
+    LocalDateTime getTimestamp();
+
+    String getHighlight();
+}
@@ -1,51 +1,134 @@
 package com.networkpro.message_service.service;
 
+import com.networkpro.message_service.dto.AttachmentDTO;
 import com.networkpro.message_service.dto.MessageRequestDTO;
 import com.networkpro.message_service.dto.MessageResponseDTO;
+import com.networkpro.message_service.dto.MessageSearchResponseDTO;
+import com.networkpro.message_service.dto.MessageSearchResultDTO;
 import com.networkpro.message_service.model.Message;
 import com.networkpro.message_service.repository.MessageRepository;
+import com.networkpro.message_service.repository.MessageSearchHit;
+import com.networkpro.message_service.service.archive.MessageArchiveService;
+import com.networkpro.message_service.service.attachment.AttachmentService;
+import com.networkpro.message_service.service.ingest.MessageIngestionPipeline;
+import com.networkpro.message_service.service.ingest.SnowflakeIdGenerator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.web.util.HtmlUtils;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @Service
 public class MessageService {
+    private static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private MessageRepository messageRepository;
 
+    @Autowired
+    private MessageIngestionPipeline ingestionPipeline;
+
+    @Autowired
+    private SnowflakeIdGenerator idGenerator;
+
+    @Autowired
+    private MessageArchiveService archiveService;
+
+    @Autowired
+    private AttachmentService attachmentService;
+
     public MessageResponseDTO sendMessage(MessageRequestDTO request) {
         Message message = Message.builder()
+                .id(idGenerator.nextId())
                 .senderId(request.getSenderId())
                 .receiverId(request.getReceiverId())
                 .content(request.getContent())
                 .timestamp(LocalDateTime.now())
                 .status("SENT")
                 .build();
-        Message saved = messageRepository.save(message);
-        return toResponseDTO(saved);
+        attachmentService.checkLinkable(request.getAttachmentIds(), message.getSenderId());
+        ingestionPipeline.accept(message);
+        try {
+            attachmentService.linkToMessage(request.getAttachmentIds(), message.getId(), message.getSenderId());
+        } catch (RuntimeException e) {
+            // An attachment was sent with another message since the check; take this one back out.
+            deleteMessage(message.getId());
+            throw e;
+        }
+        return withAttachments(List.of(toResponseDTO(message))).get(0);
     }
 
     public MessageResponseDTO getMessageById(Long id) {
-        Message message = messageRepository.findById(id).orElseThrow(() -> new RuntimeException("Message not found"));
-        return toResponseDTO(message);
+        Message pending = ingestionPipeline.getPending(id);
+        Message message = pending != null ? pending
+                : messageRepository.findById(id).orElseThrow(() -> new RuntimeException("Message not found"));
+        return withAttachments(List.of(toResponseDTO(message))).get(0);
     }
 
     public List<MessageResponseDTO> getConversation(Long user1, Long user2) {
         List<Message> messages = messageRepository.findBySenderIdAndReceiverIdOrSenderIdAndReceiverId(
                 user1, user2, user2, user1);
-        return messages.stream().map(this::toResponseDTO).collect(Collectors.toList());
+        return withPending(messages,
+                m -> (Objects.equals(m.getSenderId(), user1) && Objects.equals(m.getReceiverId(), user2))
+                        || (Objects.equals(m.getSenderId(), user2) && Objects.equals(m.getReceiverId(), user1)));
+    }
+
+    public List<MessageResponseDTO> getArchivedConversation(Long user1, Long user2, Long beforeId, int limit) {
+        List<Message> messages = archiveService.getArchivedMessages(
+                MessageArchiveService.directConversationKey(user1, user2), beforeId,
+                Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+        return withAttachments(messages.stream().map(this::toResponseDTO).collect(Collectors.toList()));
     }
 
     public List<MessageResponseDTO> getInbox(Long userId) {
         List<Message> messages = messageRepository.findByReceiverId(userId);
-        return messages.stream().map(this::toResponseDTO).collect(Collectors.toList());
+        return withPending(messages, m -> Objects.equals(m.getReceiverId(), userId));
     }
 
     public void deleteMessage(Long id) {
-        messageRepository.deleteById(id);
+        if (!ingestionPipeline.cancel(id)) {
+            messageRepository.deleteById(id);
+            // It may already have been moved to the archive; a recent id matches no segment there.
+            archiveService.deleteArchivedMessage(id);
+        }
+        attachmentService.deleteForMessage(id);
+    }
+
+    public MessageSearchResponseDTO searchMessages(Long userId, String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be empty");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNumber = Math.max(0, page);
+        // Fetch one extra row to know whether another page exists without a COUNT query.
+        List<MessageSearchHit> hits = messageRepository.search(userId, query, pageSize + 1,
+                (long) pageNumber * pageSize);
+        boolean hasMore = hits.size() > pageSize;
+        List<MessageSearchResultDTO> results = hits.stream().limit(pageSize).map(this::toSearchResultDTO)
+                .collect(Collectors.toList());
+        return new MessageSearchResponseDTO(results, pageNumber, pageSize, hasMore);
+    }
+
+    // Accepted messages may still be waiting in the ingestion buffer; merge them in by id.
+    private List<MessageResponseDTO> withPending(List<Message> stored, Predicate<Message> filter) {
+        Map<Long, Message> merged = new LinkedHashMap<>();
+        stored.forEach(m -> merged.put(m.getId(), m));
+        ingestionPipeline.pendingMessages().stream().filter(filter).forEach(m -> merged.putIfAbsent(m.getId(), m));
+        return withAttachments(merged.values().stream().map(this::toResponseDTO).collect(Collectors.toList()));
+    }
+
+    // One query for the attachments of a whole page of messages.
+    private List<MessageResponseDTO> withAttachments(List<MessageResponseDTO> messages) {
+        Map<Long, List<AttachmentDTO>> attachments = attachmentService.findByMessageIds(
+                messages.stream().map(MessageResponseDTO::getId).collect(Collectors.toList()));
+        messages.forEach(m -> m.setAttachments(attachments.getOrDefault(m.getId(), List.of())));
+        return messages;
     }
 
     private MessageResponseDTO toResponseDTO(Message message) {
@@ -53,9 +136,27 @@ public class MessageService {
         dto.setId(message.getId());
         dto.setSenderId(message.getSenderId());
         dto.setReceiverId(message.getReceiverId());
+        dto.setGroupId(message.getGroupId());
         dto.setContent(message.getContent());
         dto.setTimestamp(message.getTimestamp());
         dto.setStatus(message.getStatus());
         return dto;
     }
+
+    // The headline is user content; escape it, then turn the match delimiters into <mark> tags.
+    private static String highlightHtml(String headline) {
+        return headline == null ? null
+                : HtmlUtils.htmlEscape(headline).replace("\u0002", "<mark>").replace("\u0003", "</mark>");
+    }
+
+    private MessageSearchResultDTO toSearchResultDTO(MessageSearchHit hit) {
+        MessageSearchResultDTO dto = new MessageSearchResultDTO();
+        dto.setId(hit.getId());
+        dto.setSenderId(hit.getSenderId());
+        dto.setReceiverId(hit.getReceiverId());
+        dto.setGroupId(hit.getGroupId());
+        dto.setTimestamp(hit.getTimestamp());
+        dto.setHighlight(highlightHtml(hit.getHighlight()));
+        return dto;
+    }
 }
\ No newline at end of file
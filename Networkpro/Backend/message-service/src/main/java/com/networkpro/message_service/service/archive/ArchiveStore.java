@@ -0,0 +1,17 @@
+package com.networkpro.message_service.service.archive;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Cold storage for archived message segments. The local-disk implementation is the default;
+ * an object-store backend only needs to provide another bean of this type and set
+ * {@code message.archive.store} to something other than {@code local}.
+ */
+public interface ArchiveStore {
+    void write(String key, byte[] segment) throws IOException;
+
+    InputStream read(String key) throws IOException;
+
+    void delete(String key) throws IOException;
+}
@@ -0,0 +1,50 @@
+package com.networkpro.message_service.service.archive;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+@Component
+@ConditionalOnProperty(name = "message.archive.store", havingValue = "local", matchIfMissing = true)
+public class LocalDiskArchiveStore implements ArchiveStore {
+    private final Path root;
+
+    public LocalDiskArchiveStore(@Value("${message.archive.dir:data/message-archive}") String directory) {
+        this.root = Paths.get(directory);
+    }
+
+    @Override
+    public void write(String key, byte[] segment) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        // Write then rename so a crash never leaves a half-written segment under its final name.
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        Files.write(temp, segment);
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Override
+    public InputStream read(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root.normalize())) {
+            throw new IllegalArgumentException("Invalid archive key: " + key);
+        }
+        return path;
+    }
+}
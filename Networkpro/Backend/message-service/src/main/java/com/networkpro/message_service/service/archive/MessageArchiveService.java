@@ -0,0 +1,231 @@
+package com.networkpro.message_service.service.archive;
+
+import com.networkpro.message_service.model.ArchiveSegment;
+import com.networkpro.message_service.model.Message;
+import com.networkpro.message_service.repository.ArchiveSegmentRepository;
+import com.networkpro.message_service.repository.MessageRepository;
+import com.networkpro.message_service.service.ingest.MessageRecordCodec;
+import com.networkpro.message_service.service.ingest.SnowflakeIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Moves messages past the retention age out of the hot {@code message} table into compressed
+ * per-conversation segments in an {@link ArchiveStore}. Each segment is indexed by
+ * conversation and id range in {@code message_archive_segment}, so old history is read back
+ * one segment at a time only when a client pages past what the hot table holds.
+ */
+@Slf4j
+@Service
+public class MessageArchiveService {
+    private static final int SEGMENT_PAGE = 10;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private ArchiveSegmentRepository segmentRepository;
+
+    @Autowired
+    private ArchiveStore archiveStore;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${message.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${message.archive.retention-days:180}")
+    private int retentionDays;
+
+    @Value("${message.archive.batch-size:5000}")
+    private int batchSize;
+
+    @Scheduled(cron = "${message.archive.cron:0 0 3 * * *}")
+    public void archiveExpiredMessages() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        long maxId = SnowflakeIdGenerator.minIdAt(cutoff.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        int archived = 0;
+        while (true) {
+            List<Message> batch = messageRepository.findByIdLessThanAndTimestampBeforeOrderByIdAsc(maxId, cutoff,
+                    PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            Map<String, List<Message>> byConversation = new LinkedHashMap<>();
+            for (Message message : batch) {
+                byConversation.computeIfAbsent(conversationKey(message), key -> new ArrayList<>()).add(message);
+            }
+            byConversation.forEach(this::archiveSegment);
+            archived += batch.size();
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        if (archived > 0) {
+            log.info("Archived {} messages older than {}", archived, cutoff);
+        }
+    }
+
+    /** Archived messages of a conversation with ids below {@code beforeId}, newest first. */
+    public List<Message> getArchivedMessages(String conversationKey, Long beforeId, int limit) {
+        long before = beforeId == null ? Long.MAX_VALUE : beforeId;
+        List<Message> result = new ArrayList<>(limit);
+        int page = 0;
+        while (result.size() < limit) {
+            List<ArchiveSegment> segments = segmentRepository
+                    .findByConversationKeyAndFirstMessageIdLessThanOrderByLastMessageIdDesc(conversationKey, before,
+                            PageRequest.of(page++, SEGMENT_PAGE));
+            for (ArchiveSegment segment : segments) {
+                List<Message> messages = readSegment(segment.getStorageKey());
+                for (int i = messages.size() - 1; i >= 0 && result.size() < limit; i--) {
+                    if (messages.get(i).getId() < before) {
+                        result.add(messages.get(i));
+                    }
+                }
+                if (result.size() >= limit) {
+                    break;
+                }
+            }
+            if (segments.size() < SEGMENT_PAGE) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes a message from the archive segment that holds it, rewriting the segment without it.
+     * Returns false if no segment holds the message.
+     */
+    public synchronized boolean deleteArchivedMessage(Long id) {
+        List<ArchiveSegment> candidates =
+                segmentRepository.findByFirstMessageIdLessThanEqualAndLastMessageIdGreaterThanEqual(id, id);
+        for (ArchiveSegment segment : candidates) {
+            List<Message> messages = readSegment(segment.getStorageKey());
+            List<Message> kept = messages.stream().filter(m -> !m.getId().equals(id)).toList();
+            if (kept.size() == messages.size()) {
+                continue;
+            }
+            try {
+                if (kept.isEmpty()) {
+                    // Drop the index row first so no reader is sent to a file that is about to go.
+                    segmentRepository.delete(segment);
+                    archiveStore.delete(segment.getStorageKey());
+                } else {
+                    archiveStore.write(segment.getStorageKey(), encodeSegment(kept));
+                    segment.setFirstMessageId(kept.get(0).getId());
+                    segment.setLastMessageId(kept.get(kept.size() - 1).getId());
+                    segment.setFromTimestamp(kept.get(0).getTimestamp());
+                    segment.setToTimestamp(kept.get(kept.size() - 1).getTimestamp());
+                    segment.setMessageCount(kept.size());
+                    segmentRepository.save(segment);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to rewrite archive segment " + segment.getStorageKey(), e);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    public static String directConversationKey(Long user1, Long user2) {
+        return "d:" + Math.min(user1, user2) + ":" + Math.max(user1, user2);
+    }
+
+    public static String groupConversationKey(Long groupId) {
+        return "g:" + groupId;
+    }
+
+    private static String conversationKey(Message message) {
+        return message.getGroupId() != null
+                ? groupConversationKey(message.getGroupId())
+                : directConversationKey(message.getSenderId(), message.getReceiverId());
+    }
+
+    private void archiveSegment(String conversationKey, List<Message> messages) {
+        Message first = messages.get(0);
+        Message last = messages.get(messages.size() - 1);
+        String storageKey = conversationKey.replace(':', '/') + "/" + first.getId() + "-" + last.getId() + ".seg.gz";
+        try {
+            archiveStore.write(storageKey, encodeSegment(messages));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write archive segment " + storageKey, e);
+        }
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                segmentRepository.save(ArchiveSegment.builder()
+                        .conversationKey(conversationKey)
+                        .firstMessageId(first.getId())
+                        .lastMessageId(last.getId())
+                        .fromTimestamp(first.getTimestamp())
+                        .toTimestamp(last.getTimestamp())
+                        .messageCount(messages.size())
+                        .storageKey(storageKey)
+                        .createdAt(LocalDateTime.now())
+                        .build());
+                messageRepository.deleteAllByIdInBatch(messages.stream().map(Message::getId).toList());
+            });
+        } catch (RuntimeException e) {
+            try {
+                archiveStore.delete(storageKey);
+            } catch (IOException cleanup) {
+                e.addSuppressed(cleanup);
+            }
+            throw e;
+        }
+    }
+
+    private static byte[] encodeSegment(List<Message> messages) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            out.writeInt(messages.size());
+            for (Message message : messages) {
+                byte[] record = MessageRecordCodec.encode(message);
+                out.writeInt(record.length);
+                out.write(record);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private List<Message> readSegment(String storageKey) {
+        try (InputStream stored = archiveStore.read(storageKey);
+                DataInputStream in = new DataInputStream(new GZIPInputStream(stored))) {
+            int count = in.readInt();
+            List<Message> messages = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                byte[] record = new byte[in.readInt()];
+                in.readFully(record);
+                messages.add(MessageRecordCodec.decode(record));
+            }
+            return messages;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read archive segment " + storageKey, e);
+        }
+    }
+}
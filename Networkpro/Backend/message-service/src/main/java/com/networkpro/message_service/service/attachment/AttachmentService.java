@@ -0,0 +1,325 @@
+package com.networkpro.message_service.service.attachment;
+
+import com.networkpro.message_service.dto.AttachmentDTO;
+import com.networkpro.message_service.dto.AttachmentUploadRequestDTO;
+import com.networkpro.message_service.dto.AttachmentUploadStatusDTO;
+import com.networkpro.message_service.model.Attachment;
+import com.networkpro.message_service.model.AttachmentUpload;
+import com.networkpro.message_service.repository.AttachmentRepository;
+import com.networkpro.message_service.repository.AttachmentUploadRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resumable, chunked attachment uploads. Chunks are copied from the request stream into a
+ * part file with {@link FileChannel#transferFrom}, so only a fixed-size transfer buffer is
+ * ever on the heap. Completed uploads are stored once per SHA-256 under a content-addressed
+ * path; identical files uploaded again only add a metadata row. A blob is deleted once no
+ * attachment row refers to it: rows go away with their message, or when they were never sent
+ * within the upload expiry.
+ */
+@Slf4j
+@Service
+public class AttachmentService {
+    private static final long TRANSFER_CHUNK = 1 << 20;
+
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    @Autowired
+    private AttachmentUploadRepository uploadRepository;
+
+    @Value("${message.attachments.dir:data/attachments}")
+    private String storageDir;
+
+    @Value("${message.attachments.max-size-bytes:2147483648}")
+    private long maxSizeBytes;
+
+    @Value("${message.attachments.upload-expiry-hours:24}")
+    private int uploadExpiryHours;
+
+    // Removed only once the upload row is gone; every holder re-reads the row under the lock, so a
+    // chunk racing a completion or expiry finds the upload gone instead of writing a stray part.
+    private final Map<String, Object> uploadLocks = new ConcurrentHashMap<>();
+    // Guards a blob between the reference check and the delete against a concurrent upload reusing it.
+    private final Object blobLock = new Object();
+
+    public AttachmentUploadStatusDTO startUpload(AttachmentUploadRequestDTO request) {
+        if (request.getSize() <= 0 || request.getSize() > maxSizeBytes) {
+            throw new IllegalArgumentException("Attachment size must be between 1 and " + maxSizeBytes + " bytes");
+        }
+        AttachmentUpload upload = uploadRepository.save(AttachmentUpload.builder()
+                .id(UUID.randomUUID().toString())
+                .uploaderId(request.getUploaderId())
+                .fileName(request.getFileName())
+                .contentType(request.getContentType())
+                .expectedSize(request.getSize())
+                .createdAt(LocalDateTime.now())
+                .build());
+        return new AttachmentUploadStatusDTO(upload.getId(), 0, upload.getExpectedSize());
+    }
+
+    public AttachmentUploadStatusDTO getUploadStatus(String uploadId) {
+        AttachmentUpload upload = findUpload(uploadId);
+        return new AttachmentUploadStatusDTO(uploadId, receivedBytes(uploadId), upload.getExpectedSize());
+    }
+
+    /**
+     * Writes one chunk starting at {@code offset}. The offset may not skip ahead of what has been
+     * received; re-sending an earlier range after a dropped connection simply overwrites it.
+     */
+    public AttachmentUploadStatusDTO uploadChunk(String uploadId, long offset, InputStream body) {
+        synchronized (uploadLocks.computeIfAbsent(uploadId, id -> new Object())) {
+            AttachmentUpload upload = lockedUpload(uploadId);
+            Path part = partPath(uploadId);
+            try {
+                Files.createDirectories(part.getParent());
+                try (FileChannel channel = FileChannel.open(part, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                        ReadableByteChannel source = Channels.newChannel(body)) {
+                    if (offset < 0 || offset > channel.size()) {
+                        throw new IllegalArgumentException("Chunk offset " + offset + " does not match received size "
+                                + channel.size());
+                    }
+                    long position = offset;
+                    long transferred;
+                    while ((transferred = channel.transferFrom(source, position, TRANSFER_CHUNK)) > 0) {
+                        position += transferred;
+                        if (position > upload.getExpectedSize()) {
+                            channel.truncate(offset);
+                            throw new IllegalArgumentException("Chunk exceeds the declared attachment size");
+                        }
+                    }
+                    return new AttachmentUploadStatusDTO(uploadId, Math.max(position, channel.size()),
+                            upload.getExpectedSize());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to store chunk for upload " + uploadId, e);
+            }
+        }
+    }
+
+    public AttachmentDTO completeUpload(String uploadId) {
+        synchronized (uploadLocks.computeIfAbsent(uploadId, id -> new Object())) {
+            AttachmentUpload upload = lockedUpload(uploadId);
+            Path part = partPath(uploadId);
+            try {
+                long received = Files.exists(part) ? Files.size(part) : 0;
+                if (received != upload.getExpectedSize()) {
+                    throw new IllegalArgumentException("Upload is incomplete: received " + received + " of "
+                            + upload.getExpectedSize() + " bytes");
+                }
+                String sha256 = sha256(part);
+                Path blob = blobPath(sha256);
+                Attachment attachment;
+                synchronized (blobLock) {
+                    if (Files.exists(blob)) {
+                        Files.delete(part);
+                    } else {
+                        Files.createDirectories(blob.getParent());
+                        try {
+                            Files.move(part, blob, StandardCopyOption.ATOMIC_MOVE);
+                        } catch (FileAlreadyExistsException e) {
+                            // Same content finished concurrently under another upload.
+                            Files.delete(part);
+                        }
+                    }
+                    attachment = attachmentRepository.save(Attachment.builder()
+                            .uploaderId(upload.getUploaderId())
+                            .fileName(upload.getFileName())
+                            .contentType(upload.getContentType())
+                            .size(received)
+                            .sha256(sha256)
+                            .createdAt(LocalDateTime.now())
+                            .build());
+                }
+                uploadRepository.delete(upload);
+                uploadLocks.remove(uploadId);
+                return toDTO(attachment);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to complete upload " + uploadId, e);
+            }
+        }
+    }
+
+    public Attachment getAttachment(Long id) {
+        return attachmentRepository.findById(id).orElseThrow(() -> new RuntimeException("Attachment not found"));
+    }
+
+    public Path contentPath(Attachment attachment) {
+        return blobPath(attachment.getSha256()).toAbsolutePath();
+    }
+
+    public FileChannel openContent(Attachment attachment) throws IOException {
+        return FileChannel.open(contentPath(attachment), StandardOpenOption.READ);
+    }
+
+    /** Checks the attachments can be sent by {@code senderId}, before the message is accepted. */
+    public void checkLinkable(Collection<Long> attachmentIds, Long senderId) {
+        if (attachmentIds == null || attachmentIds.isEmpty()) {
+            return;
+        }
+        Set<Long> ids = new HashSet<>(attachmentIds);
+        if (attachmentRepository.countLinkable(ids, senderId) != ids.size()) {
+            throw new IllegalArgumentException("Attachments must be uploaded by the sender and not already sent");
+        }
+    }
+
+    /** Links all of the attachments or none; fails if another message claimed one since the check. */
+    @Transactional
+    public void linkToMessage(Collection<Long> attachmentIds, Long messageId, Long senderId) {
+        if (attachmentIds == null || attachmentIds.isEmpty()) {
+            return;
+        }
+        Set<Long> ids = new HashSet<>(attachmentIds);
+        int linked = attachmentRepository.linkToMessage(ids, messageId, senderId);
+        if (linked != ids.size()) {
+            throw new IllegalArgumentException("Attachments must be uploaded by the sender and not already sent");
+        }
+    }
+
+    public void deleteForMessage(Long messageId) {
+        List<Attachment> attachments = attachmentRepository.findByMessageId(messageId);
+        if (!attachments.isEmpty()) {
+            attachmentRepository.deleteAllInBatch(attachments);
+            releaseBlobs(attachments);
+        }
+    }
+
+    public Map<Long, List<AttachmentDTO>> findByMessageIds(Collection<Long> messageIds) {
+        if (messageIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, List<AttachmentDTO>> byMessage = new HashMap<>();
+        for (Attachment attachment : attachmentRepository.findByMessageIdIn(messageIds)) {
+            byMessage.computeIfAbsent(attachment.getMessageId(), id -> new ArrayList<>())
+                    .add(toDTO(attachment));
+        }
+        return byMessage;
+    }
+
+    @Scheduled(cron = "${message.attachments.cleanup-cron:0 30 * * * *}")
+    public void removeAbandonedUploads() {
+        for (AttachmentUpload upload : uploadRepository.findByCreatedAtBefore(
+                LocalDateTime.now().minusHours(uploadExpiryHours))) {
+            synchronized (uploadLocks.computeIfAbsent(upload.getId(), id -> new Object())) {
+                try {
+                    Files.deleteIfExists(partPath(upload.getId()));
+                    uploadRepository.delete(upload);
+                    uploadLocks.remove(upload.getId());
+                } catch (IOException e) {
+                    log.warn("Failed to remove abandoned upload {}", upload.getId(), e);
+                }
+            }
+        }
+        List<Attachment> unsent = attachmentRepository.findByMessageIdIsNullAndCreatedAtBefore(
+                LocalDateTime.now().minusHours(uploadExpiryHours));
+        if (!unsent.isEmpty()) {
+            attachmentRepository.deleteAllInBatch(unsent);
+            releaseBlobs(unsent);
+        }
+    }
+
+    private void releaseBlobs(List<Attachment> removed) {
+        for (String sha256 : removed.stream().map(Attachment::getSha256).distinct().toList()) {
+            synchronized (blobLock) {
+                if (attachmentRepository.existsBySha256(sha256)) {
+                    continue;
+                }
+                try {
+                    Files.deleteIfExists(blobPath(sha256));
+                } catch (IOException e) {
+                    log.warn("Failed to delete attachment blob {}", sha256, e);
+                }
+            }
+        }
+    }
+
+    private AttachmentUpload findUpload(String uploadId) {
+        return uploadRepository.findById(uploadId).orElseThrow(() -> new RuntimeException("Upload not found"));
+    }
+
+    // Under the upload's lock; an upload that is gone takes its lock entry with it.
+    private AttachmentUpload lockedUpload(String uploadId) {
+        return uploadRepository.findById(uploadId).orElseThrow(() -> {
+            uploadLocks.remove(uploadId);
+            return new RuntimeException("Upload not found");
+        });
+    }
+
+    private long receivedBytes(String uploadId) {
+        try {
+            Path part = partPath(uploadId);
+            return Files.exists(part) ? Files.size(part) : 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path partPath(String uploadId) {
+        return Paths.get(storageDir, "uploads", UUID.fromString(uploadId) + ".part");
+    }
+
+    private Path blobPath(String sha256) {
+        return Paths.get(storageDir, "blobs", sha256.substring(0, 2), sha256.substring(2, 4), sha256);
+    }
+
+    private static String sha256(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    public AttachmentDTO toDTO(Attachment attachment) {
+        AttachmentDTO dto = new AttachmentDTO();
+        dto.setId(attachment.getId());
+        dto.setMessageId(attachment.getMessageId());
+        dto.setFileName(attachment.getFileName());
+        dto.setContentType(attachment.getContentType());
+        dto.setSize(attachment.getSize());
+        dto.setSha256(attachment.getSha256());
+        return dto;
+    }
+}
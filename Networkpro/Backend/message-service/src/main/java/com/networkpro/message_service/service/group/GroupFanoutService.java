@@ -0,0 +1,52 @@
+package com.networkpro.message_service.service.group;
+
+import com.networkpro.message_service.model.Message;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers a stored group message to its members off the request thread. The message is
+ * written once; fan-out only touches per-member in-memory state.
+ */
+@Slf4j
+@Component
+public class GroupFanoutService {
+    @Autowired
+    private GroupMembershipCache membershipCache;
+
+    @Autowired
+    private GroupUnreadCounters unreadCounters;
+
+    // Bounded so a burst of large-group sends cannot queue unbounded work; when full the
+    // sender's thread performs the fan-out itself.
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(10_000), new ThreadPoolExecutor.CallerRunsPolicy());
+
+    public void dispatch(Message message) {
+        executor.execute(() -> fanOut(message));
+    }
+
+    private void fanOut(Message message) {
+        Set<Long> members = membershipCache.members(message.getGroupId());
+        for (Long userId : members) {
+            if (!userId.equals(message.getSenderId())) {
+                unreadCounters.increment(userId, message.getGroupId());
+            }
+        }
+        log.debug("Fanned out message {} to {} members of group {}", message.getId(), members.size() - 1,
+                message.getGroupId());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,52 @@
+package com.networkpro.message_service.service.group;
+
+import com.networkpro.message_service.repository.GroupMemberRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory group membership, so resolving the recipients of a group message is a map
+ * lookup rather than a join. Each group maps to an immutable snapshot that is replaced
+ * whole on membership changes; readers never see a set that is being mutated.
+ */
+@Component
+public class GroupMembershipCache {
+    @Autowired
+    private GroupMemberRepository groupMemberRepository;
+
+    private final Map<Long, Set<Long>> membersByGroup = new ConcurrentHashMap<>();
+
+    public Set<Long> members(Long groupId) {
+        Set<Long> members = membersByGroup.computeIfAbsent(groupId, id -> {
+            Set<Long> loaded = Set.copyOf(groupMemberRepository.findUserIdsByGroupId(id));
+            // No members means the group does not exist yet; caching that would hide it once created.
+            return loaded.isEmpty() ? null : loaded;
+        });
+        return members != null ? members : Set.of();
+    }
+
+    public boolean isMember(Long groupId, Long userId) {
+        return members(groupId).contains(userId);
+    }
+
+    public void memberAdded(Long groupId, Long userId) {
+        membersByGroup.computeIfPresent(groupId, (id, current) -> {
+            Set<Long> updated = new HashSet<>(current);
+            updated.add(userId);
+            return Set.copyOf(updated);
+        });
+    }
+
+    public void memberRemoved(Long groupId, Long userId) {
+        membersByGroup.computeIfPresent(groupId, (id, current) -> {
+            Set<Long> updated = new HashSet<>(current);
+            updated.remove(userId);
+            return Set.copyOf(updated);
+        });
+    }
+}
@@ -0,0 +1,207 @@
+package com.networkpro.message_service.service.group;
+
+import com.networkpro.message_service.dto.AttachmentDTO;
+import com.networkpro.message_service.dto.GroupMessageRequestDTO;
+import com.networkpro.message_service.dto.GroupRequestDTO;
+import com.networkpro.message_service.dto.GroupResponseDTO;
+import com.networkpro.message_service.dto.MessageResponseDTO;
+import com.networkpro.message_service.dto.ReadReceiptDTO;
+import com.networkpro.message_service.model.ConversationGroup;
+import com.networkpro.message_service.model.GroupMember;
+import com.networkpro.message_service.model.Message;
+import com.networkpro.message_service.repository.ConversationGroupRepository;
+import com.networkpro.message_service.repository.GroupMemberRepository;
+import com.networkpro.message_service.repository.MessageRepository;
+import com.networkpro.message_service.service.archive.MessageArchiveService;
+import com.networkpro.message_service.service.attachment.AttachmentService;
+import com.networkpro.message_service.service.ingest.MessageIngestionPipeline;
+import com.networkpro.message_service.service.ingest.SnowflakeIdGenerator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+@Service
+public class GroupService {
+    private static final int MAX_PAGE_SIZE = 200;
+
+    @Autowired
+    private ConversationGroupRepository groupRepository;
+
+    @Autowired
+    private GroupMemberRepository groupMemberRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private GroupMembershipCache membershipCache;
+
+    @Autowired
+    private GroupUnreadCounters unreadCounters;
+
+    @Autowired
+    private GroupFanoutService fanoutService;
+
+    @Autowired
+    private MessageIngestionPipeline ingestionPipeline;
+
+    @Autowired
+    private SnowflakeIdGenerator idGenerator;
+
+    @Autowired
+    private MessageArchiveService archiveService;
+
+    @Autowired
+    private AttachmentService attachmentService;
+
+    @Transactional
+    public GroupResponseDTO createGroup(GroupRequestDTO request) {
+        ConversationGroup group = groupRepository.save(ConversationGroup.builder()
+                .name(request.getName())
+                .createdBy(request.getCreatedBy())
+                .createdAt(LocalDateTime.now())
+                .build());
+        Set<Long> memberIds = new LinkedHashSet<>();
+        memberIds.add(request.getCreatedBy());
+        if (request.getMemberIds() != null) {
+            request.getMemberIds().stream().filter(Objects::nonNull).forEach(memberIds::add);
+        }
+        List<GroupMember> members = memberIds.stream()
+                .map(userId -> GroupMember.builder()
+                        .groupId(group.getId())
+                        .userId(userId)
+                        .joinedAt(LocalDateTime.now())
+                        .build())
+                .collect(Collectors.toList());
+        groupMemberRepository.saveAll(members);
+        return toGroupResponseDTO(group, new ArrayList<>(memberIds));
+    }
+
+    public GroupResponseDTO getGroup(Long groupId) {
+        ConversationGroup group = findGroup(groupId);
+        return toGroupResponseDTO(group, new ArrayList<>(membershipCache.members(groupId)));
+    }
+
+    public void addMember(Long groupId, Long userId) {
+        findGroup(groupId);
+        if (groupMemberRepository.findByGroupIdAndUserId(groupId, userId).isPresent()) {
+            return;
+        }
+        // New members start with everything sent so far marked as read.
+        groupMemberRepository.save(GroupMember.builder()
+                .groupId(groupId)
+                .userId(userId)
+                .joinedAt(LocalDateTime.now())
+                .lastReadMessageId(idGenerator.nextId())
+                .build());
+        membershipCache.memberAdded(groupId, userId);
+    }
+
+    public void removeMember(Long groupId, Long userId) {
+        groupMemberRepository.deleteByGroupIdAndUserId(groupId, userId);
+        membershipCache.memberRemoved(groupId, userId);
+        unreadCounters.forget(userId, groupId);
+    }
+
+    public MessageResponseDTO sendGroupMessage(Long groupId, GroupMessageRequestDTO request) {
+        if (!membershipCache.isMember(groupId, request.getSenderId())) {
+            throw new RuntimeException("Sender is not a member of group " + groupId);
+        }
+        Message message = Message.builder()
+                .id(idGenerator.nextId())
+                .senderId(request.getSenderId())
+                .groupId(groupId)
+                .content(request.getContent())
+                .timestamp(LocalDateTime.now())
+                .status("SENT")
+                .build();
+        attachmentService.checkLinkable(request.getAttachmentIds(), message.getSenderId());
+        ingestionPipeline.accept(message);
+        try {
+            attachmentService.linkToMessage(request.getAttachmentIds(), message.getId(), message.getSenderId());
+        } catch (RuntimeException e) {
+            // An attachment was sent with another message since the check; take this one back out.
+            if (!ingestionPipeline.cancel(message.getId())) {
+                messageRepository.deleteById(message.getId());
+            }
+            throw e;
+        }
+        fanoutService.dispatch(message);
+        return toResponseDTO(message);
+    }
+
+    public List<MessageResponseDTO> getGroupMessages(Long groupId, Long beforeId, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        long before = beforeId == null ? Long.MAX_VALUE : beforeId;
+        Map<Long, Message> merged = new TreeMap<>(Comparator.reverseOrder());
+        messageRepository.findByGroupIdAndIdLessThanOrderByIdDesc(groupId, before, PageRequest.of(0, pageSize))
+                .forEach(m -> merged.put(m.getId(), m));
+        ingestionPipeline.pendingMessages().stream()
+                .filter(m -> groupId.equals(m.getGroupId()) && m.getId() < before)
+                .forEach(m -> merged.putIfAbsent(m.getId(), m));
+        return withAttachments(merged.values().stream().limit(pageSize).map(this::toResponseDTO)
+                .collect(Collectors.toList()));
+    }
+
+    public List<MessageResponseDTO> getArchivedGroupMessages(Long groupId, Long beforeId, int limit) {
+        return withAttachments(archiveService.getArchivedMessages(MessageArchiveService.groupConversationKey(groupId),
+                beforeId, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)))
+                .stream().map(this::toResponseDTO).collect(Collectors.toList()));
+    }
+
+    public void markRead(Long groupId, ReadReceiptDTO receipt) {
+        groupMemberRepository.advanceReadWatermark(groupId, receipt.getUserId(), receipt.getMessageId());
+        GroupMember member = groupMemberRepository.findByGroupIdAndUserId(groupId, receipt.getUserId())
+                .orElseThrow(() -> new RuntimeException("User is not a member of group " + groupId));
+        unreadCounters.refresh(receipt.getUserId(), groupId, member.getLastReadMessageId());
+    }
+
+    public Map<Long, Long> getUnreadCounts(Long userId) {
+        return unreadCounters.unreadCounts(userId);
+    }
+
+    // One query for the attachments of a whole page of messages.
+    private List<MessageResponseDTO> withAttachments(List<MessageResponseDTO> messages) {
+        Map<Long, List<AttachmentDTO>> attachments = attachmentService.findByMessageIds(
+                messages.stream().map(MessageResponseDTO::getId).collect(Collectors.toList()));
+        messages.forEach(m -> m.setAttachments(attachments.getOrDefault(m.getId(), List.of())));
+        return messages;
+    }
+
+    private ConversationGroup findGroup(Long groupId) {
+        return groupRepository.findById(groupId).orElseThrow(() -> new RuntimeException("Group not found"));
+    }
+
+    private GroupResponseDTO toGroupResponseDTO(ConversationGroup group, List<Long> memberIds) {
+        GroupResponseDTO dto = new GroupResponseDTO();
+        dto.setId(group.getId());
+        dto.setName(group.getName());
+        dto.setCreatedBy(group.getCreatedBy());
+        dto.setCreatedAt(group.getCreatedAt());
+        dto.setMemberIds(memberIds);
+        return dto;
+    }
+
+    private MessageResponseDTO toResponseDTO(Message message) {
+        MessageResponseDTO dto = new MessageResponseDTO();
+        dto.setId(message.getId());
+        dto.setSenderId(message.getSenderId());
+        dto.setGroupId(message.getGroupId());
+        dto.setContent(message.getContent());
+        dto.setTimestamp(message.getTimestamp());
+        dto.setStatus(message.getStatus());
+        return dto;
+    }
+}
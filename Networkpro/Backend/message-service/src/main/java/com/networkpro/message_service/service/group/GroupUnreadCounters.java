@@ -0,0 +1,74 @@
+package com.networkpro.message_service.service.group;
+
+import com.networkpro.message_service.model.GroupMember;
+import com.networkpro.message_service.repository.GroupMemberRepository;
+import com.networkpro.message_service.repository.MessageRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-member unread counts for group conversations. A user's counters are seeded from their
+ * read watermarks the first time they are asked for and then kept current by the fan-out,
+ * so the unread badge does not need a COUNT per group on every request. As in the fan-out, a
+ * user's own messages never count as unread.
+ */
+@Component
+public class GroupUnreadCounters {
+    @Autowired
+    private GroupMemberRepository groupMemberRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    private final Map<Long, Map<Long, AtomicLong>> countsByUser = new ConcurrentHashMap<>();
+
+    public Map<Long, Long> unreadCounts(Long userId) {
+        Map<Long, AtomicLong> counts = countsByUser.computeIfAbsent(userId, this::load);
+        Map<Long, Long> snapshot = new HashMap<>();
+        counts.forEach((groupId, count) -> snapshot.put(groupId, count.get()));
+        return snapshot;
+    }
+
+    /** Called by the fan-out for each recipient; users whose counters are not loaded are skipped. */
+    void increment(Long userId, Long groupId) {
+        Map<Long, AtomicLong> counts = countsByUser.get(userId);
+        if (counts != null) {
+            counts.computeIfAbsent(groupId, id -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    public void refresh(Long userId, Long groupId, Long lastReadMessageId) {
+        Map<Long, AtomicLong> counts = countsByUser.get(userId);
+        if (counts != null) {
+            long unread = messageRepository.countByGroupIdAndIdGreaterThanAndSenderIdNot(groupId,
+                    orZero(lastReadMessageId), userId);
+            counts.computeIfAbsent(groupId, id -> new AtomicLong()).set(unread);
+        }
+    }
+
+    public void forget(Long userId, Long groupId) {
+        Map<Long, AtomicLong> counts = countsByUser.get(userId);
+        if (counts != null) {
+            counts.remove(groupId);
+        }
+    }
+
+    private Map<Long, AtomicLong> load(Long userId) {
+        Map<Long, AtomicLong> counts = new ConcurrentHashMap<>();
+        for (GroupMember membership : groupMemberRepository.findByUserId(userId)) {
+            long unread = messageRepository.countByGroupIdAndIdGreaterThanAndSenderIdNot(membership.getGroupId(),
+                    orZero(membership.getLastReadMessageId()), userId);
+            counts.put(membership.getGroupId(), new AtomicLong(unread));
+        }
+        return counts;
+    }
+
+    private static long orZero(Long value) {
+        return value == null ? 0L : value;
+    }
+}
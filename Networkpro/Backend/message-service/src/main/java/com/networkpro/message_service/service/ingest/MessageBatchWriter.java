@@ -0,0 +1,49 @@
+package com.networkpro.message_service.service.ingest;
+
+import com.networkpro.message_service.model.Message;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Writes messages with pre-assigned ids in JDBC batches. With {@code reWriteBatchedInserts}
+ * enabled on the PostgreSQL driver each batch goes out as multi-row INSERT statements.
+ * Conflicting ids are skipped so journal replay after a crash is idempotent.
+ */
+@Component
+public class MessageBatchWriter {
+    static final String INSERT_SQL = "INSERT INTO message (id, sender_id, receiver_id, group_id, content, timestamp, "
+            + "status) VALUES (?, ?, ?, ?, ?, ?, ?) ON CONFLICT (id) DO NOTHING";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public void insert(List<Message> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, messages, messages.size(), (ps, message) -> {
+            ps.setLong(1, message.getId());
+            setNullableLong(ps, 2, message.getSenderId());
+            setNullableLong(ps, 3, message.getReceiverId());
+            setNullableLong(ps, 4, message.getGroupId());
+            ps.setString(5, message.getContent());
+            ps.setTimestamp(6, Timestamp.valueOf(message.getTimestamp()));
+            ps.setString(7, message.getStatus());
+        });
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.networkpro.message_service.service.ingest;
+
+import com.networkpro.message_service.exception.MessageBufferFullException;
+import com.networkpro.message_service.model.Message;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accepts messages into a bounded in-memory buffer backed by {@link MessageJournal} and
+ * acknowledges once the journal record is fsynced. A single flusher thread drains the
+ * buffer and writes to the database in batches. Messages that are accepted but not yet
+ * flushed remain visible through {@link #getPending(Long)} and {@link #pendingMessages()}.
+ */
+@Slf4j
+@Component
+public class MessageIngestionPipeline {
+    @Autowired
+    private MessageBatchWriter batchWriter;
+
+    @Value("${message.ingest.journal-dir:data/message-journal}")
+    private String journalDir;
+
+    @Value("${message.ingest.segment-size-bytes:67108864}")
+    private long segmentSizeBytes;
+
+    @Value("${message.ingest.buffer-capacity:16384}")
+    private int bufferCapacity;
+
+    @Value("${message.ingest.batch-size:500}")
+    private int batchSize;
+
+    @Value("${message.ingest.flush-interval-ms:20}")
+    private long flushIntervalMs;
+
+    @Value("${message.ingest.accept-timeout-ms:1000}")
+    private long acceptTimeoutMs;
+
+    private final Object appendLock = new Object();
+    private final Object flushLock = new Object();
+    private final Map<Long, Message> pending = new ConcurrentHashMap<>();
+    private final Set<Long> cancelled = ConcurrentHashMap.newKeySet();
+
+    private MessageJournal journal;
+    private BlockingQueue<PendingMessage> buffer;
+    private Semaphore permits;
+    private Thread flusher;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() throws IOException {
+        journal = new MessageJournal(Paths.get(journalDir), segmentSizeBytes);
+        List<Message> recovered = journal.recover();
+        for (int from = 0; from < recovered.size(); from += batchSize) {
+            batchWriter.insert(recovered.subList(from, Math.min(from + batchSize, recovered.size())));
+        }
+        if (!recovered.isEmpty()) {
+            log.info("Replayed {} journaled messages", recovered.size());
+        }
+        journal.discardRecovered();
+        journal.open();
+
+        buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        permits = new Semaphore(bufferCapacity);
+        running = true;
+        flusher = new Thread(this::flushLoop, "message-flusher");
+        flusher.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException, IOException {
+        running = false;
+        flusher.interrupt();
+        flusher.join(TimeUnit.SECONDS.toMillis(30));
+        journal.close();
+    }
+
+    /**
+     * Journals and enqueues the message, returning once the journal record is durable.
+     * The message must already carry its id.
+     */
+    public void accept(Message message) {
+        try {
+            if (!permits.tryAcquire(acceptTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new MessageBufferFullException("Message buffer is full, try again later");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while accepting message", e);
+        }
+        long sequence;
+        synchronized (appendLock) {
+            pending.put(message.getId(), message);
+            try {
+                sequence = journal.append(message);
+            } catch (IOException e) {
+                pending.remove(message.getId());
+                permits.release();
+                throw new UncheckedIOException("Failed to journal message", e);
+            }
+            // Cannot fail: the permit guarantees a free slot.
+            buffer.add(new PendingMessage(sequence, message));
+        }
+        try {
+            journal.sync(sequence);
+        } catch (IOException e) {
+            // Withdraw the message so the caller is not told it failed while it is still stored.
+            boolean withdrawn;
+            try {
+                withdrawn = cancel(message.getId());
+            } catch (UncheckedIOException cancelFailure) {
+                // Dropped from the buffer, though the journal may still replay it after a crash.
+                e.addSuppressed(cancelFailure);
+                withdrawn = true;
+            }
+            if (withdrawn) {
+                throw new UncheckedIOException("Failed to sync message journal", e);
+            }
+            // Too late to withdraw: the flusher already wrote it to the database.
+        }
+    }
+
+    public Message getPending(Long id) {
+        return pending.get(id);
+    }
+
+    public Collection<Message> pendingMessages() {
+        return pending.values();
+    }
+
+    /**
+     * Drops a message that has not been flushed yet; returns false if it already reached the
+     * database. The cancel is journaled and synced first, so a crash cannot replay the message.
+     */
+    public boolean cancel(Long id) {
+        long sequence;
+        synchronized (flushLock) {
+            if (pending.remove(id) == null) {
+                return false;
+            }
+            cancelled.add(id);
+            try {
+                sequence = journal.appendCancel(id);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to journal message cancel", e);
+            }
+        }
+        try {
+            journal.sync(sequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to sync message journal", e);
+        }
+        return true;
+    }
+
+    private void flushLoop() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                PendingMessage first = buffer.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+            } catch (InterruptedException e) {
+                if (running) {
+                    continue;
+                }
+                buffer.drainTo(batch);
+            }
+            flushWithRetry(batch);
+            batch.clear();
+        }
+    }
+
+    private void flushWithRetry(List<PendingMessage> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        long backoffMs = 100;
+        while (true) {
+            try {
+                flush(batch);
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Message batch flush failed, retrying in {} ms", backoffMs, e);
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException ie) {
+                    if (!running) {
+                        // Unflushed records stay in the journal and are replayed on next start.
+                        return;
+                    }
+                }
+                backoffMs = Math.min(backoffMs * 2, 5000);
+            }
+        }
+    }
+
+    private void flush(List<PendingMessage> batch) {
+        synchronized (flushLock) {
+            List<Message> messages = new ArrayList<>(batch.size());
+            for (PendingMessage entry : batch) {
+                if (!cancelled.contains(entry.message.getId())) {
+                    messages.add(entry.message);
+                }
+            }
+            batchWriter.insert(messages);
+            for (PendingMessage entry : batch) {
+                pending.remove(entry.message.getId());
+                cancelled.remove(entry.message.getId());
+            }
+        }
+        permits.release(batch.size());
+        try {
+            journal.markFlushed(batch.get(batch.size() - 1).sequence);
+        } catch (IOException e) {
+            // Leftover segments are harmless: replay skips ids that already exist.
+            log.warn("Failed to delete flushed journal segments", e);
+        }
+    }
+
+    private static final class PendingMessage {
+        private final long sequence;
+        private final Message message;
+
+        private PendingMessage(long sequence, Message message) {
+            this.sequence = sequence;
+            this.message = message;
+        }
+    }
+}
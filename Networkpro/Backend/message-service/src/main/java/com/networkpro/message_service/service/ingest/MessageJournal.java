@@ -0,0 +1,219 @@
+package com.networkpro.message_service.service.ingest;
+
+import com.networkpro.message_service.model.Message;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only, segmented write-ahead log for accepted messages. Each record is framed as
+ * {@code [length][crc32][payload]}; a torn or corrupt tail is ignored on recovery. A message
+ * cancelled before it was flushed gets a cancel record, and recovery drops it.
+ * Callers append under their own ordering lock and then call {@link #sync(long)}, which
+ * group-commits every record written so far with a single {@code force}.
+ *
+ * <p>Sequence numbers keep increasing across restarts and each segment is named after its first
+ * sequence. The highest sequence written to the database is checkpointed in a small file, so
+ * recovery skips records that were already flushed, including those in the active segment.
+ */
+public class MessageJournal implements AutoCloseable {
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String CHECKPOINT_FILE = "flushed.seq";
+    private static final byte CANCEL_RECORD = -1; // never a MessageRecordCodec version byte
+
+    private final Path directory;
+    private final long segmentSizeBytes;
+    private final Object syncLock = new Object();
+    private final Deque<ClosedSegment> closedSegments = new ConcurrentLinkedDeque<>();
+
+    private volatile FileChannel channel;
+    private Path currentSegment;
+    private long currentSize;
+    private long nextSequence = 1;
+    private volatile long writtenSequence;
+    private volatile long syncedSequence;
+    private volatile long flushedSequence;
+
+    public MessageJournal(Path directory, long segmentSizeBytes) {
+        this.directory = directory;
+        this.segmentSizeBytes = segmentSizeBytes;
+    }
+
+    /**
+     * Reads the records left behind by a previous run that were not yet written to the database.
+     * The segments stay on disk until {@link #discardRecovered()} is called, so a failed replay is
+     * retried on next start.
+     */
+    public List<Message> recover() throws IOException {
+        Files.createDirectories(directory);
+        Path checkpoint = directory.resolve(CHECKPOINT_FILE);
+        flushedSequence = Files.exists(checkpoint) ? Long.parseLong(Files.readString(checkpoint).trim()) : 0;
+        long lastSequence = flushedSequence;
+        Map<Long, Message> recovered = new LinkedHashMap<>();
+        for (Path segment : existingSegments()) {
+            String name = segment.getFileName().toString();
+            long sequence = Long.parseLong(name.substring(SEGMENT_PREFIX.length(),
+                    name.length() - SEGMENT_SUFFIX.length()));
+            ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(segment));
+            while (data.remaining() >= 8) {
+                int length = data.getInt();
+                int checksum = data.getInt();
+                if (length <= 0 || length > data.remaining()) {
+                    break;
+                }
+                byte[] payload = new byte[length];
+                data.get(payload);
+                if (crc(payload) != checksum) {
+                    break;
+                }
+                if (payload[0] == CANCEL_RECORD) {
+                    recovered.remove(ByteBuffer.wrap(payload, 1, 8).getLong());
+                } else if (sequence > flushedSequence) {
+                    Message message = MessageRecordCodec.decode(payload);
+                    recovered.put(message.getId(), message);
+                }
+                lastSequence = Math.max(lastSequence, sequence++);
+            }
+        }
+        nextSequence = lastSequence + 1;
+        return new ArrayList<>(recovered.values());
+    }
+
+    public void discardRecovered() throws IOException {
+        for (Path segment : existingSegments()) {
+            Files.deleteIfExists(segment);
+        }
+    }
+
+    public synchronized void open() throws IOException {
+        Files.createDirectories(directory);
+        openSegment();
+    }
+
+    /** Appends a record and returns its sequence number; the record is durable only after {@link #sync}. */
+    public synchronized long append(Message message) throws IOException {
+        return appendRecord(MessageRecordCodec.encode(message));
+    }
+
+    /** Appends a record withdrawing an earlier, not yet flushed message. */
+    public synchronized long appendCancel(long messageId) throws IOException {
+        return appendRecord(ByteBuffer.allocate(9).put(CANCEL_RECORD).putLong(messageId).array());
+    }
+
+    private long appendRecord(byte[] payload) throws IOException {
+        ByteBuffer frame = ByteBuffer.allocate(8 + payload.length);
+        frame.putInt(payload.length).putInt(crc(payload)).put(payload).flip();
+        if (currentSize > 0 && currentSize + frame.remaining() > segmentSizeBytes) {
+            rollSegment();
+        }
+        while (frame.hasRemaining()) {
+            currentSize += channel.write(frame);
+        }
+        long sequence = nextSequence++;
+        writtenSequence = sequence;
+        return sequence;
+    }
+
+    /** Blocks until the record with the given sequence is on stable storage. */
+    public void sync(long sequence) throws IOException {
+        if (syncedSequence >= sequence) {
+            return;
+        }
+        synchronized (syncLock) {
+            if (syncedSequence >= sequence) {
+                return;
+            }
+            long target = writtenSequence;
+            channel.force(false);
+            syncedSequence = target;
+        }
+    }
+
+    /**
+     * Checkpoints that every record up to {@code sequence} is in the database and deletes closed
+     * segments that hold only such records.
+     */
+    public void markFlushed(long sequence) throws IOException {
+        Path checkpoint = directory.resolve(CHECKPOINT_FILE);
+        Path tmp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        Files.writeString(tmp, Long.toString(sequence));
+        Files.move(tmp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        flushedSequence = sequence;
+        ClosedSegment head;
+        while ((head = closedSegments.peekFirst()) != null && head.lastSequence <= sequence) {
+            closedSegments.pollFirst();
+            Files.deleteIfExists(head.path);
+        }
+    }
+
+    /** Closes the active segment, deleting it when every record in it has been flushed. */
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            synchronized (syncLock) {
+                channel.force(false);
+                channel.close();
+            }
+            if (flushedSequence >= writtenSequence) {
+                Files.deleteIfExists(currentSegment);
+            }
+        }
+    }
+
+    private void rollSegment() throws IOException {
+        synchronized (syncLock) {
+            channel.force(false);
+            syncedSequence = writtenSequence;
+            channel.close();
+            closedSegments.addLast(new ClosedSegment(currentSegment, writtenSequence));
+            openSegment();
+        }
+    }
+
+    private void openSegment() throws IOException {
+        currentSegment = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, nextSequence, SEGMENT_SUFFIX));
+        channel = FileChannel.open(currentSegment, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        currentSize = channel.size();
+    }
+
+    private List<Path> existingSegments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+                SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(segments::add);
+        }
+        segments.sort(null);
+        return segments;
+    }
+
+    private static int crc(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private static final class ClosedSegment {
+        private final Path path;
+        private final long lastSequence;
+
+        private ClosedSegment(Path path, long lastSequence) {
+            this.path = path;
+            this.lastSequence = lastSequence;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.networkpro.message_service.service.ingest;
+
+import com.networkpro.message_service.model.Message;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/** Binary form of a message shared by the ingestion journal and the archive segments. */
+public final class MessageRecordCodec {
+    private static final byte RECORD_VERSION = 2;
+    private static final long NULL_ID = Long.MIN_VALUE;
+
+    private MessageRecordCodec() {
+    }
+
+    public static byte[] encode(Message message) {
+        byte[] content = bytes(message.getContent());
+        byte[] status = bytes(message.getStatus());
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 8 * 4 + 12 + 8 + status.length + content.length);
+        buffer.put(RECORD_VERSION);
+        buffer.putLong(message.getId());
+        buffer.putLong(orNull(message.getSenderId()));
+        buffer.putLong(orNull(message.getReceiverId()));
+        buffer.putLong(orNull(message.getGroupId()));
+        buffer.putLong(message.getTimestamp().toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(message.getTimestamp().getNano());
+        buffer.putInt(status.length).put(status);
+        buffer.putInt(content.length).put(content);
+        return buffer.array();
+    }
+
+    public static Message decode(byte[] record) {
+        ByteBuffer buffer = ByteBuffer.wrap(record);
+        byte version = buffer.get();
+        Message message = new Message();
+        message.setId(buffer.getLong());
+        message.setSenderId(fromNull(buffer.getLong()));
+        message.setReceiverId(fromNull(buffer.getLong()));
+        if (version >= 2) {
+            message.setGroupId(fromNull(buffer.getLong()));
+        }
+        message.setTimestamp(LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC));
+        message.setStatus(string(buffer));
+        message.setContent(string(buffer));
+        return message;
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(ByteBuffer buffer) {
+        byte[] value = new byte[buffer.getInt()];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static long orNull(Long value) {
+        return value == null ? NULL_ID : value;
+    }
+
+    private static Long fromNull(long value) {
+        return value == NULL_ID ? null : value;
+    }
+}
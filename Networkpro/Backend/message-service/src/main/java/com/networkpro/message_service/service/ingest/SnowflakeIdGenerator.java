@@ -0,0 +1,60 @@
+package com.networkpro.message_service.service.ingest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Time-ordered 64-bit ids: 41 bits of milliseconds since {@link #EPOCH}, 10 bits of
+ * worker id and a 12-bit per-millisecond sequence. Ids are assigned before the
+ * message reaches the database so the journal and the batch insert agree on them.
+ */
+@Component
+public class SnowflakeIdGenerator {
+    // 2024-01-01T00:00:00Z
+    static final long EPOCH = 1704067200000L;
+    private static final int WORKER_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_WORKER = (1L << WORKER_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long workerId;
+    private long lastMillis = -1L;
+    private long sequence = 0L;
+
+    public SnowflakeIdGenerator(@Value("${message.ingest.worker-id:1}") long workerId) {
+        if (workerId < 0 || workerId > MAX_WORKER) {
+            throw new IllegalArgumentException("worker id must be between 0 and " + MAX_WORKER);
+        }
+        this.workerId = workerId;
+    }
+
+    public synchronized long nextId() {
+        long now = System.currentTimeMillis();
+        if (now < lastMillis) {
+            // Clock went backwards; keep issuing from the last observed millisecond.
+            now = lastMillis;
+        }
+        if (now == lastMillis) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                while (now <= lastMillis) {
+                    Thread.onSpinWait();
+                    now = System.currentTimeMillis();
+                }
+            }
+        } else {
+            sequence = 0;
+        }
+        lastMillis = now;
+        return ((now - EPOCH) << (WORKER_BITS + SEQUENCE_BITS)) | (workerId << SEQUENCE_BITS) | sequence;
+    }
+
+    /** Smallest id that can be issued at the given epoch millisecond. */
+    public static long minIdAt(long epochMillis) {
+        return Math.max(0, epochMillis - EPOCH) << (WORKER_BITS + SEQUENCE_BITS);
+    }
+
+    public static long timestampOf(long id) {
+        return (id >>> (WORKER_BITS + SEQUENCE_BITS)) + EPOCH;
+    }
+}
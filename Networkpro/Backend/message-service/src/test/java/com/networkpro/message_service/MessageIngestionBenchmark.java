@@ -0,0 +1,87 @@
+package com.networkpro.message_service;
+
+import com.networkpro.message_service.dto.MessageRequestDTO;
+import com.networkpro.message_service.service.MessageService;
+import com.networkpro.message_service.service.ingest.MessageIngestionPipeline;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sustained send throughput of the buffered ingestion path against the previous
+ * one-insert-per-send behaviour. Needs the service database; run with
+ * {@code ./mvnw test -Dtest=MessageIngestionBenchmark -Dbenchmark=true}.
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class MessageIngestionBenchmark {
+	private static final int THREADS = 32;
+	private static final int MESSAGES_PER_THREAD = 2_000;
+
+	@Autowired
+	private MessageService messageService;
+
+	@Autowired
+	private MessageIngestionPipeline ingestionPipeline;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void compareSendThroughput() throws Exception {
+		AtomicLong ids = new AtomicLong(-1);
+		// Previous behaviour: one auto-committed single-row insert per send.
+		double direct = run(() -> jdbcTemplate.update(
+				"INSERT INTO message (id, sender_id, receiver_id, content, timestamp, status) VALUES (?, ?, ?, ?, ?, ?)",
+				ids.getAndDecrement(), 1L, 2L, "benchmark", Timestamp.valueOf(LocalDateTime.now()), "SENT"), () -> {
+		});
+		double buffered = run(() -> {
+			MessageRequestDTO request = new MessageRequestDTO();
+			request.setSenderId(1L);
+			request.setReceiverId(2L);
+			request.setContent("benchmark");
+			messageService.sendMessage(request);
+		}, this::awaitFlushed);
+		System.out.printf("single-row inserts: %.0f msg/s%nbuffered ingestion: %.0f msg/s (%.1fx)%n",
+				direct, buffered, buffered / direct);
+		jdbcTemplate.update("DELETE FROM message WHERE content = 'benchmark'");
+	}
+
+	// Throughput is measured until the last message is in the database, not just acknowledged.
+	private void awaitFlushed() {
+		while (!ingestionPipeline.pendingMessages().isEmpty()) {
+			Thread.onSpinWait();
+		}
+	}
+
+	private double run(Runnable send, Runnable drain) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		List<Future<?>> futures = new ArrayList<>();
+		long start = System.nanoTime();
+		for (int t = 0; t < THREADS; t++) {
+			futures.add(executor.submit(() -> {
+				for (int i = 0; i < MESSAGES_PER_THREAD; i++) {
+					send.run();
+				}
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		drain.run();
+		double seconds = (System.nanoTime() - start) / 1e9;
+		executor.shutdown();
+		return THREADS * MESSAGES_PER_THREAD / seconds;
+	}
+}
@@ -1,5 +1,6 @@
 package com.networkpro.notification_service.controller;
 
+import com.networkpro.notification_service.dto.NotificationBatchResult;
 import com.networkpro.notification_service.dto.NotificationRequest;
 import com.networkpro.notification_service.model.Notification;
 import com.networkpro.notification_service.service.NotificationService;
@@ -21,6 +22,11 @@ public class NotificationController {
         return ResponseEntity.ok(notification);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<NotificationBatchResult> createNotifications(@RequestBody List<NotificationRequest> requests) {
+        return ResponseEntity.ok(new NotificationBatchResult(notificationService.createNotifications(requests)));
+    }
+
     @GetMapping("/{userId}")
     public ResponseEntity<List<Notification>> getNotificationsForUser(@PathVariable String userId) {
         List<Notification> notifications = notificationService.getNotificationsForUser(userId);
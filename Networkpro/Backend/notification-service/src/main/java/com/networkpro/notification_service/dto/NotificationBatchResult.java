@@ -0,0 +1,20 @@
+package com.networkpro.notification_service.dto;
+
+public class NotificationBatchResult {
+    private int created;
+
+    public NotificationBatchResult() {
+    }
+
+    public NotificationBatchResult(int created) {
+        this.created = created;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+}
@@ -9,6 +9,7 @@ public class Notification {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     private String userId;
+    @Column(columnDefinition = "text")
     private String message;
     private Instant createdAt;
     private boolean read;
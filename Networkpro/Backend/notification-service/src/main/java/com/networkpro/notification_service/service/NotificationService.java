@@ -1,19 +1,28 @@
 package com.networkpro.notification_service.service;
 
+import com.networkpro.notification_service.dto.NotificationRequest;
 import com.networkpro.notification_service.exception.NotificationNotFoundException;
 import com.networkpro.notification_service.model.Notification;
 import com.networkpro.notification_service.repository.NotificationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.List;
 
 @Service
 public class NotificationService {
+    private static final int MAX_BATCH_SIZE = 1000;
+
     @Autowired
     private NotificationRepository notificationRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     public Notification createNotification(String userId, String message) {
         Notification notification = Notification.builder()
                 .userId(userId)
@@ -24,6 +33,22 @@ public class NotificationService {
         return notificationRepository.save(notification);
     }
 
+    /** Stores many notifications with one batched insert; used by other services to fan out alerts. */
+    @Transactional
+    public int createNotifications(List<NotificationRequest> requests) {
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " notifications per batch");
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate("INSERT INTO notification (user_id, message, created_at, read) VALUES (?, ?, ?, false)",
+                requests, requests.size(), (ps, request) -> {
+                    ps.setString(1, request.getUserId());
+                    ps.setString(2, request.getMessage());
+                    ps.setTimestamp(3, now);
+                });
+        return requests.size();
+    }
+
     public List<Notification> getNotificationsForUser(String userId) {
         return notificationRepository.findByUserIdOrderByCreatedAtDesc(userId);
     }
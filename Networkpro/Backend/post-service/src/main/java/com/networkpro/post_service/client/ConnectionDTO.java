@@ -0,0 +1,11 @@
+package com.networkpro.post_service.client;
+
+import lombok.Data;
+
+@Data
+public class ConnectionDTO {
+    private Long id;
+    private Long requesterId;
+    private Long receiverId;
+    private String status;
+}
@@ -0,0 +1,54 @@
+package com.networkpro.post_service.client;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Accepted connections of a user, fetched from connection-service and cached briefly so feed
+ * reads and post fan-out do not call the other service on every request.
+ */
+@Component
+public class ConnectionGraphClient {
+    private final RestClient restClient;
+    private final LoadingCache<Long, Set<Long>> connections;
+
+    public ConnectionGraphClient(@Qualifier("connectionServiceClient") RestClient restClient,
+            @Value("${feed.connections.cache-ttl-seconds:60}") long ttlSeconds,
+            @Value("${feed.connections.cache-size:100000}") long maxSize) {
+        this.restClient = restClient;
+        this.connections = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build(this::fetchConnections);
+    }
+
+    public Set<Long> acceptedConnections(Long userId) {
+        return connections.get(userId);
+    }
+
+    private Set<Long> fetchConnections(Long userId) {
+        ConnectionListResponse response = restClient.get()
+                .uri("/api/connections?userId={userId}", userId)
+                .retrieve()
+                .body(ConnectionListResponse.class);
+        Set<Long> result = new HashSet<>();
+        if (response != null && response.getData() != null) {
+            for (ConnectionDTO connection : response.getData()) {
+                if ("ACCEPTED".equals(connection.getStatus())) {
+                    result.add(userId.equals(connection.getRequesterId())
+                            ? connection.getReceiverId()
+                            : connection.getRequesterId());
+                }
+            }
+        }
+        return Set.copyOf(result);
+    }
+}
@@ -0,0 +1,13 @@
+package com.networkpro.post_service.client;
+
+import lombok.Data;
+
+import java.util.List;
+
+// Envelope returned by connection-service (its ApiResponse)
+@Data
+public class ConnectionListResponse {
+    private String message;
+    private List<ConnectionDTO> data;
+    private String status;
+}
@@ -0,0 +1,103 @@
+package com.networkpro.post_service.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.networkpro.post_service.dto.AuthorSummaryDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Author summaries from user-service. All ids missing from the local cache are fetched with one
+ * bulk call, so enriching a page of posts costs at most one request. Ids user-service does not
+ * know are remembered for a shorter time so they are not fetched again on every page. If
+ * user-service is down, callers get whatever is cached.
+ */
+@Slf4j
+@Component
+public class UserDirectoryClient {
+    private static final ParameterizedTypeReference<List<AuthorSummaryDTO>> SUMMARY_LIST =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final RestClient restClient;
+    private final Cache<Long, AuthorSummaryDTO> summaries;
+    private final Cache<Long, Boolean> unknownIds;
+
+    public UserDirectoryClient(@Qualifier("userServiceClient") RestClient restClient,
+            @Value("${post.authors.cache-ttl-seconds:300}") long ttlSeconds,
+            @Value("${post.authors.cache-size:100000}") long maxSize,
+            @Value("${post.authors.miss-ttl-seconds:60}") long missTtlSeconds) {
+        this.restClient = restClient;
+        this.summaries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.unknownIds = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(missTtlSeconds))
+                .build();
+    }
+
+    public Map<Long, AuthorSummaryDTO> getSummaries(Collection<Long> userIds) {
+        Set<Long> ids = new LinkedHashSet<>(userIds);
+        ids.remove(null);
+        ids.removeAll(unknownIds.getAllPresent(ids).keySet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            return summaries.getAll(ids, this::fetchByIds);
+        } catch (RestClientException e) {
+            log.warn("Failed to fetch author summaries from user-service", e);
+            return summaries.getAllPresent(ids);
+        }
+    }
+
+    /** Maps each full name to its user id; names shared by several users are left out. */
+    public Map<String, Long> resolveFullNames(Collection<String> fullNames) {
+        List<AuthorSummaryDTO> found = restClient.post()
+                .uri("/api/v1/users/summaries")
+                .body(new UserSummaryRequest(null, fullNames))
+                .retrieve()
+                .body(SUMMARY_LIST);
+        Map<String, Long> resolved = new HashMap<>();
+        Set<String> ambiguous = new HashSet<>();
+        for (AuthorSummaryDTO summary : found == null ? List.<AuthorSummaryDTO>of() : found) {
+            summaries.put(summary.getId(), summary);
+            unknownIds.invalidate(summary.getId());
+            if (resolved.putIfAbsent(summary.getFullName(), summary.getId()) != null) {
+                ambiguous.add(summary.getFullName());
+            }
+        }
+        ambiguous.forEach(resolved::remove);
+        return resolved;
+    }
+
+    private Map<Long, AuthorSummaryDTO> fetchByIds(Set<? extends Long> ids) {
+        List<AuthorSummaryDTO> found = restClient.post()
+                .uri("/api/v1/users/summaries")
+                .body(new UserSummaryRequest(List.copyOf(ids), null))
+                .retrieve()
+                .body(SUMMARY_LIST);
+        Map<Long, AuthorSummaryDTO> byId = new HashMap<>();
+        if (found != null) {
+            found.forEach(summary -> byId.put(summary.getId(), summary));
+        }
+        ids.stream().filter(id -> !byId.containsKey(id)).forEach(id -> unknownIds.put(id, Boolean.TRUE));
+        return byId;
+    }
+}
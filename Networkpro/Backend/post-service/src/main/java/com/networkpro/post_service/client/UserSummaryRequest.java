@@ -0,0 +1,15 @@
+package com.networkpro.post_service.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Collection;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSummaryRequest {
+    private Collection<Long> ids;
+    private Collection<String> fullNames;
+}
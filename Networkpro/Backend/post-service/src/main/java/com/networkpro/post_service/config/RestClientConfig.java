@@ -0,0 +1,36 @@
+package com.networkpro.post_service.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+
+@Configuration
+public class RestClientConfig {
+    @Value("${post.http.connect-timeout-ms:1000}")
+    private long connectTimeoutMs;
+
+    @Value("${post.http.read-timeout-ms:3000}")
+    private long readTimeoutMs;
+
+    @Bean
+    public RestClient connectionServiceClient(@Value("${connection-service.url}") String baseUrl) {
+        return client(baseUrl);
+    }
+
+    @Bean
+    public RestClient userServiceClient(@Value("${user-service.url}") String baseUrl) {
+        return client(baseUrl);
+    }
+
+    // Bounded timeouts so a hung downstream service cannot hold request threads indefinitely.
+    private RestClient client(String baseUrl) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofMillis(connectTimeoutMs));
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        return RestClient.builder().baseUrl(baseUrl).requestFactory(requestFactory).build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.networkpro.post_service.controller;
+
+import com.networkpro.post_service.dto.CommentDTO;
+import com.networkpro.post_service.dto.CommentRequestDTO;
+import com.networkpro.post_service.dto.CursorPage;
+import com.networkpro.post_service.service.CommentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/posts/{postId}/comments")
+@Tag(name = "Comment API", description = "Endpoints for commenting on posts")
+public class CommentController {
+    @Autowired
+    private CommentService commentService;
+
+    @Operation(summary = "Comment on a post or reply to a comment", description = "POST /api/posts/{postId}/comments")
+    @PostMapping
+    public ResponseEntity<CommentDTO> addComment(@PathVariable Long postId, @RequestBody CommentRequestDTO request) {
+        return ResponseEntity.ok(commentService.addComment(postId, request));
+    }
+
+    @Operation(summary = "Get top-level comments", description = "GET /api/posts/{postId}/comments?cursor=&limit=")
+    @GetMapping
+    public ResponseEntity<CursorPage<CommentDTO>> getComments(@PathVariable Long postId,
+            @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(commentService.getComments(postId, cursor, limit));
+    }
+
+    @Operation(summary = "Get replies to a comment", description = "GET /api/posts/{postId}/comments/{commentId}/replies")
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<CursorPage<CommentDTO>> getReplies(@PathVariable Long postId, @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(commentService.getReplies(postId, commentId, cursor, limit));
+    }
+
+    @Operation(summary = "Delete a comment and its replies", description = "DELETE /api/posts/{postId}/comments/{commentId}")
+    @DeleteMapping("/{commentId}")
+    public ResponseEntity<Void> deleteComment(@PathVariable Long postId, @PathVariable Long commentId) {
+        commentService.deleteComment(postId, commentId);
+        return ResponseEntity.noContent().build();
+    }
+}
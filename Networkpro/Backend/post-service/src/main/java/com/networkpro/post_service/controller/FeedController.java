@@ -0,0 +1,26 @@
+package com.networkpro.post_service.controller;
+
+import com.networkpro.post_service.dto.CursorPage;
+import com.networkpro.post_service.model.Post;
+import com.networkpro.post_service.service.FeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/feed")
+@Tag(name = "Feed API", description = "Personalised home feed")
+public class FeedController {
+    @Autowired
+    private FeedService feedService;
+
+    @Operation(summary = "Get a user's home feed", description = "GET /api/feed/{userId}?cursor=&limit=")
+    @GetMapping("/{userId}")
+    public ResponseEntity<CursorPage<Post>> getHomeFeed(@PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(feedService.getHomeFeed(userId, cursor, limit));
+    }
+}
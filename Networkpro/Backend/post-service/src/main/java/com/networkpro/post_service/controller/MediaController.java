@@ -0,0 +1,67 @@
+package com.networkpro.post_service.controller;
+
+import com.networkpro.post_service.dto.PostMediaDTO;
+import com.networkpro.post_service.model.MediaBlob;
+import com.networkpro.post_service.service.MediaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+@RestController
+@RequestMapping("/api/media")
+@Tag(name = "Media API", description = "Images and videos attached to posts")
+public class MediaController {
+    private static final Pattern SHA256 = Pattern.compile("[0-9a-f]{64}");
+
+    @Autowired
+    private MediaService mediaService;
+
+    @Operation(summary = "Upload an image or video", description = "POST /api/media?uploaderId=&fileName= - raw body, streamed to storage")
+    @PostMapping
+    public ResponseEntity<PostMediaDTO> upload(@RequestParam Long uploaderId,
+            @RequestParam(required = false) String fileName,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(mediaService.upload(uploaderId, fileName, contentType, request.getInputStream()));
+    }
+
+    @Operation(summary = "Get media metadata and rendition URLs", description = "GET /api/media/{id}")
+    @GetMapping("/{id}")
+    public ResponseEntity<PostMediaDTO> getMedia(@PathVariable Long id) {
+        return ResponseEntity.ok(mediaService.getMedia(id));
+    }
+
+    @Operation(summary = "Get the media of a post", description = "GET /api/media?postId=")
+    @GetMapping
+    public ResponseEntity<List<PostMediaDTO>> getPostMedia(@RequestParam Long postId) {
+        return ResponseEntity.ok(mediaService.getPostMedia(postId));
+    }
+
+    @Operation(summary = "Download media content", description = "GET /api/media/blobs/{sha256} - immutable, supports Range")
+    @GetMapping("/blobs/{sha256}")
+    public ResponseEntity<Resource> getBlob(@PathVariable String sha256) {
+        if (!SHA256.matcher(sha256).matches()) {
+            throw new RuntimeException("Media not found");
+        }
+        MediaBlob blob = mediaService.getBlob(sha256);
+        // The URL names the content hash, so the response can never change.
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .eTag(sha256)
+                .contentType(MediaType.parseMediaType(blob.getContentType()))
+                .body(new FileSystemResource(mediaService.blobPath(sha256)));
+    }
+}
@@ -1,13 +1,20 @@
 package com.networkpro.post_service.controller;
 
+import com.networkpro.post_service.dto.BulkImportResultDTO;
+import com.networkpro.post_service.dto.CursorPage;
 import com.networkpro.post_service.dto.PostDTO;
+import com.networkpro.post_service.dto.PostSummaryDTO;
 import com.networkpro.post_service.model.Post;
 import com.networkpro.post_service.service.PostService;
+import com.networkpro.post_service.service.ingest.PostImporter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -17,16 +24,32 @@ public class PostController {
     @Autowired
     private PostService postService;
 
+    @Autowired
+    private PostImporter postImporter;
+
     @Operation(summary = "Create a new post", description = "POST /api/posts")
     @PostMapping
     public ResponseEntity<Post> createPost(@RequestBody PostDTO postDTO) {
         return ResponseEntity.ok(postService.createPost(postDTO));
     }
 
-    @Operation(summary = "Get all posts", description = "GET /api/posts")
+    @Operation(summary = "Bulk import posts", description = "POST /api/posts/bulk - NDJSON body, one post per line")
+    @PostMapping(value = "/bulk", consumes = "application/x-ndjson")
+    public ResponseEntity<BulkImportResultDTO> importPosts(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(postImporter.importNdjson(request.getInputStream()));
+    }
+
+    @Operation(summary = "List posts, newest first", description = "GET /api/posts?authorId=&cursor=&limit=")
     @GetMapping
-    public ResponseEntity<List<Post>> getAllPosts() {
-        return ResponseEntity.ok(postService.getAllPosts());
+    public ResponseEntity<CursorPage<PostSummaryDTO>> listPosts(@RequestParam(required = false) Long authorId,
+            @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(postService.listPosts(authorId, cursor, limit));
+    }
+
+    @Operation(summary = "List an author's drafts and scheduled posts", description = "GET /api/posts/drafts?authorId=")
+    @GetMapping("/drafts")
+    public ResponseEntity<List<Post>> getDrafts(@RequestParam Long authorId) {
+        return ResponseEntity.ok(postService.getDrafts(authorId));
     }
 
     @Operation(summary = "Get a post by ID", description = "GET /api/posts/{id}")
@@ -41,6 +64,12 @@ public class PostController {
         return ResponseEntity.ok(postService.updatePost(id, postDTO));
     }
 
+    @Operation(summary = "Publish a draft or scheduled post now", description = "POST /api/posts/{id}/publish")
+    @PostMapping("/{id}/publish")
+    public ResponseEntity<Post> publishPost(@PathVariable Long id) {
+        return ResponseEntity.ok(postService.publishPost(id));
+    }
+
     @Operation(summary = "Delete a post", description = "DELETE /api/posts/{id}")
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deletePost(@PathVariable Long id) {
@@ -0,0 +1,51 @@
+package com.networkpro.post_service.controller;
+
+import com.networkpro.post_service.dto.CursorPage;
+import com.networkpro.post_service.dto.HashtagSuggestionDTO;
+import com.networkpro.post_service.dto.PostSearchResponseDTO;
+import com.networkpro.post_service.dto.PostSummaryDTO;
+import com.networkpro.post_service.model.TagType;
+import com.networkpro.post_service.service.PostSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/posts")
+@Tag(name = "Post Search API", description = "Full-text, hashtag and mention search over posts")
+public class PostSearchController {
+    @Autowired
+    private PostSearchService searchService;
+
+    @Operation(summary = "Search posts", description = "GET /api/posts/search?q=&page=&size= - ranked by relevance")
+    @GetMapping("/search")
+    public ResponseEntity<PostSearchResponseDTO> search(@RequestParam("q") String query,
+            @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(searchService.search(query, page, size));
+    }
+
+    @Operation(summary = "Suggest hashtags", description = "GET /api/posts/hashtags?prefix=&limit=")
+    @GetMapping("/hashtags")
+    public ResponseEntity<List<HashtagSuggestionDTO>> suggestHashtags(@RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(searchService.suggestHashtags(prefix, limit));
+    }
+
+    @Operation(summary = "Get posts with a hashtag", description = "GET /api/posts/hashtags/{tag}?cursor=&limit=")
+    @GetMapping("/hashtags/{tag}")
+    public ResponseEntity<CursorPage<PostSummaryDTO>> findByHashtag(@PathVariable String tag,
+            @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(searchService.findByTag(TagType.HASHTAG, tag, cursor, limit));
+    }
+
+    @Operation(summary = "Get posts mentioning a user", description = "GET /api/posts/mentions/{handle}?cursor=&limit=")
+    @GetMapping("/mentions/{handle}")
+    public ResponseEntity<CursorPage<PostSummaryDTO>> findByMention(@PathVariable String handle,
+            @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(searchService.findByTag(TagType.MENTION, handle, cursor, limit));
+    }
+}
@@ -0,0 +1,37 @@
+package com.networkpro.post_service.controller;
+
+import com.networkpro.post_service.dto.PostEngagementDTO;
+import com.networkpro.post_service.dto.ReactionRequestDTO;
+import com.networkpro.post_service.service.ReactionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/posts/{postId}/reactions")
+@Tag(name = "Reaction API", description = "Endpoints for reacting to posts")
+public class ReactionController {
+    @Autowired
+    private ReactionService reactionService;
+
+    @Operation(summary = "Add or change a reaction", description = "PUT /api/posts/{postId}/reactions")
+    @PutMapping
+    public ResponseEntity<PostEngagementDTO> react(@PathVariable Long postId, @RequestBody ReactionRequestDTO request) {
+        return ResponseEntity.ok(reactionService.react(postId, request));
+    }
+
+    @Operation(summary = "Remove a user's reaction", description = "DELETE /api/posts/{postId}/reactions/{userId}")
+    @DeleteMapping("/{userId}")
+    public ResponseEntity<Void> removeReaction(@PathVariable Long postId, @PathVariable Long userId) {
+        reactionService.removeReaction(postId, userId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Get reaction and comment counts", description = "GET /api/posts/{postId}/reactions")
+    @GetMapping
+    public ResponseEntity<PostEngagementDTO> getEngagement(@PathVariable Long postId) {
+        return ResponseEntity.ok(reactionService.getEngagement(postId));
+    }
+}
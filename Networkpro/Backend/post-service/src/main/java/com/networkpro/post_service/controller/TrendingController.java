@@ -0,0 +1,28 @@
+package com.networkpro.post_service.controller;
+
+import com.networkpro.post_service.dto.TrendingPostDTO;
+import com.networkpro.post_service.service.TrendingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/posts/trending")
+@Tag(name = "Trending API", description = "Posts ranked by recent engagement")
+public class TrendingController {
+    @Autowired
+    private TrendingService trendingService;
+
+    @Operation(summary = "Get trending posts", description = "GET /api/posts/trending?limit=")
+    @GetMapping
+    public ResponseEntity<List<TrendingPostDTO>> getTrending(@RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(trendingService.getTrending(limit));
+    }
+}
@@ -0,0 +1,15 @@
+package com.networkpro.post_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuthorSummaryDTO {
+    private Long id;
+    private String fullName;
+    private String headline;
+    private String profilePictureUrl;
+}
@@ -0,0 +1,17 @@
+package com.networkpro.post_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResultDTO {
+    private long accepted;
+    private long rejected;
+    private List<ImportErrorDTO> errors;
+    private boolean errorsTruncated; // more lines failed than are listed in errors
+}
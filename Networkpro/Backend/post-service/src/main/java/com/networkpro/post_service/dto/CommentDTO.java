@@ -0,0 +1,21 @@
+package com.networkpro.post_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentDTO {
+    private Long id;
+    private Long postId;
+    private Long parentId;
+    private Long authorId;
+    private String author;
+    private String content;
+    private long replyCount;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,15 @@
+package com.networkpro.post_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentRequestDTO {
+    private Long authorId;
+    private String author;
+    private String content;
+    private Long parentId; // reply to this comment; null for a top-level comment
+}
@@ -0,0 +1,13 @@
+package com.networkpro.post_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HashtagSuggestionDTO {
+    private String tag;
+    private long uses;
+}
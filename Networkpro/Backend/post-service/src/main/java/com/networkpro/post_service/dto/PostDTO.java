@@ -4,6 +4,9 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -11,4 +14,8 @@ public class PostDTO {
     private String title;
     private String content;
     private String author;
+    private Long authorId;
+    private List<Long> mediaIds; // uploaded through /api/media before the post is created
+    private Boolean draft;
+    private LocalDateTime publishAt; // a future time schedules the post instead of publishing it now
 }
\ No newline at end of file
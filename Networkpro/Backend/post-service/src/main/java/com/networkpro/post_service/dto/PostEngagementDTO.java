@@ -0,0 +1,17 @@
+package com.networkpro.post_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostEngagementDTO {
+    private Long postId;
+    private Map<String, Long> reactions;
+    private long totalReactions;
+    private long comments;
+}
@@ -0,0 +1,19 @@
+package com.networkpro.post_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/** One line of a bulk NDJSON import. createdAt is optional and defaults to the import time. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostImportDTO {
+    private String title;
+    private String content;
+    private String author;
+    private Long authorId;
+    private LocalDateTime createdAt;
+}
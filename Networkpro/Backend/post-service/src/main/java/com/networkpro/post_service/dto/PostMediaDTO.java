@@ -0,0 +1,19 @@
+package com.networkpro.post_service.dto;
+
+import com.networkpro.post_service.model.MediaKind;
+import com.networkpro.post_service.model.MediaStatus;
+import lombok.Data;
+
+@Data
+public class PostMediaDTO {
+    private Long id;
+    private Long postId;
+    private MediaKind kind;
+    private MediaStatus status;
+    private String fileName;
+    private Integer width;
+    private Integer height;
+    private String url;
+    private String thumbnailUrl; // null until renditions are ready
+    private String previewUrl;
+}
@@ -0,0 +1,17 @@
+package com.networkpro.post_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostSearchResponseDTO {
+    private List<PostSearchResultDTO> results;
+    private int page;
+    private int size;
+    private boolean hasMore;
+}
@@ -0,0 +1,19 @@
+package com.networkpro.post_service.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class PostSearchResultDTO {
+    private Long id;
+    private String title;
+    private String author;
+    private Long authorId;
+    private LocalDateTime createdAt;
+    private String highlight;
+    private double rank;
+    private AuthorSummaryDTO authorProfile;
+    private List<PostMediaDTO> media;
+}
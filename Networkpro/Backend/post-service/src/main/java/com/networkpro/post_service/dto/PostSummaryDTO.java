@@ -0,0 +1,30 @@
+package com.networkpro.post_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostSummaryDTO {
+    public static final int EXCERPT_LENGTH = 200;
+
+    private Long id;
+    private String title;
+    private String author;
+    private Long authorId;
+    private String excerpt;
+    private LocalDateTime createdAt;
+    private AuthorSummaryDTO authorProfile;
+    private List<PostMediaDTO> media;
+
+    // Used by the JPQL constructor expressions in PostRepository.
+    public PostSummaryDTO(Long id, String title, String author, Long authorId, String excerpt,
+            LocalDateTime createdAt) {
+        this(id, title, author, authorId, excerpt, createdAt, null, null);
+    }
+}
@@ -0,0 +1,14 @@
+package com.networkpro.post_service.dto;
+
+import com.networkpro.post_service.model.ReactionType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReactionRequestDTO {
+    private Long userId;
+    private ReactionType type;
+}
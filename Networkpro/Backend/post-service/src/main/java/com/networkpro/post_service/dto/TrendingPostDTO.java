@@ -0,0 +1,20 @@
+package com.networkpro.post_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingPostDTO {
+    private Long postId;
+    private String title;
+    private String author;
+    private Long authorId;
+    private double score;
+    private AuthorSummaryDTO authorProfile;
+    private List<PostMediaDTO> media;
+}
@@ -0,0 +1,33 @@
+package com.networkpro.post_service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "post_comments", indexes = {
+        @Index(name = "idx_comments_post_parent_id", columnList = "postId, parentId, id"),
+        @Index(name = "idx_comments_parent_id", columnList = "parentId, id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Comment {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long postId;
+    private Long parentId; // null for top-level comments
+    private Long authorId;
+    private String author;
+
+    @Column(columnDefinition = "text")
+    private String content;
+
+    private LocalDateTime createdAt;
+}
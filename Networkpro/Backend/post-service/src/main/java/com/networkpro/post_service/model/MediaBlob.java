@@ -0,0 +1,24 @@
+package com.networkpro.post_service.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/** A stored file, keyed by the SHA-256 of its content. Shared by every upload with identical bytes. */
+@Entity
+@Table(name = "media_blobs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MediaBlob {
+    @Id
+    private String sha256;
+    private String contentType;
+    private long size;
+    private LocalDateTime lastUsedAt; // moved forward whenever the same content is stored again
+}
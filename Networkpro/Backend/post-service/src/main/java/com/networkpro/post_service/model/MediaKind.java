@@ -0,0 +1,6 @@
+package com.networkpro.post_service.model;
+
+public enum MediaKind {
+    IMAGE,
+    VIDEO
+}
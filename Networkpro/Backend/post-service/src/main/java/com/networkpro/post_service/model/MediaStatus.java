@@ -0,0 +1,7 @@
+package com.networkpro.post_service.model;
+
+public enum MediaStatus {
+    PROCESSING, // stored; renditions not generated yet
+    READY,
+    FAILED      // original is still served, but no renditions could be made
+}
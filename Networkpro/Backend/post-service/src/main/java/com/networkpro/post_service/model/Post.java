@@ -1,12 +1,20 @@
 package com.networkpro.post_service.model;
 
 import jakarta.persistence.*;
+import com.networkpro.post_service.dto.PostMediaDTO;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_created_id", columnList = "status, createdAt, id"),
+        @Index(name = "idx_posts_author_created", columnList = "authorId, status, createdAt"),
+        @Index(name = "idx_posts_status_publish_at", columnList = "status, publishAt")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -15,6 +23,32 @@ public class Post {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     private String title;
+    @Column(columnDefinition = "text")
     private String content;
     private String author;
+    private Long authorId;
+    private LocalDateTime createdAt; // moved to the publish time when a scheduled post goes live
+    private LocalDateTime updatedAt;
+
+    @Enumerated(EnumType.STRING)
+    private PostStatus status;
+
+    private LocalDateTime publishAt;
+
+    @Transient
+    private List<PostMediaDTO> media; // filled in for responses, never stored
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+        if (status == null) {
+            status = PostStatus.PUBLISHED;
+        }
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
 }
\ No newline at end of file
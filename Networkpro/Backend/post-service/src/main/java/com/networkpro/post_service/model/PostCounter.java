@@ -0,0 +1,38 @@
+package com.networkpro.post_service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * One shard of a per-post counter such as a reaction type or the comment count. Writers add
+ * to a random shard so a popular post spreads its updates over several rows; readers sum the
+ * shards.
+ */
+@Entity
+@Table(name = "post_counters")
+@IdClass(PostCounter.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostCounter {
+    @Id
+    private Long postId;
+    @Id
+    private String name;
+    @Id
+    private Integer shard;
+    private long total;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long postId;
+        private String name;
+        private Integer shard;
+    }
+}
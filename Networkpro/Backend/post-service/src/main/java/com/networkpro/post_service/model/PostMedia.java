@@ -0,0 +1,43 @@
+package com.networkpro.post_service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "post_media", indexes = {
+        @Index(name = "idx_post_media_post", columnList = "postId, id"),
+        @Index(name = "idx_post_media_status", columnList = "status, createdAt"),
+        @Index(name = "idx_post_media_sha256", columnList = "sha256"),
+        @Index(name = "idx_post_media_thumbnail", columnList = "thumbnailSha256"),
+        @Index(name = "idx_post_media_preview", columnList = "previewSha256")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostMedia {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long postId; // null until the post that uses it is created
+    private Long uploaderId;
+    private String fileName;
+
+    @Enumerated(EnumType.STRING)
+    private MediaKind kind;
+
+    @Enumerated(EnumType.STRING)
+    private MediaStatus status;
+
+    private String sha256;
+    private Integer width;
+    private Integer height;
+    private String thumbnailSha256;
+    private String previewSha256;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,28 @@
+package com.networkpro.post_service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "post_tags", indexes = {
+        @Index(name = "idx_post_tags_tag_post", columnList = "type, tag, postId"),
+        @Index(name = "idx_post_tags_post", columnList = "postId")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostTag {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long postId;
+
+    @Enumerated(EnumType.STRING)
+    private TagType type;
+
+    private String tag; // lower-cased, without the leading # or @
+}
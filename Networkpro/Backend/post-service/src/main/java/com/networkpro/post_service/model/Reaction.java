@@ -0,0 +1,28 @@
+package com.networkpro.post_service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "post_reactions", uniqueConstraints = @UniqueConstraint(columnNames = {"postId", "userId"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Reaction {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long postId;
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    private ReactionType type;
+
+    private LocalDateTime createdAt;
+}
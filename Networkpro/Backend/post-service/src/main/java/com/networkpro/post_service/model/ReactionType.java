@@ -0,0 +1,9 @@
+package com.networkpro.post_service.model;
+
+public enum ReactionType {
+    LIKE,
+    CELEBRATE,
+    SUPPORT,
+    INSIGHTFUL,
+    FUNNY
+}
@@ -0,0 +1,6 @@
+package com.networkpro.post_service.model;
+
+public enum TagType {
+    HASHTAG,
+    MENTION
+}
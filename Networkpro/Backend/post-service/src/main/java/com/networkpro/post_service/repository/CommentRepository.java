@@ -0,0 +1,26 @@
+package com.networkpro.post_service.repository;
+
+import com.networkpro.post_service.model.Comment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+    List<Comment> findByPostIdAndParentIdIsNullAndIdGreaterThanOrderByIdAsc(Long postId, Long afterId, Pageable pageable);
+
+    List<Comment> findByParentIdAndIdGreaterThanOrderByIdAsc(Long parentId, Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.parentId = :parentId")
+    int deleteByParentId(@Param("parentId") Long parentId);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+}
@@ -0,0 +1,40 @@
+package com.networkpro.post_service.repository;
+
+import com.networkpro.post_service.model.MediaBlob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MediaBlobRepository extends JpaRepository<MediaBlob, String> {
+    // Not stored since the cutoff and referenced by no media, as an original or a rendition.
+    String UNUSED = "b.lastUsedAt < :before "
+            + "AND NOT EXISTS (SELECT m.id FROM PostMedia m WHERE m.sha256 = b.sha256) "
+            + "AND NOT EXISTS (SELECT m.id FROM PostMedia m WHERE m.thumbnailSha256 = b.sha256) "
+            + "AND NOT EXISTS (SELECT m.id FROM PostMedia m WHERE m.previewSha256 = b.sha256)";
+
+    // Insert-if-absent, so identical content stored concurrently never collides on the key; an
+    // existing blob only has its last use moved forward.
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO media_blobs (sha256, content_type, size, last_used_at) "
+            + "VALUES (:sha256, :contentType, :size, :usedAt) "
+            + "ON CONFLICT (sha256) DO UPDATE SET last_used_at = EXCLUDED.last_used_at", nativeQuery = true)
+    int register(@Param("sha256") String sha256, @Param("contentType") String contentType, @Param("size") long size,
+            @Param("usedAt") LocalDateTime usedAt);
+
+    @Query("SELECT b.sha256 FROM MediaBlob b WHERE " + UNUSED)
+    List<String> findUnused(@Param("before") LocalDateTime before, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM MediaBlob b WHERE b.sha256 = :sha256 AND " + UNUSED)
+    int deleteIfUnused(@Param("sha256") String sha256, @Param("before") LocalDateTime before);
+}
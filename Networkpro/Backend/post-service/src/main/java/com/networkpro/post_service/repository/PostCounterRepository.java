@@ -0,0 +1,43 @@
+package com.networkpro.post_service.repository;
+
+import com.networkpro.post_service.model.PostCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PostCounterRepository extends JpaRepository<PostCounter, PostCounter.Key> {
+    @Modifying
+    @Query(value = "INSERT INTO post_counters (post_id, name, shard, total) VALUES (:postId, :name, :shard, :delta) "
+            + "ON CONFLICT (post_id, name, shard) DO UPDATE SET total = post_counters.total + EXCLUDED.total",
+            nativeQuery = true)
+    int add(@Param("postId") Long postId, @Param("name") String name, @Param("shard") int shard,
+            @Param("delta") long delta);
+
+    @Query("SELECT c.name AS name, SUM(c.total) AS total FROM PostCounter c "
+            + "WHERE c.postId = :postId AND c.name NOT LIKE 'replies:%' GROUP BY c.name")
+    List<CounterTotal> sumByPostId(@Param("postId") Long postId);
+
+    @Query("SELECT c.name AS name, SUM(c.total) AS total FROM PostCounter c "
+            + "WHERE c.postId = :postId AND c.name IN :names GROUP BY c.name")
+    List<CounterTotal> sumByPostIdAndNameIn(@Param("postId") Long postId, @Param("names") Collection<String> names);
+
+    @Modifying
+    @Query("DELETE FROM PostCounter c WHERE c.postId = :postId AND c.name = :name")
+    int deleteByPostIdAndName(@Param("postId") Long postId, @Param("name") String name);
+
+    @Modifying
+    @Query("DELETE FROM PostCounter c WHERE c.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+
+    interface CounterTotal {
+        String getName();
+
+        Long getTotal();
+    }
+}
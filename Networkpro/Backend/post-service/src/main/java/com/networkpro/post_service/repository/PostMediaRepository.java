@@ -0,0 +1,47 @@
+package com.networkpro.post_service.repository;
+
+import com.networkpro.post_service.model.MediaStatus;
+import com.networkpro.post_service.model.PostMedia;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PostMediaRepository extends JpaRepository<PostMedia, Long> {
+    List<PostMedia> findByPostIdOrderByIdAsc(Long postId);
+
+    List<PostMedia> findByPostIdInOrderByIdAsc(Collection<Long> postIds);
+
+    List<PostMedia> findByStatusAndCreatedAtBefore(MediaStatus status, LocalDateTime before);
+
+    @Modifying
+    @Query("UPDATE PostMedia m SET m.postId = :postId WHERE m.id IN :ids AND m.uploaderId = :uploaderId "
+            + "AND m.postId IS NULL")
+    int linkToPost(@Param("ids") Collection<Long> ids, @Param("postId") Long postId,
+            @Param("uploaderId") Long uploaderId);
+
+    // Targeted update so a rendition finishing never overwrites a concurrent linkToPost.
+    @Transactional
+    @Modifying
+    @Query("UPDATE PostMedia m SET m.status = :status, m.width = :width, m.height = :height, "
+            + "m.thumbnailSha256 = :thumbnail, m.previewSha256 = :preview WHERE m.id = :id")
+    int completeProcessing(@Param("id") Long id, @Param("status") MediaStatus status, @Param("width") Integer width,
+            @Param("height") Integer height, @Param("thumbnail") String thumbnailSha256,
+            @Param("preview") String previewSha256);
+
+    @Modifying
+    @Query("DELETE FROM PostMedia m WHERE m.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM PostMedia m WHERE m.postId IS NULL AND m.createdAt < :before")
+    int deleteUnattachedBefore(@Param("before") LocalDateTime before);
+}
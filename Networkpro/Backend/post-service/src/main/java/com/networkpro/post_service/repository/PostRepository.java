@@ -1,9 +1,94 @@
 package com.networkpro.post_service.repository;
 
+import com.networkpro.post_service.dto.PostSummaryDTO;
 import com.networkpro.post_service.model.Post;
+import com.networkpro.post_service.model.PostStatus;
+import com.networkpro.post_service.model.TagType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
+    // List views select only summary columns of published posts; the excerpt is cut in the
+    // database so full content never leaves it. The queries walk idx_posts_created_id backwards;
+    // the redundant leading createdAt bound on keyset pages lets that walk start at the cursor.
+    String SUMMARY_SELECT = "SELECT new com.networkpro.post_service.dto.PostSummaryDTO(p.id, p.title, p.author, "
+            + "p.authorId, SUBSTRING(p.content, 1, " + PostSummaryDTO.EXCERPT_LENGTH + "), p.createdAt) FROM Post p "
+            + "WHERE p.status = com.networkpro.post_service.model.PostStatus.PUBLISHED ";
+
+    @Query(SUMMARY_SELECT + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryDTO> findLatestSummaries(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "AND p.createdAt <= :createdAt AND (p.createdAt < :createdAt "
+            + "OR (p.createdAt = :createdAt AND p.id < :id)) ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryDTO> findSummariesBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+            Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "AND p.authorId = :authorId ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryDTO> findLatestSummariesByAuthor(@Param("authorId") Long authorId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "AND p.authorId = :authorId AND p.createdAt <= :createdAt "
+            + "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryDTO> findSummariesByAuthorBefore(@Param("authorId") Long authorId,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "AND p.id < :beforeId AND p.id IN (SELECT t.postId FROM PostTag t "
+            + "WHERE t.type = :type AND t.tag = :tag) ORDER BY p.id DESC")
+    List<PostSummaryDTO> findSummariesByTag(@Param("type") TagType type, @Param("tag") String tag,
+            @Param("beforeId") Long beforeId, Pageable pageable);
+
+    // search_vector is a generated tsvector column over title (weight A) and content (weight B)
+    // with a GIN index (see import.sql); Postgres maintains it on every insert, update and delete.
+    // Matches in the headline are delimited by chr(2) and chr(3), which are stripped from the
+    // content first; the service escapes the snippet before turning them into <mark> tags.
+    // Only the newest :candidates matches are ranked, which bounds the ts_rank_cd work per page.
+    @Query(value = "SELECT p.id AS id, p.title AS title, p.author AS author, p.author_id AS authorId, "
+            + "p.created_at AS createdAt, ts_headline('simple', translate(coalesce(p.content, ''), "
+            + "chr(2) || chr(3), ''), q, 'StartSel=' || chr(2) || ', StopSel=' || chr(3) "
+            + "|| ', MaxFragments=2, MinWords=5, MaxWords=20') AS highlight, "
+            + "ts_rank_cd(p.search_vector, q) AS rank "
+            + "FROM (SELECT m.id, m.title, m.author, m.author_id, m.created_at, m.content, m.search_vector "
+            + "FROM posts m WHERE m.search_vector @@ websearch_to_tsquery('simple', :query) "
+            + "AND m.status = 'PUBLISHED' ORDER BY m.id DESC LIMIT :candidates) p, "
+            + "websearch_to_tsquery('simple', :query) q "
+            + "ORDER BY rank DESC, p.id DESC LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<PostSearchHit> search(@Param("query") String query, @Param("candidates") int candidates,
+            @Param("limit") int limit, @Param("offset") long offset);
+
+    boolean existsByIdAndStatus(Long id, PostStatus status);
+
+    List<Post> findByAuthorIdIsNullAndIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.authorId = :authorId WHERE p.id IN :ids AND p.authorId IS NULL")
+    int assignAuthor(@Param("ids") Collection<Long> ids, @Param("authorId") Long authorId);
+
+    List<Post> findByAuthorIdInAndStatusOrderByCreatedAtDescIdDesc(Collection<Long> authorIds, PostStatus status,
+            Pageable pageable);
+
+    List<Post> findByAuthorIdAndStatusOrderByCreatedAtDescIdDesc(Long authorId, PostStatus status, Pageable pageable);
+
+    List<Post> findByAuthorIdAndStatusInOrderByIdDesc(Long authorId, Collection<PostStatus> statuses);
+
+    // Keyset scan of scheduled posts due before a time, for loading the publisher's timing wheel.
+    @Query("SELECT p.id AS id, p.publishAt AS publishAt FROM Post p WHERE p.status = "
+            + "com.networkpro.post_service.model.PostStatus.SCHEDULED AND p.publishAt < :until "
+            + "AND (p.publishAt > :afterPublishAt OR (p.publishAt = :afterPublishAt AND p.id > :afterId)) "
+            + "ORDER BY p.publishAt, p.id")
+    List<ScheduledPost> findScheduledBefore(@Param("until") LocalDateTime until,
+            @Param("afterPublishAt") LocalDateTime afterPublishAt, @Param("afterId") Long afterId, Pageable pageable);
+
+    interface ScheduledPost {
+        Long getId();
+
+        LocalDateTime getPublishAt();
+    }
 }
\ No newline at end of file
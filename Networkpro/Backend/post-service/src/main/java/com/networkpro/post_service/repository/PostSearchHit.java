@@ -0,0 +1,19 @@
+package com.networkpro.post_service.repository;
+
+import java.time.LocalDateTime;
+
+public interface PostSearchHit {
+    Long getId();
+
+    String getTitle();
+
+    String getAuthor();
+
+    Long getAuthorId();
+
+    LocalDateTime getCreatedAt();
+
+    String getHighlight();
+
+    Double getRank();
+}
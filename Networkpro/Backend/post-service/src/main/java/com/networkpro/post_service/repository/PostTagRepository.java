@@ -0,0 +1,29 @@
+package com.networkpro.post_service.repository;
+
+import com.networkpro.post_service.model.PostTag;
+import com.networkpro.post_service.model.TagType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PostTagRepository extends JpaRepository<PostTag, Long> {
+    List<PostTag> findByPostId(Long postId);
+
+    @Modifying
+    @Query("DELETE FROM PostTag t WHERE t.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+
+    @Query("SELECT t.tag AS tag, COUNT(t) AS uses FROM PostTag t WHERE t.type = :type GROUP BY t.tag")
+    List<TagCount> countByTag(@Param("type") TagType type);
+
+    interface TagCount {
+        String getTag();
+
+        Long getUses();
+    }
+}
@@ -0,0 +1,41 @@
+package com.networkpro.post_service.repository;
+
+import com.networkpro.post_service.model.Reaction;
+import com.networkpro.post_service.model.ReactionType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface ReactionRepository extends JpaRepository<Reaction, Long> {
+    Optional<Reaction> findByPostIdAndUserId(Long postId, Long userId);
+
+    /**
+     * Inserts the reaction unless the user already has one on the post; returns 1 if a row was
+     * added. Two concurrent first reactions from the same user no longer race on the unique key.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO post_reactions (post_id, user_id, type, created_at) "
+            + "VALUES (:postId, :userId, :type, :createdAt) ON CONFLICT (post_id, user_id) DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("postId") Long postId, @Param("userId") Long userId, @Param("type") String type,
+            @Param("createdAt") LocalDateTime createdAt);
+
+    @Modifying
+    @Query("UPDATE Reaction r SET r.type = :type WHERE r.postId = :postId AND r.userId = :userId AND r.type = :previous")
+    int changeType(@Param("postId") Long postId, @Param("userId") Long userId,
+            @Param("previous") ReactionType previous, @Param("type") ReactionType type);
+
+    @Modifying
+    @Query("DELETE FROM Reaction r WHERE r.postId = :postId AND r.userId = :userId AND r.type = :type")
+    int deleteReaction(@Param("postId") Long postId, @Param("userId") Long userId, @Param("type") ReactionType type);
+
+    @Modifying
+    @Query("DELETE FROM Reaction r WHERE r.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+}
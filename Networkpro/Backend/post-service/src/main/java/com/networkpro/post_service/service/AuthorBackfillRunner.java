@@ -0,0 +1,96 @@
+package com.networkpro.post_service.service;
+
+import com.networkpro.post_service.client.UserDirectoryClient;
+import com.networkpro.post_service.model.Post;
+import com.networkpro.post_service.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestClientException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * One-off migration for posts written before authorId was required: resolves the free-text
+ * author of each post to a user id in batches, with one user-service call per batch. Names that
+ * match no user, or several, are left for manual review. Runs in the background after start-up
+ * and is safe to rerun.
+ */
+@Slf4j
+@Component
+public class AuthorBackfillRunner implements ApplicationRunner {
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserDirectoryClient userDirectory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${post.author-backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${post.author-backfill.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (enabled) {
+            Thread thread = new Thread(this::backfill, "author-backfill");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    void backfill() {
+        long lastId = 0;
+        long updated = 0;
+        try {
+            while (true) {
+                List<Post> batch = postRepository.findByAuthorIdIsNullAndIdGreaterThanOrderByIdAsc(lastId,
+                        PageRequest.of(0, batchSize));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                lastId = batch.get(batch.size() - 1).getId();
+                Set<String> names = batch.stream().map(Post::getAuthor)
+                        .filter(name -> name != null && !name.isBlank()).collect(Collectors.toSet());
+                if (names.isEmpty()) {
+                    continue;
+                }
+                Map<String, Long> resolved = userDirectory.resolveFullNames(names);
+                Map<Long, List<Long>> postsByAuthor = new HashMap<>();
+                for (Post post : batch) {
+                    Long authorId = resolved.get(post.getAuthor());
+                    if (authorId != null) {
+                        postsByAuthor.computeIfAbsent(authorId, id -> new ArrayList<>()).add(post.getId());
+                    }
+                }
+                Integer changed = transactionTemplate.execute(status -> {
+                    int rows = 0;
+                    for (Map.Entry<Long, List<Long>> entry : postsByAuthor.entrySet()) {
+                        rows += postRepository.assignAuthor(entry.getValue(), entry.getKey());
+                    }
+                    return rows;
+                });
+                updated += changed == null ? 0 : changed;
+            }
+            if (updated > 0) {
+                log.info("Backfilled authorId on {} posts", updated);
+            }
+        } catch (RestClientException e) {
+            log.warn("Author backfill stopped after {} posts: user-service unavailable", updated, e);
+        }
+    }
+}
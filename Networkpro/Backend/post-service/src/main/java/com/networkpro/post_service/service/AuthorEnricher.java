@@ -0,0 +1,31 @@
+package com.networkpro.post_service.service;
+
+import com.networkpro.post_service.client.UserDirectoryClient;
+import com.networkpro.post_service.dto.AuthorSummaryDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/** Attaches author profiles to a page of results with one lookup for all distinct authors. */
+@Component
+public class AuthorEnricher {
+    @Autowired
+    private UserDirectoryClient userDirectory;
+
+    public <T> List<T> enrich(List<T> items, Function<T, Long> authorId, BiConsumer<T, AuthorSummaryDTO> setter) {
+        Map<Long, AuthorSummaryDTO> authors = userDirectory.getSummaries(
+                items.stream().map(authorId).collect(Collectors.toSet()));
+        for (T item : items) {
+            Long id = authorId.apply(item);
+            if (id != null) {
+                setter.accept(item, authors.get(id));
+            }
+        }
+        return items;
+    }
+}
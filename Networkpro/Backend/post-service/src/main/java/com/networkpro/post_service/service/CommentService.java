@@ -0,0 +1,15 @@
+package com.networkpro.post_service.service;
+
+import com.networkpro.post_service.dto.CommentDTO;
+import com.networkpro.post_service.dto.CommentRequestDTO;
+import com.networkpro.post_service.dto.CursorPage;
+
+public interface CommentService {
+    CommentDTO addComment(Long postId, CommentRequestDTO request);
+
+    CursorPage<CommentDTO> getComments(Long postId, String cursor, int limit);
+
+    CursorPage<CommentDTO> getReplies(Long postId, Long commentId, String cursor, int limit);
+
+    void deleteComment(Long postId, Long commentId);
+}
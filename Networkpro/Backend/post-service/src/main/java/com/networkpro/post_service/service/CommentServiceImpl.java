@@ -0,0 +1,140 @@
+package com.networkpro.post_service.service;
+
+import com.networkpro.post_service.dto.CommentDTO;
+import com.networkpro.post_service.dto.CommentRequestDTO;
+import com.networkpro.post_service.dto.CursorPage;
+import com.networkpro.post_service.exception.PostNotFoundException;
+import com.networkpro.post_service.model.Comment;
+import com.networkpro.post_service.model.PostStatus;
+import com.networkpro.post_service.repository.CommentRepository;
+import com.networkpro.post_service.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Two-level comment threads: replies to a reply are attached to the top-level comment they
+ * belong to. Both levels are paged oldest first by id.
+ */
+@Service
+public class CommentServiceImpl implements CommentService {
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostCounterService counterService;
+
+    @Autowired
+    private TrendingService trendingService;
+
+    @Override
+    @Transactional
+    public CommentDTO addComment(Long postId, CommentRequestDTO request) {
+        if (request.getContent() == null || request.getContent().isBlank()) {
+            throw new IllegalArgumentException("Comment content is required");
+        }
+        if (!postRepository.existsByIdAndStatus(postId, PostStatus.PUBLISHED)) {
+            throw new PostNotFoundException("Post not found with id: " + postId);
+        }
+        Long parentId = null;
+        if (request.getParentId() != null) {
+            Comment parent = findComment(postId, request.getParentId());
+            parentId = parent.getParentId() != null ? parent.getParentId() : parent.getId();
+            counterService.addReplies(postId, parentId, 1);
+        }
+        Comment comment = commentRepository.save(Comment.builder()
+                .postId(postId)
+                .parentId(parentId)
+                .authorId(request.getAuthorId())
+                .author(request.getAuthor())
+                .content(request.getContent())
+                .createdAt(LocalDateTime.now())
+                .build());
+        counterService.add(postId, PostCounterService.COMMENTS, 1);
+        trendingService.recordComment(postId);
+        return toDTO(comment, 0);
+    }
+
+    @Override
+    public CursorPage<CommentDTO> getComments(Long postId, String cursor, int limit) {
+        int pageSize = pageSize(limit);
+        List<Comment> rows = commentRepository.findByPostIdAndParentIdIsNullAndIdGreaterThanOrderByIdAsc(
+                postId, afterId(cursor), PageRequest.of(0, pageSize + 1));
+        return toPage(postId, rows, pageSize);
+    }
+
+    @Override
+    public CursorPage<CommentDTO> getReplies(Long postId, Long commentId, String cursor, int limit) {
+        findComment(postId, commentId);
+        int pageSize = pageSize(limit);
+        List<Comment> rows = commentRepository.findByParentIdAndIdGreaterThanOrderByIdAsc(
+                commentId, afterId(cursor), PageRequest.of(0, pageSize + 1));
+        return toPage(postId, rows, pageSize);
+    }
+
+    @Override
+    @Transactional
+    public void deleteComment(Long postId, Long commentId) {
+        Comment comment = findComment(postId, commentId);
+        long removed = 1;
+        if (comment.getParentId() == null) {
+            removed += commentRepository.deleteByParentId(commentId);
+            counterService.deleteReplies(postId, commentId);
+        } else {
+            counterService.addReplies(postId, comment.getParentId(), -1);
+        }
+        commentRepository.delete(comment);
+        counterService.add(postId, PostCounterService.COMMENTS, -removed);
+    }
+
+    private Comment findComment(Long postId, Long commentId) {
+        return commentRepository.findById(commentId)
+                .filter(comment -> comment.getPostId().equals(postId))
+                .orElseThrow(() -> new RuntimeException("Comment not found with id: " + commentId));
+    }
+
+    private static int pageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    private static Long afterId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private CursorPage<CommentDTO> toPage(Long postId, List<Comment> rows, int pageSize) {
+        boolean hasMore = rows.size() > pageSize;
+        List<Comment> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasMore ? String.valueOf(page.get(pageSize - 1).getId()) : null;
+        // Only top-level comments carry replies; one grouped read covers the whole page.
+        Map<Long, Long> replyCounts = counterService.getReplyCounts(postId, page.stream()
+                .filter(comment -> comment.getParentId() == null)
+                .map(Comment::getId)
+                .collect(Collectors.toList()));
+        return new CursorPage<>(page.stream()
+                .map(comment -> toDTO(comment, replyCounts.getOrDefault(comment.getId(), 0L)))
+                .collect(Collectors.toList()), nextCursor);
+    }
+
+    private static CommentDTO toDTO(Comment comment, long replyCount) {
+        return new CommentDTO(comment.getId(), comment.getPostId(), comment.getParentId(), comment.getAuthorId(),
+                comment.getAuthor(), comment.getContent(), replyCount, comment.getCreatedAt());
+    }
+}
@@ -0,0 +1,12 @@
+package com.networkpro.post_service.service;
+
+import com.networkpro.post_service.dto.CursorPage;
+import com.networkpro.post_service.model.Post;
+
+public interface FeedService {
+    CursorPage<Post> getHomeFeed(Long userId, String cursor, int limit);
+
+    void onPostCreated(Post post);
+
+    void onPostDeleted(Long postId);
+}
@@ -0,0 +1,174 @@
+package com.networkpro.post_service.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.networkpro.post_service.client.ConnectionGraphClient;
+import com.networkpro.post_service.dto.CursorPage;
+import com.networkpro.post_service.model.Post;
+import com.networkpro.post_service.model.PostStatus;
+import com.networkpro.post_service.repository.PostRepository;
+import com.networkpro.post_service.service.feed.FeedEntry;
+import com.networkpro.post_service.service.feed.FeedTimeline;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Hybrid fan-out home feed. Posts by ordinary authors are pushed into the cached timelines of
+ * their connections when they are written; posts by authors with more connections than
+ * {@code feed.celebrity-threshold} are kept only in a per-author timeline and merged in when a
+ * follower reads. Timelines live in bounded Caffeine caches and are rebuilt from one indexed
+ * query the first time a user's feed is requested after eviction.
+ */
+@Slf4j
+@Service
+public class FeedServiceImpl implements FeedService {
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private ConnectionGraphClient connectionGraph;
+
+    @Autowired
+    private MediaEnricher mediaEnricher;
+
+    private final int timelineCapacity;
+    private final int celebrityThreshold;
+    private final Cache<Long, FeedTimeline> userTimelines;
+    private final LoadingCache<Long, FeedTimeline> celebrityTimelines;
+    private final Set<Long> celebrityAuthors = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor fanoutExecutor = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(10_000), new ThreadPoolExecutor.CallerRunsPolicy());
+
+    public FeedServiceImpl(@Value("${feed.timeline-capacity:500}") int timelineCapacity,
+            @Value("${feed.celebrity-threshold:5000}") int celebrityThreshold,
+            @Value("${feed.cache.max-users:100000}") long maxUsers,
+            @Value("${feed.cache.max-celebrities:10000}") long maxCelebrities,
+            @Value("${feed.cache.timeline-ttl-minutes:10}") long timelineTtlMinutes) {
+        this.timelineCapacity = timelineCapacity;
+        this.celebrityThreshold = celebrityThreshold;
+        this.userTimelines = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                // After write, not access: a timeline read often must still be rebuilt to pick up new connections.
+                .expireAfterWrite(Duration.ofMinutes(timelineTtlMinutes))
+                .build();
+        this.celebrityTimelines = Caffeine.newBuilder()
+                .maximumSize(maxCelebrities)
+                .build(this::loadAuthorTimeline);
+    }
+
+    @Override
+    public CursorPage<Post> getHomeFeed(Long userId, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        FeedEntry after = cursor == null || cursor.isBlank() ? null : FeedEntry.fromCursor(cursor);
+        Set<Long> connections = connectionGraph.acceptedConnections(userId);
+
+        TreeSet<FeedEntry> merged = new TreeSet<>(FeedEntry.NEWEST_FIRST);
+        merged.addAll(userTimelines.get(userId, id -> buildTimeline(connections)).page(after, pageSize + 1));
+        for (Long connection : connections) {
+            if (celebrityAuthors.contains(connection)) {
+                merged.addAll(celebrityTimelines.get(connection).page(after, pageSize + 1));
+            }
+        }
+
+        List<FeedEntry> page = merged.stream().limit(pageSize + 1).collect(Collectors.toList());
+        boolean hasMore = page.size() > pageSize;
+        if (hasMore) {
+            page = page.subList(0, pageSize);
+        }
+        Map<Long, Post> posts = postRepository.findAllById(page.stream().map(FeedEntry::getPostId).toList())
+                .stream().collect(Collectors.toMap(Post::getId, Function.identity()));
+        List<Post> items = new ArrayList<>(page.size());
+        for (FeedEntry entry : page) {
+            // Deleted posts are dropped here rather than chased through every cached timeline.
+            Post post = posts.get(entry.getPostId());
+            if (post != null) {
+                items.add(post);
+            }
+        }
+        mediaEnricher.enrich(items, Post::getId, Post::setMedia);
+        String nextCursor = hasMore ? page.get(page.size() - 1).toCursor() : null;
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    @Override
+    public void onPostCreated(Post post) {
+        if (post.getAuthorId() == null) {
+            return;
+        }
+        FeedEntry entry = FeedEntry.of(post);
+        fanoutExecutor.execute(() -> fanOut(entry));
+    }
+
+    @Override
+    public void onPostDeleted(Long postId) {
+        celebrityTimelines.asMap().values().forEach(timeline -> timeline.removePost(postId));
+    }
+
+    private void fanOut(FeedEntry entry) {
+        try {
+            Set<Long> followers = connectionGraph.acceptedConnections(entry.getAuthorId());
+            if (followers.size() >= celebrityThreshold) {
+                celebrityAuthors.add(entry.getAuthorId());
+                FeedTimeline timeline = celebrityTimelines.getIfPresent(entry.getAuthorId());
+                if (timeline != null) {
+                    timeline.add(entry);
+                }
+                return;
+            }
+            celebrityAuthors.remove(entry.getAuthorId());
+            // Only timelines that are already materialised are updated; the rest are built from
+            // the database on their next read and will include this post.
+            for (Long follower : followers) {
+                FeedTimeline timeline = userTimelines.getIfPresent(follower);
+                if (timeline != null) {
+                    timeline.add(entry);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Feed fan-out failed for post {}", entry.getPostId(), e);
+        }
+    }
+
+    private FeedTimeline buildTimeline(Set<Long> connections) {
+        FeedTimeline timeline = new FeedTimeline(timelineCapacity);
+        if (!connections.isEmpty()) {
+            postRepository.findByAuthorIdInAndStatusOrderByCreatedAtDescIdDesc(connections, PostStatus.PUBLISHED,
+                    PageRequest.of(0, timelineCapacity)).forEach(post -> timeline.add(FeedEntry.of(post)));
+        }
+        return timeline;
+    }
+
+    private FeedTimeline loadAuthorTimeline(Long authorId) {
+        FeedTimeline timeline = new FeedTimeline(timelineCapacity);
+        postRepository.findByAuthorIdAndStatusOrderByCreatedAtDescIdDesc(authorId, PostStatus.PUBLISHED,
+                PageRequest.of(0, timelineCapacity)).forEach(post -> timeline.add(FeedEntry.of(post)));
+        return timeline;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        fanoutExecutor.shutdown();
+        fanoutExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,27 @@
+package com.networkpro.post_service.service;
+
+import com.networkpro.post_service.dto.PostMediaDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/** Attaches media to a page of posts with one query for all of them. */
+@Component
+public class MediaEnricher {
+    @Autowired
+    private MediaService mediaService;
+
+    public <T> List<T> enrich(List<T> items, Function<T, Long> postId, BiConsumer<T, List<PostMediaDTO>> setter) {
+        Map<Long, List<PostMediaDTO>> media = mediaService.getMediaByPost(
+                items.stream().map(postId).collect(Collectors.toSet()));
+        for (T item : items) {
+            setter.accept(item, media.getOrDefault(postId.apply(item), List.of()));
+        }
+        return items;
+    }
+}
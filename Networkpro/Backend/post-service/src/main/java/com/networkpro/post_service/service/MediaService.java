@@ -0,0 +1,28 @@
+package com.networkpro.post_service.service;
+
+import com.networkpro.post_service.dto.PostMediaDTO;
+import com.networkpro.post_service.model.MediaBlob;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface MediaService {
+    PostMediaDTO upload(Long uploaderId, String fileName, String contentType, InputStream content);
+
+    PostMediaDTO getMedia(Long id);
+
+    List<PostMediaDTO> getPostMedia(Long postId);
+
+    Map<Long, List<PostMediaDTO>> getMediaByPost(Collection<Long> postIds);
+
+    MediaBlob getBlob(String sha256);
+
+    Path blobPath(String sha256);
+
+    void attachToPost(List<Long> mediaIds, Long postId, Long authorId);
+
+    void onPostDeleted(Long postId);
+}
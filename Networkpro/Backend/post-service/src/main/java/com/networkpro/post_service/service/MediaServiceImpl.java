@@ -0,0 +1,190 @@
+package com.networkpro.post_service.service;
+
+import com.networkpro.post_service.dto.PostMediaDTO;
+import com.networkpro.post_service.model.MediaBlob;
+import com.networkpro.post_service.model.MediaKind;
+import com.networkpro.post_service.model.MediaStatus;
+import com.networkpro.post_service.model.PostMedia;
+import com.networkpro.post_service.repository.MediaBlobRepository;
+import com.networkpro.post_service.repository.PostMediaRepository;
+import com.networkpro.post_service.service.media.MediaStorage;
+import com.networkpro.post_service.service.media.RenditionWorker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Post images and videos. Uploads are streamed straight into content-addressed storage and
+ * acknowledged before any image processing; renditions are produced in the background by
+ * {@link RenditionWorker}. Every URL names the SHA-256 of the bytes it serves, so responses can
+ * be cached forever. Uploads never attached to a post, and blobs nothing references any more,
+ * are swept after {@code post.media.orphan-ttl-hours}.
+ */
+@Slf4j
+@Service
+public class MediaServiceImpl implements MediaService {
+    private static final Map<String, MediaKind> ACCEPTED_TYPES = Map.of(
+            "image/jpeg", MediaKind.IMAGE,
+            "image/png", MediaKind.IMAGE,
+            "image/gif", MediaKind.IMAGE,
+            "image/bmp", MediaKind.IMAGE,
+            "video/mp4", MediaKind.VIDEO,
+            "video/webm", MediaKind.VIDEO,
+            "video/quicktime", MediaKind.VIDEO);
+    private static final String BLOB_URL = "/api/media/blobs/";
+    private static final int SWEEP_BATCH = 500;
+
+    @Autowired
+    private PostMediaRepository mediaRepository;
+
+    @Autowired
+    private MediaBlobRepository blobRepository;
+
+    @Autowired
+    private MediaStorage storage;
+
+    @Autowired
+    private RenditionWorker renditionWorker;
+
+    @Value("${post.media.max-size-bytes:209715200}")
+    private long maxSizeBytes;
+
+    @Value("${post.media.orphan-ttl-hours:24}")
+    private int orphanTtlHours;
+
+    @Override
+    public PostMediaDTO upload(Long uploaderId, String fileName, String contentType, InputStream content) {
+        String type = contentType == null ? "" : contentType.split(";")[0].trim().toLowerCase();
+        MediaKind kind = ACCEPTED_TYPES.get(type);
+        if (kind == null) {
+            throw new IllegalArgumentException("Unsupported media type: " + contentType);
+        }
+        MediaStorage.StoredFile stored;
+        try {
+            stored = storage.store(content, maxSizeBytes, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store media", e);
+        }
+        PostMedia media = mediaRepository.save(PostMedia.builder()
+                .uploaderId(uploaderId)
+                .fileName(fileName)
+                .kind(kind)
+                .status(MediaStatus.PROCESSING)
+                .sha256(stored.getSha256())
+                .createdAt(LocalDateTime.now())
+                .build());
+        renditionWorker.submit(media.getId());
+        return toDTO(media);
+    }
+
+    @Override
+    public PostMediaDTO getMedia(Long id) {
+        return toDTO(mediaRepository.findById(id).orElseThrow(() -> new RuntimeException("Media not found")));
+    }
+
+    @Override
+    public List<PostMediaDTO> getPostMedia(Long postId) {
+        return mediaRepository.findByPostIdOrderByIdAsc(postId).stream().map(this::toDTO).collect(Collectors.toList());
+    }
+
+    @Override
+    public Map<Long, List<PostMediaDTO>> getMediaByPost(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        return mediaRepository.findByPostIdInOrderByIdAsc(postIds).stream().map(this::toDTO)
+                .collect(Collectors.groupingBy(PostMediaDTO::getPostId));
+    }
+
+    @Override
+    public MediaBlob getBlob(String sha256) {
+        return blobRepository.findById(sha256).orElseThrow(() -> new RuntimeException("Media not found"));
+    }
+
+    @Override
+    public Path blobPath(String sha256) {
+        return storage.path(sha256);
+    }
+
+    @Override
+    @Transactional
+    public void attachToPost(List<Long> mediaIds, Long postId, Long authorId) {
+        if (mediaIds == null || mediaIds.isEmpty()) {
+            return;
+        }
+        if (mediaRepository.linkToPost(mediaIds, postId, authorId) != mediaIds.size()) {
+            throw new IllegalArgumentException("Media must be uploaded by the author and not used by another post");
+        }
+    }
+
+    @Override
+    @Transactional
+    public void onPostDeleted(Long postId) {
+        // Blobs are shared by content; those no longer referenced are left to removeOrphans.
+        mediaRepository.deleteByPostId(postId);
+    }
+
+    // Uploads that did not fit in the rendition queue, or were queued when the node stopped.
+    @Scheduled(fixedDelayString = "${post.media.requeue-interval-ms:60000}")
+    public void requeueStalled() {
+        for (PostMedia media : mediaRepository.findByStatusAndCreatedAtBefore(MediaStatus.PROCESSING,
+                LocalDateTime.now().minusMinutes(1))) {
+            renditionWorker.submit(media.getId());
+        }
+    }
+
+    // A blob stored within the TTL is kept even when unreferenced: its upload may still be saving.
+    @Scheduled(cron = "${post.media.cleanup-cron:0 15 * * * *}")
+    public void removeOrphans() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(orphanTtlHours);
+        int uploads = mediaRepository.deleteUnattachedBefore(cutoff);
+        int blobs = 0;
+        List<String> unused;
+        while (!(unused = blobRepository.findUnused(cutoff, PageRequest.of(0, SWEEP_BATCH))).isEmpty()) {
+            int removed = 0;
+            for (String sha256 : unused) {
+                try {
+                    removed += storage.deleteIfUnused(sha256, cutoff) ? 1 : 0;
+                } catch (IOException e) {
+                    log.warn("Failed to delete media blob {}", sha256, e);
+                }
+            }
+            blobs += removed;
+            if (removed == 0) {
+                break;
+            }
+        }
+        if (uploads > 0 || blobs > 0) {
+            log.info("Removed {} unattached media uploads and {} unused blobs", uploads, blobs);
+        }
+    }
+
+    private PostMediaDTO toDTO(PostMedia media) {
+        PostMediaDTO dto = new PostMediaDTO();
+        dto.setId(media.getId());
+        dto.setPostId(media.getPostId());
+        dto.setKind(media.getKind());
+        dto.setStatus(media.getStatus());
+        dto.setFileName(media.getFileName());
+        dto.setWidth(media.getWidth());
+        dto.setHeight(media.getHeight());
+        dto.setUrl(BLOB_URL + media.getSha256());
+        dto.setThumbnailUrl(media.getThumbnailSha256() == null ? null : BLOB_URL + media.getThumbnailSha256());
+        dto.setPreviewUrl(media.getPreviewSha256() == null ? null : BLOB_URL + media.getPreviewSha256());
+        return dto;
+    }
+}
@@ -0,0 +1,57 @@
+package com.networkpro.post_service.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.networkpro.post_service.model.Post;
+import com.networkpro.post_service.repository.PostRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Read-through cache of posts by id. Caffeine's W-TinyLFU policy keeps frequently read posts
+ * resident, and concurrent misses on one id wait on a single load. Hit ratio, evictions and
+ * load times are published as the {@code cache.*} metrics with {@code cache=posts}. Misses are
+ * not cached, so a post becomes visible as soon as its row is committed.
+ */
+@Component
+public class PostCache {
+    private final LoadingCache<Long, Post> posts;
+
+    public PostCache(PostRepository postRepository, MeterRegistry meterRegistry,
+            @Value("${post.cache.max-size:10000}") long maxSize,
+            @Value("${post.cache.expire-after-write-minutes:10}") long expireAfterWriteMinutes) {
+        this.posts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+                .recordStats()
+                .build(id -> postRepository.findById(id).orElse(null));
+        CaffeineCacheMetrics.monitor(meterRegistry, posts, "posts");
+    }
+
+    public Optional<Post> get(Long id) {
+        return Optional.ofNullable(posts.get(id));
+    }
+
+    /**
+     * Drops the cached post. Inside a transaction the entry is dropped again after commit, so a
+     * read that raced the write cannot leave the old row cached.
+     */
+    public void invalidate(Long id) {
+        posts.invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    posts.invalidate(id);
+                }
+            });
+        }
+    }
+}
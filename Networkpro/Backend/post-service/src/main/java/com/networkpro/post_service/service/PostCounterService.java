@@ -0,0 +1,95 @@
+package com.networkpro.post_service.service;
+
+import com.networkpro.post_service.dto.PostEngagementDTO;
+import com.networkpro.post_service.model.ReactionType;
+import com.networkpro.post_service.repository.PostCounterRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Sharded per-post counters. Each increment is an upsert into one of
+ * {@code post.counters.shards} rows chosen at random, made in the caller's transaction so
+ * counts stay consistent with the reaction and comment rows they describe. Reply counts of
+ * top-level comments live here too, as one {@code replies:<commentId>} counter per thread.
+ */
+@Service
+public class PostCounterService {
+    static final String COMMENTS = "comments";
+
+    @Autowired
+    private PostCounterRepository counterRepository;
+
+    @Value("${post.counters.shards:16}")
+    private int shards;
+
+    public void add(Long postId, String name, long delta) {
+        counterRepository.add(postId, name, ThreadLocalRandom.current().nextInt(shards), delta);
+    }
+
+    public void addReaction(Long postId, ReactionType type, long delta) {
+        add(postId, reactionCounter(type), delta);
+    }
+
+    public void addReplies(Long postId, Long commentId, long delta) {
+        add(postId, replyCounter(commentId), delta);
+    }
+
+    public Map<Long, Long> getReplyCounts(Long postId, Collection<Long> commentIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (commentIds.isEmpty()) {
+            return counts;
+        }
+        List<String> names = commentIds.stream().map(PostCounterService::replyCounter).collect(Collectors.toList());
+        for (PostCounterRepository.CounterTotal counter : counterRepository.sumByPostIdAndNameIn(postId, names)) {
+            counts.put(Long.valueOf(counter.getName().substring("replies:".length())), counter.getTotal());
+        }
+        return counts;
+    }
+
+    public void deleteReplies(Long postId, Long commentId) {
+        counterRepository.deleteByPostIdAndName(postId, replyCounter(commentId));
+    }
+
+    public PostEngagementDTO getEngagement(Long postId) {
+        Map<ReactionType, Long> byType = new EnumMap<>(ReactionType.class);
+        long comments = 0;
+        for (PostCounterRepository.CounterTotal counter : counterRepository.sumByPostId(postId)) {
+            if (COMMENTS.equals(counter.getName())) {
+                comments = counter.getTotal();
+            } else if (counter.getName().startsWith("reaction:")) {
+                byType.put(ReactionType.valueOf(counter.getName().substring("reaction:".length())), counter.getTotal());
+            }
+        }
+        Map<String, Long> reactions = new LinkedHashMap<>();
+        long totalReactions = 0;
+        for (Map.Entry<ReactionType, Long> entry : byType.entrySet()) {
+            if (entry.getValue() > 0) {
+                reactions.put(entry.getKey().name(), entry.getValue());
+                totalReactions += entry.getValue();
+            }
+        }
+        return new PostEngagementDTO(postId, reactions, totalReactions, comments);
+    }
+
+    public void deleteForPost(Long postId) {
+        counterRepository.deleteByPostId(postId);
+    }
+
+    private static String replyCounter(Long commentId) {
+        return "replies:" + commentId;
+    }
+
+    private static String reactionCounter(ReactionType type) {
+        return "reaction:" + type.name();
+    }
+}
@@ -0,0 +1,22 @@
+package com.networkpro.post_service.service;
+
+import com.networkpro.post_service.dto.CursorPage;
+import com.networkpro.post_service.dto.HashtagSuggestionDTO;
+import com.networkpro.post_service.dto.PostSearchResponseDTO;
+import com.networkpro.post_service.dto.PostSummaryDTO;
+import com.networkpro.post_service.model.Post;
+import com.networkpro.post_service.model.TagType;
+
+import java.util.List;
+
+public interface PostSearchService {
+    PostSearchResponseDTO search(String query, int page, int size);
+
+    CursorPage<PostSummaryDTO> findByTag(TagType type, String tag, String cursor, int limit);
+
+    List<HashtagSuggestionDTO> suggestHashtags(String prefix, int limit);
+
+    void onPostSaved(Post post);
+
+    void onPostDeleted(Long postId);
+}
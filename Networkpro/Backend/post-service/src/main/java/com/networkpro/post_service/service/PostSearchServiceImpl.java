@@ -0,0 +1,163 @@
+package com.networkpro.post_service.service;
+
+import com.networkpro.post_service.dto.CursorPage;
+import com.networkpro.post_service.dto.HashtagSuggestionDTO;
+import com.networkpro.post_service.dto.PostSearchResponseDTO;
+import com.networkpro.post_service.dto.PostSearchResultDTO;
+import com.networkpro.post_service.dto.PostSummaryDTO;
+import com.networkpro.post_service.model.Post;
+import com.networkpro.post_service.model.PostTag;
+import com.networkpro.post_service.model.TagType;
+import com.networkpro.post_service.repository.PostRepository;
+import com.networkpro.post_service.repository.PostSearchHit;
+import com.networkpro.post_service.repository.PostTagRepository;
+import com.networkpro.post_service.service.search.HashtagIndex;
+import com.networkpro.post_service.service.search.TagExtractor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class PostSearchServiceImpl implements PostSearchService {
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostTagRepository tagRepository;
+
+    @Autowired
+    private HashtagIndex hashtagIndex;
+
+    @Autowired
+    private AuthorEnricher authorEnricher;
+
+    @Autowired
+    private MediaEnricher mediaEnricher;
+
+    @Value("${post.search.max-candidates:1000}")
+    private int maxCandidates;
+
+    /**
+     * Ranks only the newest {@code post.search.max-candidates} matches, so a broad query costs
+     * one bounded ranking pass per page instead of scoring every matching post; pages past the
+     * candidate window come back empty.
+     */
+    @Override
+    public PostSearchResponseDTO search(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be empty");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNumber = Math.max(0, page);
+        // Fetch one extra row to know whether another page exists without a COUNT query.
+        List<PostSearchHit> hits = postRepository.search(query, maxCandidates, pageSize + 1,
+                (long) pageNumber * pageSize);
+        boolean hasMore = hits.size() > pageSize;
+        List<PostSearchResultDTO> results = hits.stream().limit(pageSize).map(this::toSearchResultDTO)
+                .collect(Collectors.toList());
+        authorEnricher.enrich(results, PostSearchResultDTO::getAuthorId, PostSearchResultDTO::setAuthorProfile);
+        mediaEnricher.enrich(results, PostSearchResultDTO::getId, PostSearchResultDTO::setMedia);
+        return new PostSearchResponseDTO(results, pageNumber, pageSize, hasMore);
+    }
+
+    @Override
+    public CursorPage<PostSummaryDTO> findByTag(TagType type, String tag, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        long beforeId;
+        try {
+            beforeId = cursor == null || cursor.isBlank() ? Long.MAX_VALUE : Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        List<PostSummaryDTO> rows = postRepository.findSummariesByTag(type, TagExtractor.normalize(tag), beforeId,
+                PageRequest.of(0, pageSize + 1));
+        authorEnricher.enrich(rows, PostSummaryDTO::getAuthorId, PostSummaryDTO::setAuthorProfile);
+        mediaEnricher.enrich(rows, PostSummaryDTO::getId, PostSummaryDTO::setMedia);
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+        List<PostSummaryDTO> page = rows.subList(0, pageSize);
+        return new CursorPage<>(page, String.valueOf(page.get(pageSize - 1).getId()));
+    }
+
+    @Override
+    public List<HashtagSuggestionDTO> suggestHashtags(String prefix, int limit) {
+        String normalized = prefix == null ? "" : TagExtractor.normalize(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        return hashtagIndex.suggest(normalized, Math.max(1, Math.min(limit, HashtagIndex.MAX_SUGGESTIONS))).stream()
+                .map(entry -> new HashtagSuggestionDTO(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public void onPostSaved(Post post) {
+        List<String> previousHashtags = removeTags(post.getId());
+        Map<TagType, Set<String>> extracted = TagExtractor.extract(post.getTitle(), post.getContent());
+        List<PostTag> tags = new ArrayList<>();
+        extracted.forEach((type, values) -> values.forEach(value -> tags.add(PostTag.builder()
+                .postId(post.getId()).type(type).tag(value).build())));
+        tagRepository.saveAll(tags);
+        List<String> hashtags = new ArrayList<>(extracted.get(TagType.HASHTAG));
+        afterCommit(() -> {
+            hashtagIndex.removed(previousHashtags);
+            hashtagIndex.added(hashtags);
+        });
+    }
+
+    @Override
+    @Transactional
+    public void onPostDeleted(Long postId) {
+        List<String> previousHashtags = removeTags(postId);
+        afterCommit(() -> hashtagIndex.removed(previousHashtags));
+    }
+
+    private List<String> removeTags(Long postId) {
+        List<String> hashtags = tagRepository.findByPostId(postId).stream()
+                .filter(tag -> tag.getType() == TagType.HASHTAG).map(PostTag::getTag).collect(Collectors.toList());
+        tagRepository.deleteByPostId(postId);
+        return hashtags;
+    }
+
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // The headline is user content; escape it, then turn the match delimiters into <mark> tags.
+    private static String highlightHtml(String headline) {
+        return headline == null ? null
+                : HtmlUtils.htmlEscape(headline).replace("\u0002", "<mark>").replace("\u0003", "</mark>");
+    }
+
+    private PostSearchResultDTO toSearchResultDTO(PostSearchHit hit) {
+        PostSearchResultDTO dto = new PostSearchResultDTO();
+        dto.setId(hit.getId());
+        dto.setTitle(hit.getTitle());
+        dto.setAuthor(hit.getAuthor());
+        dto.setAuthorId(hit.getAuthorId());
+        dto.setCreatedAt(hit.getCreatedAt());
+        dto.setHighlight(highlightHtml(hit.getHighlight()));
+        dto.setRank(hit.getRank() == null ? 0 : hit.getRank());
+        return dto;
+    }
+}
@@ -1,17 +1,24 @@
 package com.networkpro.post_service.service;
 
+import com.networkpro.post_service.dto.CursorPage;
 import com.networkpro.post_service.dto.PostDTO;
+import com.networkpro.post_service.dto.PostSummaryDTO;
 import com.networkpro.post_service.model.Post;
+
 import java.util.List;
 
 public interface PostService {
     Post createPost(PostDTO postDTO);
 
-    List<Post> getAllPosts();
+    CursorPage<PostSummaryDTO> listPosts(Long authorId, String cursor, int limit);
 
     Post getPostById(Long id);
 
     Post updatePost(Long id, PostDTO postDTO);
 
     void deletePost(Long id);
+
+    Post publishPost(Long id);
+
+    List<Post> getDrafts(Long authorId);
 }
\ No newline at end of file
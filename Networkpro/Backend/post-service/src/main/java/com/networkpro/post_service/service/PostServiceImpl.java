@@ -1,50 +1,209 @@
 package com.networkpro.post_service.service;
 
+import com.networkpro.post_service.client.UserDirectoryClient;
+import com.networkpro.post_service.dto.AuthorSummaryDTO;
+import com.networkpro.post_service.dto.CursorPage;
 import com.networkpro.post_service.dto.PostDTO;
+import com.networkpro.post_service.dto.PostSummaryDTO;
 import com.networkpro.post_service.model.Post;
+import com.networkpro.post_service.model.PostStatus;
+import com.networkpro.post_service.repository.CommentRepository;
 import com.networkpro.post_service.repository.PostRepository;
+import com.networkpro.post_service.repository.ReactionRepository;
 import com.networkpro.post_service.exception.PostNotFoundException;
+import com.networkpro.post_service.service.schedule.PostPublisher;
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 
 @Service
 public class PostServiceImpl implements PostService {
+    private static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private FeedService feedService;
+
+    @Autowired
+    private ReactionRepository reactionRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostCounterService counterService;
+
+    @Autowired
+    private PostCache postCache;
+
+    @Autowired
+    private TrendingService trendingService;
+
+    @Autowired
+    private PostSearchService searchService;
+
+    @Autowired
+    private MediaService mediaService;
+
+    @Autowired
+    private AuthorEnricher authorEnricher;
+
+    @Autowired
+    private MediaEnricher mediaEnricher;
+
+    @Autowired
+    private UserDirectoryClient userDirectory;
+
+    @Autowired
+    private PostPublisher postPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     @Override
     public Post createPost(PostDTO postDTO) {
         Post post = new Post();
         post.setTitle(postDTO.getTitle());
         post.setContent(postDTO.getContent());
         post.setAuthor(postDTO.getAuthor());
-        return postRepository.save(post);
+        post.setAuthorId(postDTO.getAuthorId());
+        if (post.getAuthorId() != null && (post.getAuthor() == null || post.getAuthor().isBlank())) {
+            // author is kept only as a display name; fill it from the profile when omitted. Looked up
+            // before the transaction so a slow user-service does not hold a database connection.
+            AuthorSummaryDTO profile = userDirectory.getSummaries(List.of(post.getAuthorId())).get(post.getAuthorId());
+            post.setAuthor(profile != null ? profile.getFullName() : null);
+        }
+        Post saved = transactionTemplate.execute(status -> save(post, postDTO));
+        saved.setMedia(mediaService.getPostMedia(saved.getId()));
+        return saved;
+    }
+
+    private Post save(Post post, PostDTO postDTO) {
+        if (Boolean.TRUE.equals(postDTO.getDraft())) {
+            post.setStatus(PostStatus.DRAFT);
+        } else if (postDTO.getPublishAt() != null && postDTO.getPublishAt().isAfter(LocalDateTime.now())) {
+            post.setStatus(PostStatus.SCHEDULED);
+            post.setPublishAt(postDTO.getPublishAt());
+        }
+        Post saved = postRepository.save(post);
+        mediaService.attachToPost(postDTO.getMediaIds(), saved.getId(), saved.getAuthorId());
+        if (saved.getStatus() == PostStatus.PUBLISHED) {
+            searchService.onPostSaved(saved);
+            feedService.onPostCreated(saved);
+        } else if (saved.getStatus() == PostStatus.SCHEDULED) {
+            postPublisher.schedule(saved.getId(), saved.getPublishAt());
+        }
+        return saved;
     }
 
     @Override
-    public List<Post> getAllPosts() {
-        return postRepository.findAll();
+    public CursorPage<PostSummaryDTO> listPosts(Long authorId, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        PageRequest firstRows = PageRequest.of(0, pageSize + 1);
+        PostCursor after = cursor == null || cursor.isBlank() ? null : PostCursor.decode(cursor);
+        List<PostSummaryDTO> rows;
+        if (authorId != null) {
+            rows = after == null
+                    ? postRepository.findLatestSummariesByAuthor(authorId, firstRows)
+                    : postRepository.findSummariesByAuthorBefore(authorId, after.getCreatedAt(), after.getId(),
+                            firstRows);
+        } else {
+            rows = after == null
+                    ? postRepository.findLatestSummaries(firstRows)
+                    : postRepository.findSummariesBefore(after.getCreatedAt(), after.getId(), firstRows);
+        }
+        authorEnricher.enrich(rows, PostSummaryDTO::getAuthorId, PostSummaryDTO::setAuthorProfile);
+        mediaEnricher.enrich(rows, PostSummaryDTO::getId, PostSummaryDTO::setMedia);
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+        List<PostSummaryDTO> page = rows.subList(0, pageSize);
+        PostSummaryDTO last = page.get(pageSize - 1);
+        return new CursorPage<>(page, PostCursor.encode(last.getCreatedAt(), last.getId()));
     }
 
     @Override
     public Post getPostById(Long id) {
-        return postRepository.findById(id)
+        // Drafts and scheduled posts are only visible to their author through getDrafts.
+        Post cached = postCache.get(id)
+                .filter(post -> post.getStatus() == PostStatus.PUBLISHED)
                 .orElseThrow(() -> new PostNotFoundException("Post not found with id: " + id));
+        // Media is set on a copy: the cached instance is shared, and renditions finish after it is cached.
+        Post post = new Post();
+        BeanUtils.copyProperties(cached, post);
+        post.setMedia(mediaService.getPostMedia(id));
+        return post;
     }
 
     @Override
     public Post updatePost(Long id, PostDTO postDTO) {
-        Post post = getPostById(id);
+        // Never modify the shared cached instance; update a freshly loaded row instead.
+        Post post = postRepository.findById(id)
+                .orElseThrow(() -> new PostNotFoundException("Post not found with id: " + id));
+        // The author is fixed at creation; an update never moves a post to another author.
         post.setTitle(postDTO.getTitle());
         post.setContent(postDTO.getContent());
-        post.setAuthor(postDTO.getAuthor());
-        return postRepository.save(post);
+        if (post.getStatus() != PostStatus.PUBLISHED) {
+            // Unpublished posts can be moved between draft and scheduled; going live is publishPost.
+            if (Boolean.TRUE.equals(postDTO.getDraft())) {
+                post.setStatus(PostStatus.DRAFT);
+                post.setPublishAt(null);
+            } else if (postDTO.getPublishAt() != null) {
+                if (!postDTO.getPublishAt().isAfter(LocalDateTime.now())) {
+                    throw new IllegalArgumentException("publishAt must be in the future");
+                }
+                post.setStatus(PostStatus.SCHEDULED);
+                post.setPublishAt(postDTO.getPublishAt());
+            }
+        }
+        Post saved = postRepository.save(post);
+        if (saved.getStatus() == PostStatus.PUBLISHED) {
+            searchService.onPostSaved(saved);
+        } else if (saved.getStatus() == PostStatus.SCHEDULED) {
+            postPublisher.schedule(saved.getId(), saved.getPublishAt());
+        }
+        postCache.invalidate(id);
+        saved.setMedia(mediaService.getPostMedia(id));
+        return saved;
     }
 
     @Override
+    @Transactional
     public void deletePost(Long id) {
+        reactionRepository.deleteByPostId(id);
+        commentRepository.deleteByPostId(id);
+        counterService.deleteForPost(id);
+        searchService.onPostDeleted(id);
+        mediaService.onPostDeleted(id);
         postRepository.deleteById(id);
+        postCache.invalidate(id);
+        feedService.onPostDeleted(id);
+        trendingService.onPostDeleted(id);
+    }
+
+    @Override
+    public Post publishPost(Long id) {
+        if (!postPublisher.publishNow(id)) {
+            Post post = postRepository.findById(id)
+                    .orElseThrow(() -> new PostNotFoundException("Post not found with id: " + id));
+            if (post.getStatus() != PostStatus.PUBLISHED) {
+                throw new IllegalStateException("Post " + id + " could not be published");
+            }
+        }
+        return getPostById(id);
+    }
+
+    @Override
+    public List<Post> getDrafts(Long authorId) {
+        return mediaEnricher.enrich(postRepository.findByAuthorIdAndStatusInOrderByIdDesc(authorId,
+                List.of(PostStatus.DRAFT, PostStatus.SCHEDULED)), Post::getId, Post::setMedia);
     }
 }
\ No newline at end of file
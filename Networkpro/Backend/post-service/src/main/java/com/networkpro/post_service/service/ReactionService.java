@@ -0,0 +1,12 @@
+package com.networkpro.post_service.service;
+
+import com.networkpro.post_service.dto.PostEngagementDTO;
+import com.networkpro.post_service.dto.ReactionRequestDTO;
+
+public interface ReactionService {
+    PostEngagementDTO react(Long postId, ReactionRequestDTO request);
+
+    void removeReaction(Long postId, Long userId);
+
+    PostEngagementDTO getEngagement(Long postId);
+}
@@ -0,0 +1,74 @@
+package com.networkpro.post_service.service;
+
+import com.networkpro.post_service.dto.PostEngagementDTO;
+import com.networkpro.post_service.dto.ReactionRequestDTO;
+import com.networkpro.post_service.exception.PostNotFoundException;
+import com.networkpro.post_service.model.PostStatus;
+import com.networkpro.post_service.model.Reaction;
+import com.networkpro.post_service.repository.PostRepository;
+import com.networkpro.post_service.repository.ReactionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Service
+public class ReactionServiceImpl implements ReactionService {
+    @Autowired
+    private ReactionRepository reactionRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostCounterService counterService;
+
+    @Autowired
+    private TrendingService trendingService;
+
+    @Override
+    @Transactional
+    public PostEngagementDTO react(Long postId, ReactionRequestDTO request) {
+        if (request.getUserId() == null || request.getType() == null) {
+            throw new IllegalArgumentException("userId and type are required");
+        }
+        if (!postRepository.existsByIdAndStatus(postId, PostStatus.PUBLISHED)) {
+            throw new PostNotFoundException("Post not found with id: " + postId);
+        }
+        // Insert-if-absent: a concurrent duplicate first reaction inserts nothing and falls
+        // through to the existing row instead of failing on the unique key.
+        if (reactionRepository.insertIfAbsent(postId, request.getUserId(), request.getType().name(),
+                LocalDateTime.now()) == 1) {
+            counterService.addReaction(postId, request.getType(), 1);
+            trendingService.recordReaction(postId);
+            return counterService.getEngagement(postId);
+        }
+        Optional<Reaction> existing = reactionRepository.findByPostIdAndUserId(postId, request.getUserId());
+        if (existing.isPresent() && existing.get().getType() != request.getType()) {
+            // Guarded update: only the request that actually changed the row moves the counts.
+            if (reactionRepository.changeType(postId, request.getUserId(), existing.get().getType(),
+                    request.getType()) == 1) {
+                counterService.addReaction(postId, existing.get().getType(), -1);
+                counterService.addReaction(postId, request.getType(), 1);
+            }
+        }
+        return counterService.getEngagement(postId);
+    }
+
+    @Override
+    @Transactional
+    public void removeReaction(Long postId, Long userId) {
+        reactionRepository.findByPostIdAndUserId(postId, userId).ifPresent(reaction -> {
+            if (reactionRepository.deleteReaction(postId, userId, reaction.getType()) == 1) {
+                counterService.addReaction(postId, reaction.getType(), -1);
+            }
+        });
+    }
+
+    @Override
+    public PostEngagementDTO getEngagement(Long postId) {
+        return counterService.getEngagement(postId);
+    }
+}
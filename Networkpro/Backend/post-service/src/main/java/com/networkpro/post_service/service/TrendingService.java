@@ -0,0 +1,15 @@
+package com.networkpro.post_service.service;
+
+import com.networkpro.post_service.dto.TrendingPostDTO;
+
+import java.util.List;
+
+public interface TrendingService {
+    List<TrendingPostDTO> getTrending(int limit);
+
+    void recordReaction(Long postId);
+
+    void recordComment(Long postId);
+
+    void onPostDeleted(Long postId);
+}
@@ -0,0 +1,204 @@
+package com.networkpro.post_service.service;
+
+import com.networkpro.post_service.dto.TrendingPostDTO;
+import com.networkpro.post_service.model.Post;
+import com.networkpro.post_service.model.PostStatus;
+import com.networkpro.post_service.service.trending.CountMinSketch;
+import com.networkpro.post_service.service.trending.DecayedTopK;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Trending posts ranked by exponentially decayed engagement. Scores use forward decay: an event
+ * at time t adds {@code weight * e^(lambda * (t - landmark))}, so stored scores never need to be
+ * decayed and only grow; the current score is the stored one times
+ * {@code e^(-lambda * (now - landmark))}. The landmark is moved forward, rescaling everything
+ * once, before the exponent gets large. State is checkpointed to disk and reloaded on start.
+ */
+@Slf4j
+@Service
+public class TrendingServiceImpl implements TrendingService {
+    private static final int CHECKPOINT_MAGIC = 0x54524E44; // "TRND"
+    private static final int MAX_EXPONENT = 40;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private PostCache postCache;
+
+    @Autowired
+    private AuthorEnricher authorEnricher;
+
+    @Autowired
+    private MediaEnricher mediaEnricher;
+
+    @Value("${trending.half-life-hours:6}")
+    private double halfLifeHours;
+
+    @Value("${trending.capacity:1000}")
+    private int capacity;
+
+    @Value("${trending.sketch.depth:4}")
+    private int sketchDepth;
+
+    @Value("${trending.sketch.width:65536}")
+    private int sketchWidth;
+
+    @Value("${trending.weight.reaction:1.0}")
+    private double reactionWeight;
+
+    @Value("${trending.weight.comment:3.0}")
+    private double commentWeight;
+
+    @Value("${trending.checkpoint-file:data/trending.checkpoint}")
+    private String checkpointFile;
+
+    private double lambda;
+    private long landmarkMillis;
+    private DecayedTopK topK;
+
+    @PostConstruct
+    public void start() {
+        lambda = Math.log(2) / (halfLifeHours * 3_600_000d);
+        landmarkMillis = System.currentTimeMillis();
+        topK = new DecayedTopK(capacity, new CountMinSketch(sketchDepth, sketchWidth));
+        Path path = Paths.get(checkpointFile);
+        if (Files.exists(path)) {
+            try (InputStream file = Files.newInputStream(path);
+                    DataInputStream in = new DataInputStream(new BufferedInputStream(file))) {
+                if (in.readInt() == CHECKPOINT_MAGIC) {
+                    landmarkMillis = in.readLong();
+                    if (topK.readFrom(in)) {
+                        log.info("Loaded trending checkpoint from {}", path);
+                    } else {
+                        // Sketch dimensions changed since the checkpoint: the ranked posts are kept
+                        // and the freshly built sketch is left empty.
+                        log.warn("Trending checkpoint {} has a different sketch size; starting with an empty sketch",
+                                path);
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("Ignoring unreadable trending checkpoint {}", path, e);
+                landmarkMillis = System.currentTimeMillis();
+                topK = new DecayedTopK(capacity, new CountMinSketch(sketchDepth, sketchWidth));
+            }
+        }
+    }
+
+    @Override
+    public List<TrendingPostDTO> getTrending(int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<DecayedTopK.Entry> top;
+        double decay;
+        synchronized (this) {
+            // Over-fetch a little so posts deleted or unpublished since they were scored can be skipped.
+            top = topK.top(pageSize * 2);
+            decay = Math.exp(-lambda * (System.currentTimeMillis() - landmarkMillis));
+        }
+        List<TrendingPostDTO> trending = new ArrayList<>(pageSize);
+        for (DecayedTopK.Entry entry : top) {
+            Optional<Post> post = postCache.get(entry.getPostId())
+                    .filter(found -> found.getStatus() == PostStatus.PUBLISHED);
+            if (post.isPresent()) {
+                trending.add(new TrendingPostDTO(entry.getPostId(), post.get().getTitle(), post.get().getAuthor(),
+                        post.get().getAuthorId(), entry.getScore() * decay, null, null));
+            }
+            if (trending.size() == pageSize) {
+                break;
+            }
+        }
+        authorEnricher.enrich(trending, TrendingPostDTO::getAuthorId, TrendingPostDTO::setAuthorProfile);
+        return mediaEnricher.enrich(trending, TrendingPostDTO::getPostId, TrendingPostDTO::setMedia);
+    }
+
+    @Override
+    public void recordReaction(Long postId) {
+        recordAfterCommit(postId, reactionWeight);
+    }
+
+    @Override
+    public void recordComment(Long postId) {
+        recordAfterCommit(postId, commentWeight);
+    }
+
+    @Override
+    public synchronized void onPostDeleted(Long postId) {
+        topK.remove(postId);
+    }
+
+    /**
+     * Engagement is recorded from inside the reaction and comment transactions; scoring it only
+     * once they commit keeps rolled-back writes out of the ranking.
+     */
+    private void recordAfterCommit(Long postId, double weight) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(postId, weight);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(postId, weight);
+            }
+        });
+    }
+
+    private synchronized void record(Long postId, double weight) {
+        long now = System.currentTimeMillis();
+        double exponent = lambda * (now - landmarkMillis);
+        if (exponent > MAX_EXPONENT) {
+            topK.scale(Math.exp(-exponent));
+            landmarkMillis = now;
+            exponent = 0;
+        }
+        topK.add(postId, weight * Math.exp(exponent));
+    }
+
+    @Scheduled(fixedDelayString = "${trending.checkpoint-interval-ms:60000}")
+    public void checkpoint() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            synchronized (this) {
+                out.writeInt(CHECKPOINT_MAGIC);
+                out.writeLong(landmarkMillis);
+                topK.writeTo(out);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        Path path = Paths.get(checkpointFile).toAbsolutePath();
+        try {
+            Files.createDirectories(path.getParent());
+            Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+            Files.write(tmp, bytes.toByteArray());
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Failed to write trending checkpoint {}", path, e);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        checkpoint();
+    }
+}
@@ -0,0 +1,55 @@
+package com.networkpro.post_service.service.feed;
+
+import com.networkpro.post_service.model.Post;
+
+import java.time.ZoneId;
+import java.util.Comparator;
+
+/** A post reference in a precomputed feed, ordered newest first. */
+public final class FeedEntry {
+    public static final Comparator<FeedEntry> NEWEST_FIRST = Comparator
+            .comparingLong(FeedEntry::getCreatedAtMillis).reversed()
+            .thenComparing(Comparator.comparingLong(FeedEntry::getPostId).reversed());
+
+    private final long postId;
+    private final long authorId;
+    private final long createdAtMillis;
+
+    public FeedEntry(long postId, long authorId, long createdAtMillis) {
+        this.postId = postId;
+        this.authorId = authorId;
+        this.createdAtMillis = createdAtMillis;
+    }
+
+    public static FeedEntry of(Post post) {
+        return new FeedEntry(post.getId(), post.getAuthorId(),
+                post.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    /** Parses a cursor produced by {@link #toCursor()}; the entry acts as an exclusive lower bound. */
+    public static FeedEntry fromCursor(String cursor) {
+        int separator = cursor.indexOf('_');
+        try {
+            return new FeedEntry(Long.parseLong(cursor.substring(separator + 1)), 0,
+                    Long.parseLong(cursor.substring(0, separator)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid feed cursor: " + cursor);
+        }
+    }
+
+    public String toCursor() {
+        return createdAtMillis + "_" + postId;
+    }
+
+    public long getPostId() {
+        return postId;
+    }
+
+    public long getAuthorId() {
+        return authorId;
+    }
+
+    public long getCreatedAtMillis() {
+        return createdAtMillis;
+    }
+}
@@ -0,0 +1,38 @@
+package com.networkpro.post_service.service.feed;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/** Bounded, newest-first list of feed entries; the oldest entries fall off when it is full. */
+public class FeedTimeline {
+    private final TreeSet<FeedEntry> entries = new TreeSet<>(FeedEntry.NEWEST_FIRST);
+    private final int capacity;
+
+    public FeedTimeline(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public synchronized void add(FeedEntry entry) {
+        entries.add(entry);
+        while (entries.size() > capacity) {
+            entries.pollLast();
+        }
+    }
+
+    public synchronized void removePost(long postId) {
+        entries.removeIf(entry -> entry.getPostId() == postId);
+    }
+
+    /** Up to {@code limit} entries strictly after {@code cursor}, or from the top when it is null. */
+    public synchronized List<FeedEntry> page(FeedEntry cursor, int limit) {
+        List<FeedEntry> page = new ArrayList<>(limit);
+        for (FeedEntry entry : cursor == null ? entries : entries.tailSet(cursor, false)) {
+            if (page.size() == limit) {
+                break;
+            }
+            page.add(entry);
+        }
+        return page;
+    }
+}
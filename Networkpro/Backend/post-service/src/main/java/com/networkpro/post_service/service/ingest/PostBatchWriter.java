@@ -0,0 +1,91 @@
+package com.networkpro.post_service.service.ingest;
+
+import com.networkpro.post_service.dto.PostImportDTO;
+import com.networkpro.post_service.model.TagType;
+import com.networkpro.post_service.service.search.TagExtractor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inserts posts and their tags in JDBC batches. Ids are drawn from the posts identity sequence
+ * in one round trip up front, so tag rows can be written in the same batch pass without reading
+ * generated keys back. With {@code reWriteBatchedInserts} each batch becomes multi-row INSERTs.
+ * Must run inside a transaction.
+ */
+@Component
+public class PostBatchWriter {
+    static final String ALLOCATE_IDS_SQL =
+            "SELECT nextval(pg_get_serial_sequence('posts', 'id')) FROM generate_series(1, ?)";
+    static final String INSERT_POST_SQL = "INSERT INTO posts (id, title, content, author, author_id, created_at, "
+            + "updated_at, status) VALUES (?, ?, ?, ?, ?, ?, ?, 'PUBLISHED')";
+    static final String INSERT_TAG_SQL = "INSERT INTO post_tags (post_id, type, tag) VALUES (?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /** Returns the new post ids and the hashtags written, one entry per tagged post, for the autocomplete index. */
+    public Inserted insert(List<PostImportDTO> posts) {
+        List<Long> ids = jdbcTemplate.queryForList(ALLOCATE_IDS_SQL, Long.class, posts.size());
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_POST_SQL, posts, posts.size(), new PostSetter(ids, now));
+
+        List<Object[]> tagRows = new ArrayList<>();
+        List<String> hashtags = new ArrayList<>();
+        for (int i = 0; i < posts.size(); i++) {
+            PostImportDTO post = posts.get(i);
+            Map<TagType, Set<String>> tags = TagExtractor.extract(post.getTitle(), post.getContent());
+            for (Map.Entry<TagType, Set<String>> entry : tags.entrySet()) {
+                for (String tag : entry.getValue()) {
+                    tagRows.add(new Object[] {ids.get(i), entry.getKey().name(), tag});
+                }
+            }
+            hashtags.addAll(tags.get(TagType.HASHTAG));
+        }
+        if (!tagRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_TAG_SQL, tagRows);
+        }
+        return new Inserted(ids, hashtags);
+    }
+
+    public record Inserted(List<Long> ids, List<String> hashtags) {
+    }
+
+    private static final class PostSetter implements ParameterizedPreparedStatementSetter<PostImportDTO> {
+        private final List<Long> ids;
+        private final LocalDateTime now;
+        private int next;
+
+        private PostSetter(List<Long> ids, LocalDateTime now) {
+            this.ids = ids;
+            this.now = now;
+        }
+
+        @Override
+        public void setValues(PreparedStatement ps, PostImportDTO post) throws SQLException {
+            Timestamp createdAt = Timestamp.valueOf(post.getCreatedAt() != null ? post.getCreatedAt() : now);
+            ps.setLong(1, ids.get(next++));
+            ps.setString(2, post.getTitle());
+            ps.setString(3, post.getContent());
+            ps.setString(4, post.getAuthor());
+            if (post.getAuthorId() == null) {
+                ps.setNull(5, Types.BIGINT);
+            } else {
+                ps.setLong(5, post.getAuthorId());
+            }
+            ps.setTimestamp(6, createdAt);
+            ps.setTimestamp(7, createdAt);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.networkpro.post_service.service.ingest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.networkpro.post_service.dto.BulkImportResultDTO;
+import com.networkpro.post_service.dto.ImportErrorDTO;
+import com.networkpro.post_service.dto.PostImportDTO;
+import com.networkpro.post_service.service.PostCache;
+import com.networkpro.post_service.service.search.HashtagIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams an NDJSON body of posts into the database. Each line is parsed on its own so one
+ * malformed line is reported without losing the rest; valid posts are written by
+ * {@link PostBatchWriter} in chunks of {@code post.import.chunk-size}, one transaction per
+ * chunk. Only the current chunk is held in memory, and a line longer than
+ * {@code post.import.max-line-length} characters is skipped unread rather than buffered.
+ */
+@Slf4j
+@Service
+public class PostImporter {
+    private static final int MAX_TITLE_LENGTH = 255;
+
+    @Autowired
+    private PostBatchWriter batchWriter;
+
+    @Autowired
+    private HashtagIndex hashtagIndex;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PostCache postCache;
+
+    private final ObjectReader lineReader;
+
+    @Value("${post.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${post.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    @Value("${post.import.max-line-length:1048576}")
+    private int maxLineLength;
+
+    public PostImporter(ObjectMapper objectMapper) {
+        this.lineReader = objectMapper.readerFor(PostImportDTO.class);
+    }
+
+    public BulkImportResultDTO importNdjson(InputStream body) {
+        Result result = new Result();
+        List<PostImportDTO> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkLines = new ArrayList<>(chunkSize);
+        try (LineReader reader = new LineReader(new InputStreamReader(body, StandardCharsets.UTF_8), maxLineLength)) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (reader.overflowed()) {
+                    result.reject(lineNumber, "Line is longer than " + maxLineLength + " characters");
+                    continue;
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+                PostImportDTO post;
+                try {
+                    post = lineReader.readValue(line);
+                } catch (JsonProcessingException e) {
+                    result.reject(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+                    continue;
+                }
+                String problem = validate(post);
+                if (problem != null) {
+                    result.reject(lineNumber, problem);
+                    continue;
+                }
+                chunk.add(post);
+                chunkLines.add(lineNumber);
+                if (chunk.size() == chunkSize) {
+                    flush(chunk, chunkLines, result);
+                }
+            }
+        } catch (IOException e) {
+            // Chunks already flushed stay committed; the client can resume from the reported count.
+            throw new UncheckedIOException("Failed to read import body after " + result.accepted + " posts", e);
+        }
+        flush(chunk, chunkLines, result);
+        return new BulkImportResultDTO(result.accepted, result.rejected, result.errors, result.truncated);
+    }
+
+    private void flush(List<PostImportDTO> chunk, List<Long> chunkLines, Result result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            PostBatchWriter.Inserted inserted = transactionTemplate.execute(status -> batchWriter.insert(chunk));
+            inserted.ids().forEach(postCache::invalidate);
+            hashtagIndex.added(inserted.hashtags());
+            result.accepted += chunk.size();
+        } catch (DataAccessException e) {
+            String cause = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            log.warn("Bulk import chunk of {} posts failed", chunk.size(), e);
+            chunkLines.forEach(line -> result.reject(line, "Batch insert failed: " + cause));
+        }
+        chunk.clear();
+        chunkLines.clear();
+    }
+
+    private static String validate(PostImportDTO post) {
+        if (post == null) {
+            return "Line is not a JSON object";
+        }
+        if (post.getContent() == null || post.getContent().isBlank()) {
+            return "content is required";
+        }
+        if (post.getAuthorId() == null && (post.getAuthor() == null || post.getAuthor().isBlank())) {
+            return "authorId or author is required";
+        }
+        if (post.getTitle() != null && post.getTitle().length() > MAX_TITLE_LENGTH) {
+            return "title is longer than " + MAX_TITLE_LENGTH + " characters";
+        }
+        if (post.getAuthor() != null && post.getAuthor().length() > MAX_TITLE_LENGTH) {
+            return "author is longer than " + MAX_TITLE_LENGTH + " characters";
+        }
+        return null;
+    }
+
+    /** Lines split on LF, with a trailing CR dropped; characters past the cap are discarded as read. */
+    private static final class LineReader implements AutoCloseable {
+        private final Reader reader;
+        private final int maxLength;
+        private final char[] buffer = new char[64 * 1024];
+        private final StringBuilder line = new StringBuilder();
+        private int buffered;
+        private int next;
+        private boolean overflowed;
+
+        private LineReader(Reader reader, int maxLength) {
+            this.reader = reader;
+            this.maxLength = maxLength;
+        }
+
+        private String readLine() throws IOException {
+            line.setLength(0);
+            overflowed = false;
+            boolean any = false;
+            while (true) {
+                if (next == buffered) {
+                    buffered = reader.read(buffer);
+                    next = 0;
+                    if (buffered == -1) {
+                        buffered = 0;
+                        return any ? finish() : null;
+                    }
+                }
+                any = true;
+                int start = next;
+                while (next < buffered && buffer[next] != '\n') {
+                    next++;
+                }
+                append(start, next);
+                if (next < buffered) {
+                    next++;
+                    return finish();
+                }
+            }
+        }
+
+        private void append(int start, int end) {
+            int room = maxLength + 1 - line.length(); // one past the cap, to tell a CR from an overflow
+            if (end - start > room) {
+                overflowed = true;
+                end = start + Math.max(room, 0);
+            }
+            line.append(buffer, start, end - start);
+        }
+
+        private String finish() {
+            if (!line.isEmpty() && line.charAt(line.length() - 1) == '\r') {
+                line.setLength(line.length() - 1);
+            }
+            overflowed |= line.length() > maxLength;
+            return overflowed ? "" : line.toString();
+        }
+
+        private boolean overflowed() {
+            return overflowed;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    private final class Result {
+        private long accepted;
+        private long rejected;
+        private boolean truncated;
+        private final List<ImportErrorDTO> errors = new ArrayList<>();
+
+        private void reject(long line, String message) {
+            rejected++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ImportErrorDTO(line, message));
+            } else {
+                truncated = true;
+            }
+        }
+    }
+}
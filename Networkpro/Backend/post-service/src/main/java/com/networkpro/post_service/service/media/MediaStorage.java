@@ -0,0 +1,152 @@
+package com.networkpro.post_service.service.media;
+
+import com.networkpro.post_service.model.MediaBlob;
+import com.networkpro.post_service.repository.MediaBlobRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Content-addressed file store. Files are streamed to a temporary file while their SHA-256 is
+ * computed, then moved to {@code blobs/ab/cd/<sha256>}; identical content is stored once. Each
+ * stored file is registered as a {@link MediaBlob}. Moves, registrations and deletes share one
+ * lock, so a sweep never deletes a file that an upload has just reused.
+ */
+@Component
+public class MediaStorage {
+    private static final int COPY_BUFFER = 64 * 1024;
+
+    private final Path root;
+    private final Object blobLock = new Object();
+
+    @Autowired
+    private MediaBlobRepository blobRepository;
+
+    public MediaStorage(@Value("${post.media.dir:data/media}") String dir) {
+        this.root = Paths.get(dir).toAbsolutePath();
+    }
+
+    public StoredFile store(InputStream in, long maxBytes, String contentType) throws IOException {
+        Path tmp = newTempFile();
+        try {
+            MessageDigest digest = sha256();
+            long size = 0;
+            try (OutputStream out = new DigestOutputStream(Files.newOutputStream(tmp), digest)) {
+                byte[] buffer = new byte[COPY_BUFFER];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxBytes) {
+                        throw new IllegalArgumentException("Media exceeds the maximum size of " + maxBytes + " bytes");
+                    }
+                    out.write(buffer, 0, read);
+                }
+            }
+            if (size == 0) {
+                throw new IllegalArgumentException("Media upload is empty");
+            }
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            moveIntoPlace(tmp, sha256, contentType, size);
+            return new StoredFile(sha256, size);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /** Stores a file that was written to a path from {@link #newTempFile()}; the temporary file is consumed. */
+    public StoredFile storeFile(Path tmp, String contentType) throws IOException {
+        try {
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(Files.newInputStream(tmp), digest)) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            long size = Files.size(tmp);
+            moveIntoPlace(tmp, sha256, contentType, size);
+            return new StoredFile(sha256, size);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    public Path newTempFile() throws IOException {
+        Path dir = root.resolve("tmp");
+        Files.createDirectories(dir);
+        return dir.resolve(UUID.randomUUID() + ".tmp");
+    }
+
+    public Path path(String sha256) {
+        return root.resolve("blobs").resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4)).resolve(sha256);
+    }
+
+    /**
+     * Deletes a blob that has not been stored since {@code before} and that no media references.
+     * Returns false if it is still in use.
+     */
+    public boolean deleteIfUnused(String sha256, LocalDateTime before) throws IOException {
+        synchronized (blobLock) {
+            if (blobRepository.deleteIfUnused(sha256, before) == 0) {
+                return false;
+            }
+            Files.deleteIfExists(path(sha256));
+            return true;
+        }
+    }
+
+    private void moveIntoPlace(Path tmp, String sha256, String contentType, long size) throws IOException {
+        Path blob = path(sha256);
+        synchronized (blobLock) {
+            if (!Files.exists(blob)) {
+                Files.createDirectories(blob.getParent());
+                try {
+                    Files.move(tmp, blob, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    // Same content stored concurrently by another node.
+                }
+            }
+            blobRepository.register(sha256, contentType, size, LocalDateTime.now());
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static final class StoredFile {
+        private final String sha256;
+        private final long size;
+
+        private StoredFile(String sha256, long size) {
+            this.sha256 = sha256;
+            this.size = size;
+        }
+
+        public String getSha256() {
+            return sha256;
+        }
+
+        public long getSize() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.networkpro.post_service.service.media;
+
+import com.networkpro.post_service.model.MediaKind;
+import com.networkpro.post_service.model.MediaStatus;
+import com.networkpro.post_service.model.PostMedia;
+import com.networkpro.post_service.repository.PostMediaRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates JPEG thumbnail and preview renditions for uploaded images on a bounded pool with one
+ * thread per CPU. Images are decoded with source subsampling so a very large original is never
+ * fully materialised on the heap. Work that does not fit in the queue is left in
+ * {@link MediaStatus#PROCESSING} and picked up again by the periodic requeue.
+ */
+@Slf4j
+@Component
+public class RenditionWorker {
+    @Autowired
+    private PostMediaRepository mediaRepository;
+
+    @Autowired
+    private MediaStorage storage;
+
+    @Value("${post.media.thumbnail-edge:320}")
+    private int thumbnailEdge;
+
+    @Value("${post.media.preview-edge:1280}")
+    private int previewEdge;
+
+    @Value("${post.media.max-pixels:100000000}")
+    private long maxPixels;
+
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor executor;
+
+    public RenditionWorker(@Value("${post.media.queue-capacity:1000}") int queueCapacity) {
+        int threads = Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread thread = new Thread(r, "media-rendition-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /** Queues rendition work; returns false if the media is already queued or the queue is full. */
+    public boolean submit(Long mediaId) {
+        if (!inFlight.add(mediaId)) {
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    process(mediaId);
+                } finally {
+                    inFlight.remove(mediaId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(mediaId);
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    private void process(Long mediaId) {
+        PostMedia media = mediaRepository.findById(mediaId).orElse(null);
+        if (media == null || media.getStatus() != MediaStatus.PROCESSING) {
+            return;
+        }
+        if (media.getKind() == MediaKind.VIDEO) {
+            // No pure-Java video decoder is available; videos are served as uploaded.
+            media.setStatus(MediaStatus.READY);
+        } else {
+            try {
+                renderImage(media);
+                media.setStatus(MediaStatus.READY);
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to render media {}", mediaId, e);
+                media.setStatus(MediaStatus.FAILED);
+            }
+        }
+        mediaRepository.completeProcessing(mediaId, media.getStatus(), media.getWidth(), media.getHeight(),
+                media.getThumbnailSha256(), media.getPreviewSha256());
+    }
+
+    private void renderImage(PostMedia media) throws IOException {
+        BufferedImage decoded;
+        try (ImageInputStream in = ImageIO.createImageInputStream(storage.path(media.getSha256()).toFile())) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("Unsupported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new IOException("Image is " + width + "x" + height + ", above the pixel limit");
+                }
+                media.setWidth(width);
+                media.setHeight(height);
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width, height) / (previewEdge * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                decoded = reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+        BufferedImage preview = scale(decoded, previewEdge);
+        media.setPreviewSha256(storeJpeg(preview));
+        media.setThumbnailSha256(storeJpeg(scale(preview, thumbnailEdge)));
+    }
+
+    // Halves repeatedly with bilinear filtering, then draws at the exact size: close to area
+    // averaging in quality for a fraction of the cost. Output is opaque RGB for JPEG.
+    private static BufferedImage scale(BufferedImage source, int maxEdge) {
+        double ratio = Math.min(1.0, (double) maxEdge / Math.max(source.getWidth(), source.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, width, height);
+                g.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private String storeJpeg(BufferedImage image) throws IOException {
+        Path tmp = storage.newTempFile();
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(tmp.toFile())) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(0.85f);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return storage.storeFile(tmp, "image/jpeg").getSha256();
+    }
+}
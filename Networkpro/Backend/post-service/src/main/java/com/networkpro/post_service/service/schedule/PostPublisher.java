@@ -0,0 +1,216 @@
+package com.networkpro.post_service.service.schedule;
+
+import com.networkpro.post_service.model.Post;
+import com.networkpro.post_service.repository.PostRepository;
+import com.networkpro.post_service.service.FeedService;
+import com.networkpro.post_service.service.PostCache;
+import com.networkpro.post_service.service.PostSearchService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes scheduled posts when they come due. Upcoming publish times are held in a
+ * {@link TimingWheel} driven by a one-second in-memory tick; the database is only read to load
+ * the next {@code post.publisher.window-hours} of schedule, once at start-up and again every
+ * half window, with a short backoff after a failed load. Posts scheduled inside the loaded
+ * window are added to the wheel directly.
+ * Publishing is a guarded UPDATE ... RETURNING, so with several nodes each post is published,
+ * and fanned out, exactly once.
+ */
+@Slf4j
+@Component
+public class PostPublisher {
+    private static final int PUBLISH_BATCH = 500;
+    private static final long RETRY_DELAY_MS = 5000;
+    private static final long MAX_LOAD_RETRY_DELAY_MS = 300_000;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private FeedService feedService;
+
+    @Autowired
+    private PostSearchService searchService;
+
+    @Autowired
+    private PostCache postCache;
+
+    @Value("${post.publisher.tick-ms:1000}")
+    private long tickMs;
+
+    @Value("${post.publisher.window-hours:24}")
+    private long windowHours;
+
+    @Value("${post.publisher.load-batch-size:1000}")
+    private int loadBatchSize;
+
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "post-publisher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private TimingWheel<Long> wheel;
+    private LocalDateTime loadedUntil = EPOCH;
+    private int loadFailures; // only touched on the ticker thread
+
+    @PostConstruct
+    public void start() {
+        wheel = new TimingWheel<>(tickMs, 64, 3, System.currentTimeMillis());
+        if (TimeUnit.HOURS.toMillis(windowHours) >= wheel.spanMs()) {
+            throw new IllegalStateException("post.publisher.window-hours must be below the timing wheel span of "
+                    + TimeUnit.MILLISECONDS.toHours(wheel.spanMs()) + " hours");
+        }
+        long halfWindowMs = TimeUnit.HOURS.toMillis(windowHours) / 2;
+        ticker.scheduleWithFixedDelay(this::loadWindow, 0, halfWindowMs, TimeUnit.MILLISECONDS);
+        ticker.scheduleAtFixedRate(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        ticker.shutdownNow();
+    }
+
+    /** Registers a scheduled post; call after the row is written. Takes effect after commit when in a transaction. */
+    public void schedule(Long postId, LocalDateTime publishAt) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addToWheel(postId, publishAt);
+                }
+            });
+        } else {
+            addToWheel(postId, publishAt);
+        }
+    }
+
+    /** Publishes a draft or scheduled post immediately; returns false if it was already published. */
+    public boolean publishNow(Long postId) {
+        List<Long> published = jdbcTemplate.queryForList("UPDATE posts SET status = 'PUBLISHED', publish_at = ?, "
+                + "created_at = ?, updated_at = ? WHERE id = ? AND status IN ('DRAFT', 'SCHEDULED') RETURNING id",
+                Long.class, now(), now(), now(), postId);
+        afterPublish(published);
+        return !published.isEmpty();
+    }
+
+    private void addToWheel(Long postId, LocalDateTime publishAt) {
+        synchronized (this) {
+            // Later publish times are picked up when their window is loaded.
+            if (publishAt.isBefore(loadedUntil)) {
+                wheel.add(postId, publishAt.atZone(zone).toInstant().toEpochMilli());
+            }
+        }
+    }
+
+    private void loadWindow() {
+        LocalDateTime from;
+        LocalDateTime until = LocalDateTime.now().plusHours(windowHours);
+        synchronized (this) {
+            from = loadedUntil;
+            // Advance first so posts scheduled while the query runs go straight into the wheel.
+            loadedUntil = until;
+        }
+        try {
+            LocalDateTime afterPublishAt = from;
+            long afterId = 0;
+            int loaded = 0;
+            while (true) {
+                List<PostRepository.ScheduledPost> batch = postRepository.findScheduledBefore(until, afterPublishAt,
+                        afterId, PageRequest.of(0, loadBatchSize));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                synchronized (this) {
+                    for (PostRepository.ScheduledPost post : batch) {
+                        wheel.add(post.getId(), post.getPublishAt().atZone(zone).toInstant().toEpochMilli());
+                    }
+                }
+                PostRepository.ScheduledPost last = batch.get(batch.size() - 1);
+                afterPublishAt = last.getPublishAt();
+                afterId = last.getId();
+                loaded += batch.size();
+            }
+            log.info("Loaded {} scheduled posts due before {}", loaded, until);
+            loadFailures = 0;
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                // Posts scheduled meanwhile are either already in the wheel or inside the range loaded again.
+                loadedUntil = from;
+            }
+            long delay = Math.min(RETRY_DELAY_MS << Math.min(loadFailures++, 6), MAX_LOAD_RETRY_DELAY_MS);
+            log.warn("Failed to load scheduled posts, retrying in {} ms", delay, e);
+            ticker.schedule(this::loadWindow, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void tick() {
+        List<Long> due = new ArrayList<>();
+        synchronized (this) {
+            wheel.advanceTo(System.currentTimeMillis(), due::add);
+        }
+        for (int from = 0; from < due.size(); from += PUBLISH_BATCH) {
+            List<Long> batch = due.subList(from, Math.min(from + PUBLISH_BATCH, due.size()));
+            try {
+                publishDue(batch);
+            } catch (RuntimeException e) {
+                log.warn("Failed to publish {} scheduled posts, retrying", batch.size(), e);
+                synchronized (this) {
+                    long retryAt = System.currentTimeMillis() + RETRY_DELAY_MS;
+                    batch.forEach(id -> wheel.add(id, retryAt));
+                }
+            }
+        }
+    }
+
+    private void publishDue(List<Long> postIds) {
+        // publish_at is rechecked so a post rescheduled to later is not published by its old entry.
+        String placeholders = String.join(", ", Collections.nCopies(postIds.size(), "?"));
+        List<Object> args = new ArrayList<>();
+        args.add(now());
+        args.addAll(postIds);
+        args.add(now());
+        List<Long> published = jdbcTemplate.queryForList("UPDATE posts SET status = 'PUBLISHED', "
+                + "created_at = publish_at, updated_at = ? WHERE id IN (" + placeholders + ") "
+                + "AND status = 'SCHEDULED' AND publish_at <= ? RETURNING id", Long.class, args.toArray());
+        afterPublish(published);
+    }
+
+    private void afterPublish(List<Long> publishedIds) {
+        for (Long id : publishedIds) {
+            postCache.invalidate(id);
+            postRepository.findById(id).ifPresent(post -> {
+                searchService.onPostSaved(post);
+                feedService.onPostCreated(post);
+            });
+        }
+    }
+
+    private Timestamp now() {
+        return Timestamp.from(Instant.now());
+    }
+}
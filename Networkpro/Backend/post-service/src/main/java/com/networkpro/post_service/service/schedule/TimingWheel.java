@@ -0,0 +1,119 @@
+package com.networkpro.post_service.service.schedule;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel. Level 0 has {@code slots} buckets of one tick each; every level
+ * above covers {@code slots} times the span of the one below. An item is placed in the lowest
+ * level whose span reaches its deadline and cascades down a level each time its bucket comes
+ * round, so adding is O(1) and each item moves at most {@code levels} times before it fires.
+ * Items fire on the first tick at or after their deadline. Not thread-safe.
+ */
+public class TimingWheel<T> {
+    private final long tickMs;
+    private final int slots;
+    private final long[] ticksPerBucket;
+    private final ArrayDeque<Entry<T>>[][] buckets;
+    private final List<T> due = new ArrayList<>();
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMs, int slots, int levels, long startMs) {
+        this.tickMs = tickMs;
+        this.slots = slots;
+        this.ticksPerBucket = new long[levels];
+        this.buckets = new ArrayDeque[levels][slots];
+        long ticks = 1;
+        for (int level = 0; level < levels; level++) {
+            ticksPerBucket[level] = ticks;
+            ticks = Math.multiplyExact(ticks, slots);
+            for (int slot = 0; slot < slots; slot++) {
+                buckets[level][slot] = new ArrayDeque<>();
+            }
+        }
+        this.currentTick = Math.floorDiv(startMs, tickMs);
+    }
+
+    /** How far ahead of the current time a deadline may be. */
+    public long spanMs() {
+        return ticksPerBucket[ticksPerBucket.length - 1] * slots * tickMs;
+    }
+
+    public int size() {
+        return size + due.size();
+    }
+
+    /** Adds an item; one whose deadline has already passed fires on the next advance. */
+    public void add(T item, long deadlineMs) {
+        place(new Entry<>(item, Math.ceilDiv(deadlineMs, tickMs)));
+    }
+
+    /** Moves time forward to {@code nowMs}, handing every item whose deadline has passed to {@code expired}. */
+    public void advanceTo(long nowMs, Consumer<T> expired) {
+        long targetTick = Math.floorDiv(nowMs, tickMs);
+        drainDue(expired);
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = ticksPerBucket.length - 1; level >= 1; level--) {
+                if (currentTick % ticksPerBucket[level] == 0) {
+                    ArrayDeque<Entry<T>> bucket = buckets[level][slotOf(level, currentTick)];
+                    Entry<T> entry;
+                    while ((entry = bucket.poll()) != null) {
+                        size--;
+                        place(entry);
+                    }
+                }
+            }
+            ArrayDeque<Entry<T>> bucket = buckets[0][slotOf(0, currentTick)];
+            Entry<T> entry;
+            while ((entry = bucket.poll()) != null) {
+                size--;
+                due.add(entry.item);
+            }
+            drainDue(expired);
+        }
+    }
+
+    private void place(Entry<T> entry) {
+        long delta = entry.deadlineTick - currentTick;
+        if (delta <= 0) {
+            due.add(entry.item);
+            return;
+        }
+        for (int level = 0; level < ticksPerBucket.length; level++) {
+            if (delta < ticksPerBucket[level] * slots) {
+                buckets[level][slotOf(level, entry.deadlineTick)].add(entry);
+                size++;
+                return;
+            }
+        }
+        throw new IllegalArgumentException("Deadline is beyond the span of the timing wheel");
+    }
+
+    private int slotOf(int level, long tick) {
+        return (int) ((tick / ticksPerBucket[level]) % slots);
+    }
+
+    private void drainDue(Consumer<T> expired) {
+        if (due.isEmpty()) {
+            return;
+        }
+        List<T> fired = new ArrayList<>(due);
+        due.clear();
+        fired.forEach(expired);
+    }
+
+    private static final class Entry<T> {
+        private final T item;
+        private final long deadlineTick;
+
+        private Entry(T item, long deadlineTick) {
+            this.item = item;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
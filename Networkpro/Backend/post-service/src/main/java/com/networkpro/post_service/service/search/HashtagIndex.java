@@ -0,0 +1,85 @@
+package com.networkpro.post_service.service.search;
+
+import com.networkpro.post_service.model.TagType;
+import com.networkpro.post_service.repository.PostTagRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sorted in-memory map of hashtag to usage count for autocomplete. Built with one grouped
+ * query at start-up and kept current as posts are tagged and untagged. A prefix lookup walks
+ * the matching key range and keeps the most used tags in a small heap; the top
+ * {@link #MAX_SUGGESTIONS} for each prefix are then cached for a few seconds, so a short,
+ * popular prefix costs one range walk per TTL rather than one per keystroke.
+ */
+@Component
+public class HashtagIndex {
+    public static final int MAX_SUGGESTIONS = 20;
+
+    private final ConcurrentSkipListMap<String, AtomicLong> uses = new ConcurrentSkipListMap<>();
+
+    @Autowired
+    private PostTagRepository tagRepository;
+
+    @Value("${post.hashtags.suggest-cache-ttl-seconds:30}")
+    private long suggestCacheTtlSeconds;
+
+    @Value("${post.hashtags.suggest-cache-size:10000}")
+    private long suggestCacheSize;
+
+    private Cache<String, List<Map.Entry<String, Long>>> topByPrefix;
+
+    @PostConstruct
+    public void load() {
+        topByPrefix = Caffeine.newBuilder()
+                .maximumSize(suggestCacheSize)
+                .expireAfterWrite(Duration.ofSeconds(suggestCacheTtlSeconds))
+                .build();
+        for (PostTagRepository.TagCount count : tagRepository.countByTag(TagType.HASHTAG)) {
+            uses.put(count.getTag(), new AtomicLong(count.getUses()));
+        }
+    }
+
+    public void added(Collection<String> tags) {
+        tags.forEach(tag -> uses.computeIfAbsent(tag, t -> new AtomicLong()).incrementAndGet());
+    }
+
+    public void removed(Collection<String> tags) {
+        for (String tag : tags) {
+            uses.computeIfPresent(tag, (t, count) -> count.decrementAndGet() <= 0 ? null : count);
+        }
+    }
+
+    public List<Map.Entry<String, Long>> suggest(String prefix, int limit) {
+        List<Map.Entry<String, Long>> top = topByPrefix.get(prefix, this::topForPrefix);
+        return top.size() <= limit ? top : top.subList(0, limit);
+    }
+
+    private List<Map.Entry<String, Long>> topForPrefix(String prefix) {
+        PriorityQueue<Map.Entry<String, Long>> best = new PriorityQueue<>(Map.Entry.comparingByValue());
+        for (Map.Entry<String, AtomicLong> entry : uses.subMap(prefix, prefix + Character.MAX_VALUE).entrySet()) {
+            best.add(Map.entry(entry.getKey(), entry.getValue().get()));
+            if (best.size() > MAX_SUGGESTIONS) {
+                best.poll();
+            }
+        }
+        List<Map.Entry<String, Long>> suggestions = new ArrayList<>(best);
+        suggestions.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+        return List.copyOf(suggestions);
+    }
+}
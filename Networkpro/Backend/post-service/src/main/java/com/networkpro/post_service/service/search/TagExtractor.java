@@ -0,0 +1,53 @@
+package com.networkpro.post_service.service.search;
+
+import com.networkpro.post_service.model.TagType;
+
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/** Pulls #hashtags and @mentions out of post text, lower-cased and de-duplicated. */
+public final class TagExtractor {
+    private static final Pattern HASHTAG = Pattern.compile("(?<![\\p{L}\\p{N}_#])#(\\p{L}[\\p{L}\\p{N}_]{0,63})");
+    private static final Pattern MENTION = Pattern.compile("(?<![\\p{L}\\p{N}_@])@([\\p{L}\\p{N}_][\\p{L}\\p{N}_.]{0,63})");
+
+    private TagExtractor() {
+    }
+
+    public static Map<TagType, Set<String>> extract(String... texts) {
+        Map<TagType, Set<String>> tags = new EnumMap<>(TagType.class);
+        tags.put(TagType.HASHTAG, new LinkedHashSet<>());
+        tags.put(TagType.MENTION, new LinkedHashSet<>());
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            collect(HASHTAG.matcher(text), tags.get(TagType.HASHTAG));
+            collect(MENTION.matcher(text), tags.get(TagType.MENTION));
+        }
+        return tags;
+    }
+
+    public static String normalize(String tag) {
+        String trimmed = tag.trim();
+        if (trimmed.startsWith("#") || trimmed.startsWith("@")) {
+            trimmed = trimmed.substring(1);
+        }
+        return trimmed.toLowerCase(Locale.ROOT);
+    }
+
+    private static void collect(Matcher matcher, Set<String> into) {
+        while (matcher.find()) {
+            String tag = matcher.group(1).toLowerCase(Locale.ROOT);
+            // A trailing dot is sentence punctuation, not part of a handle.
+            while (tag.endsWith(".")) {
+                tag = tag.substring(0, tag.length() - 1);
+            }
+            into.add(tag);
+        }
+    }
+}
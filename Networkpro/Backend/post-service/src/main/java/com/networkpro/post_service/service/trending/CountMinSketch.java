@@ -0,0 +1,88 @@
+package com.networkpro.post_service.service.trending;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Count-min sketch over non-negative double amounts with conservative update. Estimates never
+ * undercount; overcounts are bounded by roughly {@code total / width} with high probability.
+ */
+public class CountMinSketch {
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+            0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x94D049BB133111EBL, 0xBF58476D1CE4E5B9L
+    };
+
+    private final int depth;
+    private final int width;
+    private final double[][] cells;
+
+    public CountMinSketch(int depth, int width) {
+        if (depth < 1 || depth > SEEDS.length || width < 1) {
+            throw new IllegalArgumentException("Sketch depth must be 1-" + SEEDS.length + " and width positive");
+        }
+        this.depth = depth;
+        this.width = width;
+        this.cells = new double[depth][width];
+    }
+
+    /** Adds {@code amount} to {@code key} and returns the new estimate. */
+    public double add(long key, double amount) {
+        double updated = estimate(key) + amount;
+        for (int row = 0; row < depth; row++) {
+            int index = index(row, key);
+            if (cells[row][index] < updated) {
+                cells[row][index] = updated;
+            }
+        }
+        return updated;
+    }
+
+    public double estimate(long key) {
+        double min = Double.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, cells[row][index(row, key)]);
+        }
+        return min;
+    }
+
+    public void scale(double factor) {
+        for (double[] row : cells) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] *= factor;
+            }
+        }
+    }
+
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(depth);
+        out.writeInt(width);
+        for (double[] row : cells) {
+            for (double cell : row) {
+                out.writeDouble(cell);
+            }
+        }
+    }
+
+    /** Replaces the contents with a sketch written by {@link #writeTo}; returns false if the dimensions differ. */
+    public boolean readFrom(DataInput in) throws IOException {
+        if (in.readInt() != depth || in.readInt() != width) {
+            return false;
+        }
+        for (double[] row : cells) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = in.readDouble();
+            }
+        }
+        return true;
+    }
+
+    private int index(int row, long key) {
+        long h = key ^ SEEDS[row];
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return (int) Math.floorMod(h, (long) width);
+    }
+}
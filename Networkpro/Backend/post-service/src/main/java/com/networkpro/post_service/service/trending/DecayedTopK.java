@@ -0,0 +1,127 @@
+package com.networkpro.post_service.service.trending;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * The {@code capacity} highest-scoring posts, kept in a score-ordered set with a hash index by
+ * post id. Every amount is also added to a count-min sketch so a post outside the top K is
+ * admitted with an estimate of everything it has accumulated, not just its latest event.
+ * Not thread-safe.
+ */
+public class DecayedTopK {
+    private static final Comparator<Entry> HIGHEST_FIRST = Comparator.comparingDouble(Entry::getScore).reversed()
+            .thenComparingLong(Entry::getPostId);
+
+    private final int capacity;
+    private final CountMinSketch tail;
+    private final Map<Long, Entry> index = new HashMap<>();
+    private final TreeSet<Entry> ranked = new TreeSet<>(HIGHEST_FIRST);
+
+    public DecayedTopK(int capacity, CountMinSketch tail) {
+        this.capacity = capacity;
+        this.tail = tail;
+    }
+
+    public void add(long postId, double amount) {
+        double estimate = tail.add(postId, amount);
+        Entry current = index.get(postId);
+        if (current != null) {
+            ranked.remove(current);
+            put(new Entry(postId, current.score + amount));
+            return;
+        }
+        if (ranked.size() < capacity) {
+            put(new Entry(postId, estimate));
+        } else if (estimate > ranked.last().score) {
+            Entry evicted = ranked.pollLast();
+            index.remove(evicted.postId);
+            put(new Entry(postId, estimate));
+        }
+    }
+
+    public void remove(long postId) {
+        Entry entry = index.remove(postId);
+        if (entry != null) {
+            ranked.remove(entry);
+        }
+    }
+
+    public List<Entry> top(int n) {
+        List<Entry> top = new ArrayList<>(Math.min(n, ranked.size()));
+        Iterator<Entry> it = ranked.iterator();
+        while (it.hasNext() && top.size() < n) {
+            top.add(it.next());
+        }
+        return top;
+    }
+
+    /** Multiplies every score by {@code factor}; relative order is unchanged. */
+    public void scale(double factor) {
+        List<Entry> scaled = new ArrayList<>(ranked.size());
+        for (Entry entry : ranked) {
+            scaled.add(new Entry(entry.postId, entry.score * factor));
+        }
+        ranked.clear();
+        index.clear();
+        scaled.forEach(this::put);
+        tail.scale(factor);
+    }
+
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(ranked.size());
+        for (Entry entry : ranked) {
+            out.writeLong(entry.postId);
+            out.writeDouble(entry.score);
+        }
+        tail.writeTo(out);
+    }
+
+    /**
+     * Replaces the contents with a state written by {@link #writeTo}; returns false if the tail
+     * sketch had different dimensions, in which case the sketch is left empty.
+     */
+    public boolean readFrom(DataInput in) throws IOException {
+        ranked.clear();
+        index.clear();
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            Entry entry = new Entry(in.readLong(), in.readDouble());
+            if (i < capacity) {
+                put(entry);
+            }
+        }
+        return tail.readFrom(in);
+    }
+
+    private void put(Entry entry) {
+        index.put(entry.postId, entry);
+        ranked.add(entry);
+    }
+
+    public static final class Entry {
+        private final long postId;
+        private final double score;
+
+        private Entry(long postId, double score) {
+            this.postId = postId;
+            this.score = score;
+        }
+
+        public long getPostId() {
+            return postId;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+}
@@ -3,18 +3,23 @@ package com.networkpro.user_service.controller;
 import com.networkpro.user_service.dto.user.UserProfileDto;
 import com.networkpro.user_service.dto.user.UserProfileSearchDto;
 import com.networkpro.user_service.dto.user.UserProfileUpdateDto;
+import com.networkpro.user_service.dto.user.UserSkillsDto;
+import com.networkpro.user_service.dto.user.UserSummaryDto;
+import com.networkpro.user_service.dto.user.UserSummaryRequestDto;
 import com.networkpro.user_service.dto.profile.ProfileCompletionDto;
 import com.networkpro.user_service.dto.privacy.PrivacySettingsDto;
 import com.networkpro.user_service.mapper.UserProfileMapper;
 import com.networkpro.user_service.model.UserProfile;
 import com.networkpro.user_service.service.user.UserProfileService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -80,6 +85,22 @@ public class UserProfileController {
         return ResponseEntity.ok(dtos);
     }
 
+    @PostMapping("/summaries")
+    public ResponseEntity<List<UserSummaryDto>> getUserSummaries(@RequestBody UserSummaryRequestDto request) {
+        if (request.getFullNames() != null && !request.getFullNames().isEmpty()) {
+            return ResponseEntity.ok(userProfileService.getUserSummariesByFullName(request.getFullNames()));
+        }
+        return ResponseEntity.ok(userProfileService.getUserSummaries(request.getIds()));
+    }
+
+    @GetMapping("/skills/changes")
+    public ResponseEntity<List<UserSkillsDto>> getSkillChanges(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime after,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "500") int limit) {
+        return ResponseEntity.ok(userProfileService.getSkillChanges(after, afterId, limit));
+    }
+
     @GetMapping("/search/skills")
     public ResponseEntity<List<UserProfileDto>> getUsersBySkills(@RequestParam List<String> skills) {
         List<UserProfile> results = userProfileService.findUsersBySkills(skills);
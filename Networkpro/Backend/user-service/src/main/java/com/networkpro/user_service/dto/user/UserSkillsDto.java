@@ -0,0 +1,19 @@
+package com.networkpro.user_service.dto.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSkillsDto {
+    private Long userId;
+    private List<String> skills; // empty when the user's skills are not public
+    private LocalDateTime updatedAt;
+}
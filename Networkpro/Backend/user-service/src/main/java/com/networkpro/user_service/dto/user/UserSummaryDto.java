@@ -0,0 +1,17 @@
+package com.networkpro.user_service.dto.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSummaryDto {
+    private Long id;
+    private String fullName;
+    private String headline;
+    private String profilePictureUrl;
+}
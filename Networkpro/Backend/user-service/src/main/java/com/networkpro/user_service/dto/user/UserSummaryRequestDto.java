@@ -0,0 +1,17 @@
+package com.networkpro.user_service.dto.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSummaryRequestDto {
+    private List<Long> ids;
+    private List<String> fullNames;
+}
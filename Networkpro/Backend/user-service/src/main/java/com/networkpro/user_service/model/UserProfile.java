@@ -7,6 +7,8 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+// Backs UserProfileRepository.findChangedAfter, which pages by (profileUpdatedAt, id)
+@Table(indexes = @Index(name = "idx_user_profile_updated", columnList = "profileUpdatedAt, id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
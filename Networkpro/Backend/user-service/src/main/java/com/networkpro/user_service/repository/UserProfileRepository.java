@@ -1,11 +1,15 @@
 package com.networkpro.user_service.repository;
 
+import com.networkpro.user_service.dto.user.UserSummaryDto;
 import com.networkpro.user_service.model.UserProfile;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -17,6 +21,25 @@ public interface UserProfileRepository extends JpaRepository<UserProfile, Long>
     // Find users by full name (case-insensitive)
     List<UserProfile> findByFullNameContainingIgnoreCase(String fullName);
 
+    // Summary columns only, so bulk lookups do not load the eager skills collection
+    @Query("SELECT new com.networkpro.user_service.dto.user.UserSummaryDto(u.id, u.fullName, u.headline, " +
+            "u.profilePictureUrl) FROM UserProfile u WHERE u.id IN :ids")
+    List<UserSummaryDto> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.networkpro.user_service.dto.user.UserSummaryDto(u.id, u.fullName, u.headline, " +
+            "u.profilePictureUrl) FROM UserProfile u WHERE u.fullName IN :fullNames")
+    List<UserSummaryDto> findSummariesByFullNameIn(@Param("fullNames") Collection<String> fullNames);
+
+    // Profiles changed after a (profileUpdatedAt, id) position, for incremental skill exports
+    @Query("SELECT u.id AS id, u.profileUpdatedAt AS updatedAt, u.skillsPublic AS skillsPublic FROM UserProfile u " +
+            "WHERE u.profileUpdatedAt > :after OR (u.profileUpdatedAt = :after AND u.id > :afterId) " +
+            "ORDER BY u.profileUpdatedAt, u.id")
+    List<ProfileChange> findChangedAfter(@Param("after") LocalDateTime after, @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    @Query("SELECT u.id AS userId, s AS skill FROM UserProfile u JOIN u.skills s WHERE u.id IN :ids")
+    List<UserSkill> findSkillsByUserIdIn(@Param("ids") Collection<Long> ids);
+
     // Find users by location
     List<UserProfile> findByLocationContainingIgnoreCase(String location);
 
@@ -52,4 +75,18 @@ public interface UserProfileRepository extends JpaRepository<UserProfile, Long>
             @Param("location") String location,
             @Param("company") String company,
             @Param("industry") String industry);
+
+    interface ProfileChange {
+        Long getId();
+
+        LocalDateTime getUpdatedAt();
+
+        boolean isSkillsPublic();
+    }
+
+    interface UserSkill {
+        Long getUserId();
+
+        String getSkill();
+    }
 }
\ No newline at end of file
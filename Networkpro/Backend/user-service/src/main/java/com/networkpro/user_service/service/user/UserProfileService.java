@@ -1,13 +1,20 @@
 package com.networkpro.user_service.service.user;
 
+import com.networkpro.user_service.dto.user.UserSkillsDto;
+import com.networkpro.user_service.dto.user.UserSummaryDto;
 import com.networkpro.user_service.model.UserProfile;
 import com.networkpro.user_service.repository.UserProfileRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -17,6 +24,8 @@ import java.util.Set;
 @Transactional
 public class UserProfileService {
 
+    private static final int MAX_SUMMARY_BATCH = 1000;
+
     private final UserProfileRepository userProfileRepository;
 
     // Create new user profile
@@ -62,6 +71,56 @@ public class UserProfileService {
                 .orElseThrow(() -> new RuntimeException("User profile not found with ID: " + id));
     }
 
+    // Bulk lookup of profile summaries for other services
+    @Transactional(readOnly = true)
+    public List<UserSummaryDto> getUserSummaries(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        if (ids.size() > MAX_SUMMARY_BATCH) {
+            throw new IllegalArgumentException("At most " + MAX_SUMMARY_BATCH + " ids per request");
+        }
+        return userProfileRepository.findSummariesByIdIn(ids);
+    }
+
+    // Bulk lookup of profile summaries by exact full name
+    @Transactional(readOnly = true)
+    public List<UserSummaryDto> getUserSummariesByFullName(List<String> fullNames) {
+        if (fullNames == null || fullNames.isEmpty()) {
+            return List.of();
+        }
+        if (fullNames.size() > MAX_SUMMARY_BATCH) {
+            throw new IllegalArgumentException("At most " + MAX_SUMMARY_BATCH + " names per request");
+        }
+        return userProfileRepository.findSummariesByFullNameIn(fullNames);
+    }
+
+    // Skills of profiles changed after the given position, oldest change first; a full export starts at the epoch
+    @Transactional(readOnly = true)
+    public List<UserSkillsDto> getSkillChanges(LocalDateTime after, Long afterId, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_SUMMARY_BATCH));
+        List<UserProfileRepository.ProfileChange> changes = userProfileRepository.findChangedAfter(
+                after != null ? after : LocalDateTime.of(1970, 1, 1, 0, 0), afterId != null ? afterId : 0L,
+                PageRequest.of(0, pageSize));
+        List<Long> publicIds = changes.stream()
+                .filter(UserProfileRepository.ProfileChange::isSkillsPublic)
+                .map(UserProfileRepository.ProfileChange::getId)
+                .toList();
+        Map<Long, List<String>> skillsByUser = new HashMap<>();
+        if (!publicIds.isEmpty()) {
+            for (UserProfileRepository.UserSkill row : userProfileRepository.findSkillsByUserIdIn(publicIds)) {
+                skillsByUser.computeIfAbsent(row.getUserId(), id -> new ArrayList<>()).add(row.getSkill());
+            }
+        }
+        return changes.stream()
+                .map(change -> UserSkillsDto.builder()
+                        .userId(change.getId())
+                        .skills(skillsByUser.getOrDefault(change.getId(), List.of()))
+                        .updatedAt(change.getUpdatedAt())
+                        .build())
+                .toList();
+    }
+
     // Delete user profile
     public void deleteUserProfile(Long id) {
         log.info("Deleting user profile with ID: {}", id);
@@ -117,6 +176,7 @@ public class UserProfileService {
         return userProfileRepository.findById(userId)
                 .map(profile -> {
                     profile.getSkills().add(skill);
+                    profile.setProfileUpdatedAt(LocalDateTime.now());
                     return userProfileRepository.save(profile);
                 })
                 .orElseThrow(() -> new RuntimeException("User profile not found with ID: " + userId));
@@ -128,6 +188,7 @@ public class UserProfileService {
         return userProfileRepository.findById(userId)
                 .map(profile -> {
                     profile.getSkills().remove(skill);
+                    profile.setProfileUpdatedAt(LocalDateTime.now());
                     return userProfileRepository.save(profile);
                 })
                 .orElseThrow(() -> new RuntimeException("User profile not found with ID: " + userId));
@@ -139,6 +200,7 @@ public class UserProfileService {
         return userProfileRepository.findById(userId)
                 .map(profile -> {
                     profile.setSkills(skills);
+                    profile.setProfileUpdatedAt(LocalDateTime.now());
                     return userProfileRepository.save(profile);
                 })
                 .orElseThrow(() -> new RuntimeException("User profile not found with ID: " + userId));